@@ -0,0 +1,319 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only BIC directory for agent enrichment (name, address, LEI, country).
+ *
+ * The directory is built offline from a delimited text file into a compact
+ * index file and memory-mapped at runtime, so opening it is near instant and
+ * the rows never live on the heap. BICs are packed into a base-36 long
+ * (BIC8 is padded with XXX), the sorted key array is binary searched in the
+ * mapping and only the requested field of the hit is decoded.
+ *
+ * File layout:
+ * <pre>
+ * int magic, int version, int count, int dataOffset
+ * long[count] keys (sorted)
+ * int[count]  record offsets, relative to dataOffset
+ * records:    4 x (unsigned short length + UTF-8 bytes): name, address, LEI, country
+ * </pre>
+ */
+public class BicDirectory {
+
+	public static final int NAME = 0;
+	public static final int ADDRESS = 1;
+	public static final int LEI = 2;
+	public static final int COUNTRY = 3;
+
+	private static final int MAGIC = 0x42494344; // "BICD"
+	private static final int VERSION = 1;
+	private static final int HEADER = 16;
+	private static final int FIELDS = 4;
+
+	private static final Map<Path, BicDirectory> OPEN = new ConcurrentHashMap<>();
+	private static volatile BicDirectory defaultDirectory;
+
+	private final MappedByteBuffer map;
+	private final int count;
+	private final int keysAt;
+	private final int offsetsAt;
+	private final int dataAt;
+
+	private BicDirectory(MappedByteBuffer map) {
+		this.map = map;
+		if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION) {
+			throw new IllegalArgumentException("Not a BIC directory index");
+		}
+		this.count = map.getInt(8);
+		this.dataAt = map.getInt(12);
+		this.keysAt = HEADER;
+		this.offsetsAt = HEADER + count * 8;
+	}
+
+	/* ======== Opening ======== */
+
+	/** Maps the index file; instances are cached per path and thread safe. */
+	public static BicDirectory open(Path index) throws IOException {
+		Path key = index.toAbsolutePath().normalize();
+		BicDirectory d = OPEN.get(key);
+		if (d != null) {
+			return d;
+		}
+		try (FileChannel ch = FileChannel.open(key, StandardOpenOption.READ)) {
+			d = new BicDirectory(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+		}
+		BicDirectory prev = OPEN.putIfAbsent(key, d);
+		return prev != null ? prev : d;
+	}
+
+	/** Directory used by the lookupBic transform when the rule names none. */
+	public static void setDefault(BicDirectory directory) {
+		defaultDirectory = directory;
+	}
+
+	public static BicDirectory getDefault() {
+		return defaultDirectory;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	/* ======== Lookup ======== */
+
+	/**
+	 * One field of the directory row for the BIC, or null when the BIC is not
+	 * listed. An unknown branch BIC11 falls back to its head office (XXX).
+	 */
+	public String lookup(String bic, int field) {
+		int row = find(bic);
+		return row < 0 ? null : readField(row, field);
+	}
+
+	public boolean contains(String bic) {
+		return find(bic) >= 0;
+	}
+
+	private int find(String bic) {
+		long key = encode(bic);
+		if (key < 0) {
+			return -1;
+		}
+		int row = search(key);
+		if (row < 0 && bic.length() == 11 && !bic.endsWith("XXX")) {
+			row = search(encode(bic.substring(0, 8)));
+		}
+		return row;
+	}
+
+	private int search(long key) {
+		int lo = 0;
+		int hi = count - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			long k = map.getLong(keysAt + mid * 8);
+			if (k < key) {
+				lo = mid + 1;
+			} else if (k > key) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	private String readField(int row, int field) {
+		int at = dataAt + map.getInt(offsetsAt + row * 4);
+		for (int i = 0; i < field; i++) {
+			at += 2 + (map.getShort(at) & 0xFFFF);
+		}
+		int len = map.getShort(at) & 0xFFFF;
+		if (len == 0) {
+			return null;
+		}
+		byte[] b = new byte[len];
+		ByteBuffer view = map.duplicate(); // absolute reads only, safe to share the mapping
+		view.position(at + 2);
+		view.get(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	/** Base-36 packing of a BIC8/BIC11, -1 when it is not a well formed BIC. */
+	static long encode(String bic) {
+		if (bic == null) {
+			return -1;
+		}
+		int len = bic.length();
+		if (len != 8 && len != 11) {
+			return -1;
+		}
+		long key = 0;
+		for (int i = 0; i < 11; i++) {
+			char c = i < len ? bic.charAt(i) : 'X';
+			int d;
+			if (c >= '0' && c <= '9') {
+				d = c - '0';
+			} else if (c >= 'A' && c <= 'Z') {
+				d = c - 'A' + 10;
+			} else {
+				return -1;
+			}
+			key = key * 36 + d;
+		}
+		return key;
+	}
+
+	/* ======== Offline index build ======== */
+
+	/**
+	 * Builds the index from a text file with one row per BIC:
+	 * {@code BIC<sep>name<sep>address<sep>LEI<sep>country}. Rows with an invalid
+	 * BIC (e.g. a header line) are skipped, for duplicates the first row wins.
+	 * Row data is streamed to a temporary file, only keys and offsets (12 bytes
+	 * per row) are held in memory while sorting.
+	 */
+	public static int build(Path source, char separator, Path index) throws IOException {
+		Path data = Files.createTempFile(index.toAbsolutePath().getParent(), "bicdir", ".tmp");
+		long[] keys = new long[1 << 16];
+		int[] offsets = new int[1 << 16];
+		int rows = 0;
+		try {
+			try (BufferedReader in = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(data)))) {
+				String line;
+				String sep = String.valueOf(separator);
+				while ((line = in.readLine()) != null) {
+					String[] cols = line.split(java.util.regex.Pattern.quote(sep), -1);
+					long key = encode(cols[0].trim());
+					if (key < 0) {
+						continue;
+					}
+					if (rows == keys.length) {
+						keys = Arrays.copyOf(keys, rows << 1);
+						offsets = Arrays.copyOf(offsets, rows << 1);
+					}
+					keys[rows] = key;
+					offsets[rows] = out.size();
+					rows++;
+					for (int f = 0; f < FIELDS; f++) {
+						byte[] b = f + 1 < cols.length ? cols[f + 1].trim().getBytes(StandardCharsets.UTF_8) : new byte[0];
+						int len = Math.min(b.length, 0xFFFF);
+						out.writeShort(len);
+						out.write(b, 0, len);
+					}
+				}
+			}
+
+			sort(keys, offsets, 0, rows - 1);
+			int unique = 0;
+			for (int i = 0; i < rows; i++) {
+				if (unique == 0 || keys[unique - 1] != keys[i]) {
+					keys[unique] = keys[i];
+					offsets[unique] = offsets[i];
+					unique++;
+				}
+			}
+
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(index)))) {
+				long dataOffset = HEADER + (long) unique * 12;
+				if (dataOffset + Files.size(data) > Integer.MAX_VALUE) {
+					throw new IOException("BIC directory index exceeds 2 GB");
+				}
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(unique);
+				out.writeInt((int) dataOffset);
+				for (int i = 0; i < unique; i++) {
+					out.writeLong(keys[i]);
+				}
+				for (int i = 0; i < unique; i++) {
+					out.writeInt(offsets[i]);
+				}
+				copy(data, out);
+			}
+			return unique;
+		} finally {
+			Files.deleteIfExists(data);
+		}
+	}
+
+	private static void copy(Path from, OutputStream to) throws IOException {
+		try (InputStream in = Files.newInputStream(from)) {
+			byte[] buf = new byte[1 << 16];
+			int n;
+			while ((n = in.read(buf)) > 0) {
+				to.write(buf, 0, n);
+			}
+		}
+	}
+
+	/**
+	 * Sorts by key, then by offset. Offsets grow with the source row, so the
+	 * first row of a duplicate key sorts first and survives the dedup.
+	 */
+	private static void sort(long[] keys, int[] offsets, int lo, int hi) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			long pivot = keys[mid];
+			int pivotOffset = offsets[mid];
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (keys[i] < pivot || keys[i] == pivot && offsets[i] < pivotOffset) {
+					i++;
+				}
+				while (keys[j] > pivot || keys[j] == pivot && offsets[j] > pivotOffset) {
+					j--;
+				}
+				if (i <= j) {
+					long k = keys[i];
+					keys[i] = keys[j];
+					keys[j] = k;
+					int o = offsets[i];
+					offsets[i] = offsets[j];
+					offsets[j] = o;
+					i++;
+					j--;
+				}
+			}
+			// recurse into the smaller half to bound stack depth
+			if (j - lo < hi - i) {
+				sort(keys, offsets, lo, j);
+				lo = i;
+			} else {
+				sort(keys, offsets, i, hi);
+				hi = j;
+			}
+		}
+	}
+
+	/* ======== CLI: build index offline ======== */
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.out.println("Usage: BicDirectory <source.txt> <index.bin> [separator, default |]");
+			return;
+		}
+		char sep = args.length > 2 ? args[2].charAt(0) : '|';
+		long start = System.nanoTime();
+		int rows = build(java.nio.file.Paths.get(args[0]), sep, java.nio.file.Paths.get(args[1]));
+		System.out.println("Indexed " + rows + " BICs in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+	}
+}
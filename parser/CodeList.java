@@ -0,0 +1,249 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable code translation table (e.g. 71A OUR -> ChrgBr DEBT) used by the
+ * codeList transform.
+ *
+ * Lists are plain text files, one {@code CODE=TRANSLATION} per line, '#' for
+ * comments. On load the codes are placed into a power-of-two table with a
+ * multiplier chosen so that no two codes share a slot (a perfect hash); a
+ * lookup is then one multiply, one shift and one equals on the cached String
+ * hash, without allocation. Lists too irregular for a perfect hash fall back
+ * to linear probing. Hits and misses are counted per list.
+ */
+public final class CodeList {
+
+	/** Directory searched for {@code <name>.txt} before the classpath (/codelists). */
+	private static volatile Path directory = Paths.get("resources", "codelists");
+
+	private static final Map<String, CodeList> LOADED = new ConcurrentHashMap<>();
+
+	private static final int[] MULTIPLIERS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1,
+			0xD3A2646C, 0xFD7046C5, 0xB55A4F09, 0x7FEB352D, 0x846CA68B, 0x68E31DA4, 0x1B873593 };
+
+	private final String name;
+	private final String[] keys;
+	private final String[] values;
+	private final int shift;
+	private final int multiplier;
+	private final boolean perfect;
+	private final int size;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private volatile CodeList inverse;
+
+	private CodeList(String name, String[] keys, String[] values, int shift, int multiplier, boolean perfect, int size) {
+		this.name = name;
+		this.keys = keys;
+		this.values = values;
+		this.shift = shift;
+		this.multiplier = multiplier;
+		this.perfect = perfect;
+		this.size = size;
+	}
+
+	/* ======== Loading ======== */
+
+	public static void setDirectory(Path dir) {
+		directory = dir;
+	}
+
+	/**
+	 * List by name, loaded once from {@code <directory>/<name>.txt} or the
+	 * classpath resource {@code /codelists/<name>.txt}.
+	 */
+	public static CodeList named(String name) {
+		return LOADED.computeIfAbsent(name, n -> {
+			Path file = directory.resolve(n + ".txt");
+			try {
+				if (Files.isRegularFile(file)) {
+					try (InputStream in = Files.newInputStream(file)) {
+						return of(n, read(in));
+					}
+				}
+				try (InputStream in = CodeList.class.getResourceAsStream("/codelists/" + n + ".txt")) {
+					if (in == null) {
+						throw new IllegalArgumentException("Code list not found: " + file.toAbsolutePath());
+					}
+					return of(n, read(in));
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("Cannot read code list " + n, e);
+			}
+		});
+	}
+
+	/** Compiles and registers a built-in list under the name, unless a list of that name is loaded. */
+	public static CodeList define(String name, Map<String, String> entries) {
+		return LOADED.computeIfAbsent(name, n -> of(n, entries));
+	}
+
+	/** List from an explicit file, cached by its path. */
+	public static CodeList load(Path file) {
+		String key = file.toAbsolutePath().normalize().toString();
+		return LOADED.computeIfAbsent(key, k -> {
+			try (InputStream in = Files.newInputStream(file)) {
+				return of(file.getFileName().toString(), read(in));
+			} catch (IOException e) {
+				throw new UncheckedIOException("Cannot read code list " + file, e);
+			}
+		});
+	}
+
+	/** All lists loaded so far, for hit/miss reporting. */
+	public static Collection<CodeList> loaded() {
+		return Collections.unmodifiableCollection(LOADED.values());
+	}
+
+	private static Map<String, String> read(InputStream in) throws IOException {
+		Map<String, String> entries = new LinkedHashMap<>();
+		BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = r.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			int eq = line.indexOf('=');
+			if (eq <= 0) {
+				throw new IllegalArgumentException("Code list line is not CODE=VALUE: " + line);
+			}
+			entries.putIfAbsent(line.substring(0, eq).trim(), line.substring(eq + 1).trim());
+		}
+		return entries;
+	}
+
+	/** Compiles the entries into a lookup table. */
+	public static CodeList of(String name, Map<String, String> entries) {
+		int n = entries.size();
+		String[] k = entries.keySet().toArray(new String[0]);
+		String[] v = entries.values().toArray(new String[0]);
+
+		int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, 2 * n - 1)));
+		for (int attempt = 0; attempt < 3 && bits < 31; attempt++, bits++) {
+			for (int m : MULTIPLIERS) {
+				String[] tk = new String[1 << bits];
+				String[] tv = new String[1 << bits];
+				if (place(k, v, tk, tv, m, 32 - bits, false)) {
+					return new CodeList(name, tk, tv, 32 - bits, m, true, n);
+				}
+			}
+		}
+		bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, 2 * n - 1)));
+		String[] tk = new String[1 << bits];
+		String[] tv = new String[1 << bits];
+		place(k, v, tk, tv, MULTIPLIERS[0], 32 - bits, true);
+		return new CodeList(name, tk, tv, 32 - bits, MULTIPLIERS[0], false, n);
+	}
+
+	private static boolean place(String[] k, String[] v, String[] tk, String[] tv, int m, int shift, boolean probe) {
+		int mask = tk.length - 1;
+		for (int i = 0; i < k.length; i++) {
+			int slot = (k[i].hashCode() * m) >>> shift;
+			while (tk[slot] != null) {
+				if (!probe) {
+					return false;
+				}
+				slot = (slot + 1) & mask;
+			}
+			tk[slot] = k[i];
+			tv[slot] = v[i];
+		}
+		return true;
+	}
+
+	/* ======== Lookup ======== */
+
+	/** Translation of the code, null when the list does not contain it. */
+	public String lookup(String code) {
+		int slot = (code.hashCode() * multiplier) >>> shift;
+		if (perfect) {
+			String k = keys[slot];
+			if (k != null && k.equals(code)) {
+				hits.increment();
+				return values[slot];
+			}
+		} else {
+			int mask = keys.length - 1;
+			String k;
+			while ((k = keys[slot]) != null) {
+				if (k.equals(code)) {
+					hits.increment();
+					return values[slot];
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**
+	 * The list read backwards (translation -> code) for the MX -> MT direction,
+	 * null when two codes share a translation.
+	 */
+	public CodeList inverse() {
+		CodeList inv = inverse;
+		if (inv == null) {
+			Map<String, String> back = new LinkedHashMap<>();
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != null && back.put(values[i], keys[i]) != null) {
+					return null;
+				}
+			}
+			inv = of(name + "^-1", back);
+			inverse = inv;
+		}
+		return inv;
+	}
+
+	/* ======== Stats ======== */
+
+	public String name() {
+		return name;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isPerfect() {
+		return perfect;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	/** One line per loaded list: name, size, table kind, hits, misses. */
+	public static List<String> report() {
+		List<String> lines = new ArrayList<>();
+		for (CodeList c : LOADED.values()) {
+			lines.add(String.format("%-40s size=%-5d %-7s hits=%-10d misses=%d", c.name, c.size,
+					c.perfect ? "perfect" : "probing", c.hits(), c.misses()));
+		}
+		return lines;
+	}
+}
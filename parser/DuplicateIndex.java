@@ -0,0 +1,463 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Idempotency stage run after parsing: remembers the UETR (b3.121) and a
+ * fingerprint of the business fields (sender, 20, 32A, 50a, 59a) of every
+ * message for a time window and reports a message whose UETR or fingerprint
+ * was already seen in it as a duplicate.
+ *
+ * The index is a memory-mapped file, so it lives off heap and survives
+ * restarts. It is a hash table of 16-slot buckets; a slot holds a 64-bit key
+ * hash and the time it was recorded, and a slot older than the window counts
+ * as free. When a bucket is full of live keys the oldest one is overwritten
+ * ({@link #forcedEvictions()}); size the index for the messages of one window
+ * to avoid that. A Bloom filter on the heap, in two generations rotated every
+ * window and rebuilt from the file on open, answers most first-seen keys
+ * without touching the mapping.
+ *
+ * File layout:
+ * <pre>
+ * int magic, int version, int buckets, int slotsPerBucket, long windowMillis, 40 bytes reserved
+ * buckets x 16 x (long key hash, long recorded at epoch millis)
+ * </pre>
+ *
+ * Thread safe; checks on different buckets do not contend.
+ */
+public class DuplicateIndex implements AutoCloseable {
+
+	public enum Match {
+		NONE, UETR, CONTENT
+	}
+
+	public static final String UETR_KEY = "b3.121.uetr";
+	private static final String[] DEFAULT_CONTENT_KEYS = { "b1.senderBic11", "b4.20", "b4.32A.date", "b4.32A.ccy",
+			"b4.32A.amount", "b4.50A.account", "b4.50A.bic", "b4.50F.partyId", "b4.50F.name", "b4.50K.account",
+			"b4.50K.name", "b4.59.account", "b4.59.name", "b4.59A.account", "b4.59A.name" };
+
+	private static final int MAGIC = 0x44555058; // "DUPX"
+	private static final int VERSION = 1;
+	private static final int HEADER = 64;
+	private static final int SLOTS = 16;
+	private static final int SLOT_BYTES = 16;
+	private static final int STRIPES = 256;
+	private static final long UETR_SEED = 0x9E3779B97F4A7C15L;
+	private static final long CONTENT_SEED = 0xC2B2AE3D27D4EB4FL;
+
+	private final MappedByteBuffer map;
+	private final int bucketMask;
+	private final long windowMillis;
+	private final String[] contentKeys;
+	private final LongSupplier clock;
+	private final Object[] locks = new Object[STRIPES];
+
+	private final int bloomMask; // in bits
+	private volatile AtomicLongArray bloom;
+	private volatile AtomicLongArray previousBloom;
+	private volatile long bloomStarted;
+
+	private final LongAdder checks = new LongAdder();
+	private final LongAdder uetrDuplicates = new LongAdder();
+	private final LongAdder contentDuplicates = new LongAdder();
+	private final LongAdder bloomNegatives = new LongAdder();
+	private final LongAdder forcedEvictions = new LongAdder();
+
+	DuplicateIndex(MappedByteBuffer map, int buckets, long windowMillis, String[] contentKeys, LongSupplier clock) {
+		this.map = map;
+		this.bucketMask = buckets - 1;
+		this.windowMillis = windowMillis;
+		this.contentKeys = contentKeys;
+		this.clock = clock;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		// 8 bits per slot, 32 per key at the intended load
+		this.bloomMask = buckets * SLOTS * 8 - 1;
+		this.bloom = new AtomicLongArray((bloomMask + 1) >>> 6);
+		this.previousBloom = new AtomicLongArray((bloomMask + 1) >>> 6);
+		this.bloomStarted = clock.getAsLong();
+		rebuildBloom();
+	}
+
+	/* ======== Opening ======== */
+
+	/** Opens or creates the index with the MT103 content fields. */
+	public static DuplicateIndex open(Path file, int messagesPerWindow, Duration window) throws IOException {
+		return open(file, messagesPerWindow, window, DEFAULT_CONTENT_KEYS);
+	}
+
+	/**
+	 * Opens the index file, creating it sized for {@code messagesPerWindow}
+	 * messages if it does not exist. An existing file keeps its entries; it
+	 * must have been created for the same size.
+	 *
+	 * @param contentKeys mtKeys whose values form the content fingerprint
+	 */
+	public static DuplicateIndex open(Path file, int messagesPerWindow, Duration window, String... contentKeys)
+			throws IOException {
+		return open(file, messagesPerWindow, window, contentKeys, System::currentTimeMillis);
+	}
+
+	static DuplicateIndex open(Path file, int messagesPerWindow, Duration window, String[] contentKeys,
+			LongSupplier clock) throws IOException {
+		// two keys per message and at most a quarter full, so a bucket practically never overflows
+		long slots = Math.max(SLOTS, Long.highestOneBit(Math.max(1, 8L * messagesPerWindow - 1)) << 1);
+		long size = HEADER + slots * SLOT_BYTES;
+		if (size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Index too large for one mapping: " + messagesPerWindow + " messages");
+		}
+		int buckets = (int) (slots / SLOTS);
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			boolean fresh = ch.size() == 0;
+			MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_WRITE, 0, fresh ? size : ch.size());
+			if (fresh) {
+				map.putInt(0, MAGIC);
+				map.putInt(4, VERSION);
+				map.putInt(8, buckets);
+				map.putInt(12, SLOTS);
+			} else if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION || map.getInt(12) != SLOTS) {
+				throw new IllegalArgumentException("Not a duplicate index: " + file);
+			} else if (map.getInt(8) != buckets) {
+				throw new IllegalArgumentException("Duplicate index " + file + " was created for a different size");
+			}
+			map.putLong(16, window.toMillis());
+			return new DuplicateIndex(map, buckets, window.toMillis(), contentKeys, clock);
+		}
+	}
+
+	/* ======== Checking ======== */
+
+	/** Whether the message was seen within the window, without recording it. */
+	public Match check(Map<String, String> fields) {
+		checks.increment();
+		long now = clock.getAsLong();
+		rotateBloom(now);
+		long uetr = uetrKey(fields);
+		if (uetr != 0 && find(uetr, now)) {
+			uetrDuplicates.increment();
+			return Match.UETR;
+		}
+		long content = contentKey(fields);
+		if (content != 0 && find(content, now)) {
+			contentDuplicates.increment();
+			return Match.CONTENT;
+		}
+		return Match.NONE;
+	}
+
+	/**
+	 * Records the message and returns NONE if it is new, otherwise what it
+	 * duplicates. A duplicate records neither key, its window runs from the
+	 * first sighting. Both keys are checked and recorded under their bucket
+	 * locks: of two threads recording the same UETR or content, exactly one
+	 * gets NONE.
+	 */
+	public Match checkAndRecord(Map<String, String> fields) {
+		checks.increment();
+		long now = clock.getAsLong();
+		rotateBloom(now);
+		long uetr = uetrKey(fields);
+		long content = contentKey(fields);
+		if (uetr == 0 && content == 0) {
+			return Match.NONE;
+		}
+		int a = stripe(uetr != 0 ? uetr : content);
+		int b = stripe(content != 0 ? content : uetr);
+		// fixed lock order; the same stripe twice just re-enters
+		synchronized (locks[Math.min(a, b)]) {
+			synchronized (locks[Math.max(a, b)]) {
+				if (uetr != 0 && contains(uetr, now)) {
+					uetrDuplicates.increment();
+					return Match.UETR;
+				}
+				if (content != 0 && contains(content, now)) {
+					contentDuplicates.increment();
+					return Match.CONTENT;
+				}
+				if (uetr != 0) {
+					insert(uetr, now);
+				}
+				if (content != 0) {
+					insert(content, now);
+				}
+				return Match.NONE;
+			}
+		}
+	}
+
+	/** Removes the message's keys, e.g. when it was recorded but then failed translation. */
+	public void forget(Map<String, String> fields) {
+		long uetr = uetrKey(fields);
+		if (uetr != 0) {
+			remove(uetr);
+		}
+		long content = contentKey(fields);
+		if (content != 0) {
+			remove(content);
+		}
+	}
+
+	/* ======== Hash table ======== */
+
+	private boolean find(long key, long now) {
+		if (!bloomContains(key)) {
+			bloomNegatives.increment();
+			return false;
+		}
+		synchronized (locks[stripe(key)]) {
+			return slotOf(bucket(key), key, now) >= 0;
+		}
+	}
+
+	/** Whether the key is live; caller holds its stripe lock. */
+	private boolean contains(long key, long now) {
+		if (!bloomContains(key)) {
+			bloomNegatives.increment();
+			return false;
+		}
+		return slotOf(bucket(key), key, now) >= 0;
+	}
+
+	/** Adds a key that is not live; caller holds its stripe lock. */
+	private void insert(long key, long now) {
+		int base = HEADER + bucket(key) * SLOTS * SLOT_BYTES;
+		int target = -1;
+		int oldest = -1;
+		long oldestAt = Long.MAX_VALUE;
+		for (int i = 0; i < SLOTS; i++) {
+			int at = base + i * SLOT_BYTES;
+			long recorded = map.getLong(at + 8);
+			if (map.getLong(at) == 0 || now - recorded >= windowMillis) {
+				target = at;
+				break;
+			}
+			if (recorded < oldestAt) {
+				oldestAt = recorded;
+				oldest = at;
+			}
+		}
+		if (target < 0) {
+			target = oldest;
+			forcedEvictions.increment();
+		}
+		map.putLong(target + 8, now);
+		map.putLong(target, key);
+		bloomAdd(bloom, key);
+	}
+
+	private void remove(long key) {
+		int bucket = bucket(key);
+		synchronized (locks[stripe(key)]) {
+			int base = HEADER + bucket * SLOTS * SLOT_BYTES;
+			for (int i = 0; i < SLOTS; i++) {
+				int at = base + i * SLOT_BYTES;
+				if (map.getLong(at) == key) {
+					map.putLong(at, 0);
+				}
+			}
+		}
+	}
+
+	/** Offset of the live slot holding the key, -1 when there is none. */
+	private int slotOf(int bucket, long key, long now) {
+		int base = HEADER + bucket * SLOTS * SLOT_BYTES;
+		for (int i = 0; i < SLOTS; i++) {
+			int at = base + i * SLOT_BYTES;
+			if (map.getLong(at) == key && now - map.getLong(at + 8) < windowMillis) {
+				return at;
+			}
+		}
+		return -1;
+	}
+
+	private int bucket(long key) {
+		return (int) (key >>> 32) & bucketMask;
+	}
+
+	private int stripe(long key) {
+		return bucket(key) & (STRIPES - 1);
+	}
+
+	/* ======== Bloom filter ======== */
+
+	private boolean bloomContains(long key) {
+		return bloomContains(bloom, key) || bloomContains(previousBloom, key);
+	}
+
+	private boolean bloomContains(AtomicLongArray bits, long key) {
+		int h1 = (int) key;
+		int h2 = (int) (key >>> 32) | 1;
+		for (int i = 0; i < 4; i++) {
+			int bit = (h1 + i * h2) & bloomMask;
+			if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void bloomAdd(AtomicLongArray bits, long key) {
+		int h1 = (int) key;
+		int h2 = (int) (key >>> 32) | 1;
+		for (int i = 0; i < 4; i++) {
+			int bit = (h1 + i * h2) & bloomMask;
+			long mask = 1L << bit;
+			long w = bits.get(bit >>> 6);
+			while ((w & mask) == 0 && !bits.compareAndSet(bit >>> 6, w, w | mask)) {
+				w = bits.get(bit >>> 6);
+			}
+		}
+	}
+
+	/**
+	 * Starts a new generation once per window. A key stays in the current or
+	 * previous generation for at least a window, as long as it can be live.
+	 */
+	private void rotateBloom(long now) {
+		if (now - bloomStarted < windowMillis) {
+			return;
+		}
+		synchronized (this) {
+			if (now - bloomStarted >= windowMillis) {
+				previousBloom = bloom;
+				bloom = new AtomicLongArray(previousBloom.length());
+				bloomStarted = now;
+			}
+		}
+	}
+
+	private void rebuildBloom() {
+		long now = clock.getAsLong();
+		int slots = (bucketMask + 1) * SLOTS;
+		for (int i = 0; i < slots; i++) {
+			int at = HEADER + i * SLOT_BYTES;
+			long key = map.getLong(at);
+			if (key != 0 && now - map.getLong(at + 8) < windowMillis) {
+				bloomAdd(bloom, key);
+			}
+		}
+	}
+
+	/* ======== Keys ======== */
+
+	/** Hash of the UETR, case insensitive; 0 when the message has none. */
+	private static long uetrKey(Map<String, String> fields) {
+		String uetr = fields.get(UETR_KEY);
+		if (uetr == null || uetr.isEmpty()) {
+			return 0;
+		}
+		long h = UETR_SEED;
+		for (int i = 0; i < uetr.length(); i++) {
+			h = (h ^ Character.toLowerCase(uetr.charAt(i))) * 0x100000001b3L;
+		}
+		return finish(h);
+	}
+
+	/** Hash of the content fields in order; 0 when none of them is present. */
+	private long contentKey(Map<String, String> fields) {
+		long h = CONTENT_SEED;
+		boolean any = false;
+		for (String k : contentKeys) {
+			String v = fields.get(k);
+			if (v != null) {
+				any = true;
+				for (int i = 0; i < v.length(); i++) {
+					h = (h ^ v.charAt(i)) * 0x100000001b3L;
+				}
+			}
+			h = (h ^ 0x1F) * 0x100000001b3L; // separator, so ("ab", "c") != ("a", "bc")
+		}
+		return any ? finish(h) : 0;
+	}
+
+	/** Murmur finaliser; never 0, which marks a free slot. */
+	private static long finish(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h == 0 ? 1 : h;
+	}
+
+	/* ======== Lifecycle and metrics ======== */
+
+	/** Writes recorded keys through to the file (they survive a process crash without it, not an OS crash). */
+	public void force() {
+		map.force();
+	}
+
+	@Override
+	public void close() {
+		force();
+	}
+
+	public long checks() {
+		return checks.sum();
+	}
+
+	public long uetrDuplicates() {
+		return uetrDuplicates.sum();
+	}
+
+	public long contentDuplicates() {
+		return contentDuplicates.sum();
+	}
+
+	/** Keys the Bloom filter ruled out without a table lookup. */
+	public long bloomNegatives() {
+		return bloomNegatives.sum();
+	}
+
+	/** Live keys overwritten because their bucket was full; the index is too small when this grows. */
+	public long forcedEvictions() {
+		return forcedEvictions.sum();
+	}
+
+	/** Live keys in the window; scans the whole table. */
+	public int liveKeys() {
+		long now = clock.getAsLong();
+		int n = 0;
+		int slots = (bucketMask + 1) * SLOTS;
+		for (int i = 0; i < slots; i++) {
+			int at = HEADER + i * SLOT_BYTES;
+			if (map.getLong(at) != 0 && now - map.getLong(at + 8) < windowMillis) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("DuplicateIndex[checks=%d, uetrDuplicates=%d, contentDuplicates=%d, bloomNegatives=%d, "
+				+ "forcedEvictions=%d]", checks(), uetrDuplicates(), contentDuplicates(), bloomNegatives(),
+				forcedEvictions());
+	}
+
+	/** Thrown by translators that reject duplicates. */
+	public static class DuplicateException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private final Match match;
+
+		public DuplicateException(Match match, String reference) {
+			super("Duplicate message (" + match + ") " + reference);
+			this.match = match;
+		}
+
+		public Match getMatch() {
+			return match;
+		}
+	}
+}
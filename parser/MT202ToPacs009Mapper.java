@@ -10,174 +10,114 @@ import javax.xml.transform.*;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.*;
 import java.util.*;
 
 public class MT202ToPacs009Mapper {
 
-	/* ======== Config model ======== */
-
-	public static class MappingConfig {
-		public List<MappingRule> mappings;
-	}
-
-	public static class MappingRule {
-		public String mtKey; // e.g. "b4.32A.amount"
-		public String mxPath; // e.g. "CdtTrfTxInf.IntrBkSttlmAmt@Ccy"
-		public String transform; // e.g. write custom logic
-		public String value; // in case of mtKey constant
-		public String format; // e.g. regex or date format
-		public String action; // e.g. Action if any like trim
-	}
-
 	/* ======== Mapper ======== */
 
+	/**
+	 * pacs.009 facade over {@link MxMappingEngine}; shares plan cache, template
+	 * output and transform library with the pacs.008 mapper.
+	 */
 	public static class JsonDrivenMapper {
-		private final MappingConfig config;
+		private static final String NS = "urn:iso:std:iso:20022:tech:xsd:pacs.009.001.08";
+		private static final String ROOT = "FICdtTrf";
+		private static final int STREAM_BUFFER = 8192;
+
+		private final MxMappingEngine.Plan plan;
+		private final MxSchemaValidator schemaValidator; // null = no output validation
 
 		public JsonDrivenMapper(MappingConfig config) {
-			this.config = config;
+			this(config, null);
+		}
+
+		/** Validates template output against the pacs.009 XSD before writing it. */
+		public JsonDrivenMapper(MappingConfig config, MxSchemaValidator schemaValidator) {
+			this.plan = MxMappingEngine.plan(NS, ROOT, config);
+			this.schemaValidator = schemaValidator;
 		}
 
 		public Document map(Mt202ConfigDrivenParser.MtMessage mt) throws Exception {
-			DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-			dbf.setNamespaceAware(true);
-			DocumentBuilder db = dbf.newDocumentBuilder();
-			Document doc = db.newDocument();
-
-			String NS = "urn:iso:std:iso:20022:tech:xsd:pacs.009.001.08";
-			Element root = doc.createElementNS(NS, "Document");
-			doc.appendChild(root);
-			Element fiToFi = doc.createElementNS(NS, "FICdtTrf");
-			root.appendChild(fiToFi);
-
-			for (MappingRule r : config.mappings) {
-				String value;
-
-				if (r.mtKey != null && r.mtKey.startsWith("CONSTANT")) {
-					value = r.value;
-				} else {
-					value = mt.fields.get(r.mtKey);
-				}
-
-				if (value == null || value.isEmpty())
-					continue;
-
-				if (r.transform != null) {
-					value = applyTransform(r.transform, value, r);
-					if (value == null || value.isEmpty()) {
-						continue;
-					}
-				}
-
-				applyPath(doc, fiToFi, r.mxPath, value);
-			}
+			return plan.map(mt.fields);
+		}
 
-			return doc;
+		/** Template rendered UTF-8 document, see MtToPacs008Mapper.JsonDrivenMapper#mapToBytes. */
+		public byte[] mapToBytes(Mt202ConfigDrivenParser.MtMessage mt) {
+			XmlByteWriter out = new XmlByteWriter();
+			writeTo(mt, out);
+			return out.toByteArray();
 		}
 
-		private String applyTransform(String name, String value, MappingRule rule) {
-			switch (name) {
-			case "mapChargeBearer":
-				return getChargeBearer(value);
-			case "numericNormalize":
-				return value.replace(",", ".");
-			case "formatYYMMDDtoYYYYMMDD":
-				if (value.length() == 6) {
-					String yy = value.substring(0, 2);
-					String mm = value.substring(2, 4);
-					String dd = value.substring(4, 6);
-					String yyyy = "20" + yy; // or smarter century logic if you want
-					return yyyy + "-" + mm + "-" + dd;
-				}
-				return value;
-			case "joinLines":
-				// for mtKey that is a list, you can adjust your parser to store joined value
-				return value.trim();
-			default:
-				return value;
+		/** Streams the UTF-8 document into {@code out}; the stream is not closed. */
+		public void writeTo(Mt202ConfigDrivenParser.MtMessage mt, OutputStream out) throws IOException {
+			try {
+				XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		public void writeTo(Mt202ConfigDrivenParser.MtMessage mt, WritableByteChannel out) throws IOException {
+			try {
+				XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
 			}
 		}
 
 		/**
-		 * @param value
-		 * @return
+		 * Writes into a caller supplied (e.g. pooled) buffer starting at its
+		 * position and returns the number of bytes written. Throws
+		 * BufferOverflowException when the document does not fit.
 		 */
-		private String getChargeBearer(String value) {
-			switch (value) {
-			case "OUR":
-				value = "DEBT";
-				break;
-			case "BEN":
-				value = "CRED";
-				break;
-			case "SHA":
-				value = "SHAR";
-				break;
-			default:
-				;
-				break;
-			}
-			return value;
+		public int writeTo(Mt202ConfigDrivenParser.MtMessage mt, ByteBuffer out) {
+			XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+			writeTo(mt, w);
+			w.flush();
+			return (int) w.count();
 		}
 
-		private void applyPath(Document doc, Element parent, String path, String value) {
-			// Support @attribute and simple [index] arrays
-			String[] parts = path.split("\\.");
-
-			Element current = parent;
-			for (int i = 0; i < parts.length; i++) {
-				String part = parts[i];
-
-				// attribute on current element
-				if (part.contains("@")) {
-					String[] pe = part.split("@", 2);
-					String elemName = pe[0];
-					String attrName = pe[1];
-
-					if (!elemName.isEmpty()) {
-						current = ensureChild(doc, current, elemName, 0);
-					}
-					current.setAttribute(attrName, value);
-					return;
-				}
-
-				// list index: Name[0]
-				int idx = 0;
-				String elemName = part;
-				int bracket = part.indexOf('[');
-				if (bracket >= 0 && part.endsWith("]")) {
-					elemName = part.substring(0, bracket);
-					String sIdx = part.substring(bracket + 1, part.length() - 1);
-					idx = Integer.parseInt(sIdx);
-				}
-
-				// last segment -> set text
-				if (i == parts.length - 1) {
-					Element child = ensureChild(doc, current, elemName, idx);
-					child.setTextContent(value);
-				} else {
-					current = ensureChild(doc, current, elemName, idx);
-				}
+		/** Profile shaped output, see MtToPacs008Mapper.JsonDrivenMapper#writeTo(mt, out, profile). */
+		public void writeTo(Mt202ConfigDrivenParser.MtMessage mt, OutputStream out, MxOutputProfile profile)
+				throws IOException {
+			try {
+				OutputStream o = profile.open(out);
+				XmlByteWriter w = new XmlByteWriter(o, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+				profile.finish(o);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
 			}
 		}
 
-		private Element ensureChild(Document doc, Element parent, String name, int index) {
-			NodeList existing = parent.getElementsByTagNameNS(parent.getNamespaceURI(), name);
-			// Filter only direct children of this parent
-			List<Element> direct = new ArrayList<>();
-			for (int i = 0; i < existing.getLength(); i++) {
-				Node n = existing.item(i);
-				if (n.getParentNode() == parent) {
-					direct.add((Element) n);
-				}
+		public void writeTo(Mt202ConfigDrivenParser.MtMessage mt, XmlByteWriter out) {
+			if (schemaValidator == null) {
+				plan.writeTo(mt.fields, out);
+				return;
 			}
-			while (direct.size() <= index) {
-				Element e = doc.createElementNS(parent.getNamespaceURI(), name);
-				parent.appendChild(e);
-				direct.add(e);
+			List<String> errors = plan.writeValidated(mt.fields, out, schemaValidator);
+			if (!errors.isEmpty()) {
+				throw new MxSchemaValidator.SchemaViolationException(errors);
 			}
-			return direct.get(index);
+		}
+
+		/** Opt-in per-rule profiling, see MtToPacs008Mapper.JsonDrivenMapper#enableProfiling. */
+		public MappingProfiler enableProfiling() {
+			return plan.enableProfiling();
+		}
+
+		public void disableProfiling() {
+			plan.disableProfiling();
 		}
 	}
 
@@ -193,6 +133,54 @@ public class MT202ToPacs009Mapper {
 		return sw.toString();
 	}
 
+	/* ======== Utility: XML straight to bytes ======== */
+
+	/** Serialises as UTF-8 straight into the stream, no intermediate String. */
+	public static void writeXml(Document doc, OutputStream out) throws Exception {
+		TransformerFactory tf = TransformerFactory.newInstance();
+		Transformer t = tf.newTransformer();
+		t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
+		t.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+		t.setOutputProperty(OutputKeys.INDENT, "yes");
+		t.transform(new DOMSource(doc), new StreamResult(out));
+	}
+
+	/** Serialised per profile (compressed when it says so); the stream is not closed. */
+	public static void writeXml(Document doc, OutputStream out, MxOutputProfile profile) throws Exception {
+		profile.write(doc, out);
+	}
+
+	public static String toXmlString(Document doc, MxOutputProfile profile) throws Exception {
+		return profile.toXmlString(doc);
+	}
+
+	public static void writeXml(Document doc, WritableByteChannel out) throws Exception {
+		OutputStream os = Channels.newOutputStream(out);
+		writeXml(doc, os);
+		os.flush();
+	}
+
+	/**
+	 * Writes into a caller supplied (e.g. pooled) buffer starting at its position
+	 * and returns the number of bytes written. Throws BufferOverflowException when
+	 * the document does not fit.
+	 */
+	public static int writeXml(Document doc, ByteBuffer out) throws Exception {
+		int start = out.position();
+		writeXml(doc, new OutputStream() {
+			@Override
+			public void write(int b) {
+				out.put((byte) b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				out.put(b, off, len);
+			}
+		});
+		return out.position() - start;
+	}
+
 	/* ======== Demo main wiring parser + mapper ======== */
 
 	public static void main(String[] args) throws Exception {
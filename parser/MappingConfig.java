@@ -0,0 +1,18 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * MT to MX mapping config shared by all JSON driven mappers. The target
+ * message definition is optional; when absent the mapper's default (pacs.008,
+ * pacs.009) is used, so a new target only needs namespace + messageElement.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MappingConfig {
+    public String namespace;       // e.g. "urn:iso:std:iso:20022:tech:xsd:pacs.004.001.09"
+    public String rootElement;     // defaults to "Document"
+    public String messageElement;  // e.g. "PmtRtr"
+    public List<MappingRule> mappings;
+}
@@ -0,0 +1,153 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in per-rule instrumentation of a mapping plan (see
+ * MxMappingEngine.Plan#enableProfiling).
+ *
+ * For every rule it counts how often it fired or was skipped (missing field,
+ * false condition, empty transform result), the time spent resolving the value
+ * (condition, source, transform) and, on the DOM path, building the element
+ * path. Counters are LongAdders, so concurrent mapper threads update striped
+ * cells instead of contending on one value; resolve times also go into a log2
+ * histogram for a percentile estimate.
+ */
+public class MappingProfiler {
+
+	private static final int BUCKETS = 40; // 2^39 ns ~ 9 min, plenty
+
+	private final MappingRule[] rules;
+	private final boolean[] preRendered;
+	private final RuleStats[] stats;
+
+	MappingProfiler(MappingRule[] rules, boolean[] preRendered) {
+		this.rules = rules;
+		this.preRendered = preRendered;
+		this.stats = new RuleStats[rules.length];
+		for (int i = 0; i < stats.length; i++) {
+			stats[i] = new RuleStats();
+		}
+	}
+
+	/* ======== Recording ======== */
+
+	void recordResolve(int rule, boolean fired, long nanos) {
+		RuleStats s = stats[rule];
+		(fired ? s.hits : s.skips).increment();
+		s.resolveNanos.add(nanos);
+		s.histogram[bucket(nanos)].increment();
+	}
+
+	void recordPath(int rule, long nanos) {
+		stats[rule].pathNanos.add(nanos);
+	}
+
+	private static int bucket(long nanos) {
+		return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+	}
+
+	public void reset() {
+		for (RuleStats s : stats) {
+			s.hits.reset();
+			s.skips.reset();
+			s.resolveNanos.reset();
+			s.pathNanos.reset();
+			for (LongAdder b : s.histogram) {
+				b.reset();
+			}
+		}
+	}
+
+	/* ======== Report ======== */
+
+	public long hits(int rule) {
+		return stats[rule].hits.sum();
+	}
+
+	public long skips(int rule) {
+		return stats[rule].skips.sum();
+	}
+
+	/**
+	 * Rules ranked by total time (resolve + path), followed by the rules that
+	 * never fired. Pre-rendered constant rules cost nothing per message on the
+	 * template path and are listed as such.
+	 */
+	public List<String> report() {
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < rules.length; i++) {
+			order.add(i);
+		}
+		order.sort(Comparator.comparingLong((Integer i) -> -totalNanos(i)));
+
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format("%-4s %-4s %-60s %10s %10s %10s %10s %10s", "rank", "rule", "mtKey -> mxPath", "hits",
+				"skips", "avg ns", "p99 ns", "total ms"));
+		List<String> dead = new ArrayList<>();
+		int rank = 1;
+		for (int i : order) {
+			RuleStats s = stats[i];
+			long hits = s.hits.sum();
+			long calls = hits + s.skips.sum();
+			String rule = rules[i].mtKey + " -> " + rules[i].mxPath;
+			if (calls == 0 && preRendered[i]) {
+				lines.add(String.format("%-4s %-4d %-60s %s", "-", i, rule, "pre-rendered constant"));
+				continue;
+			}
+			lines.add(String.format("%-4d %-4d %-60s %10d %10d %10d %10d %10.3f", rank++, i, rule, hits, s.skips.sum(),
+					calls == 0 ? 0 : s.resolveNanos.sum() / calls, percentile(s, 0.99), totalNanos(i) / 1e6));
+			if (hits == 0) {
+				dead.add(String.format("%-4d %s (skipped %d times)", i, rule, calls));
+			}
+		}
+		if (!dead.isEmpty()) {
+			lines.add("Never fired:");
+			lines.addAll(dead);
+		}
+		return lines;
+	}
+
+	private long totalNanos(int rule) {
+		return stats[rule].resolveNanos.sum() + stats[rule].pathNanos.sum();
+	}
+
+	/** Upper bound of the log2 bucket holding the percentile. */
+	private static long percentile(RuleStats s, double p) {
+		long total = 0;
+		long[] counts = new long[BUCKETS];
+		for (int b = 0; b < BUCKETS; b++) {
+			counts[b] = s.histogram[b].sum();
+			total += counts[b];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(total * p);
+		long seen = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			seen += counts[b];
+			if (seen >= target) {
+				return 1L << b;
+			}
+		}
+		return 1L << (BUCKETS - 1);
+	}
+
+	private static final class RuleStats {
+		final LongAdder hits = new LongAdder();
+		final LongAdder skips = new LongAdder();
+		final LongAdder resolveNanos = new LongAdder();
+		final LongAdder pathNanos = new LongAdder();
+		final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+		RuleStats() {
+			for (int b = 0; b < BUCKETS; b++) {
+				histogram[b] = new LongAdder();
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MappingRule {
+    public String mtKey;      // e.g. "b4.32A.amount"
+    public String mxPath;     // e.g. "CdtTrfTxInf.IntrBkSttlmAmt@Ccy"
+    public String transform;  // e.g. write custom logic
+    public String value;      // in case of mtKey constant, otherwise default when the field is missing
+    public String when;       // condition, e.g. "present(b4.50A.bic) && b4.71A.code != 'OUR'" (see MtExpression)
+    public String expression; // value computed from fields, e.g. "b4.33B.amount - b4.71F.amount"
+    public String format;     // e.g. regex or date format
+    public String action;     // e.g. Action if any like trim
+    public Map<String, String> params; // in case of date format - {"from":"yyMMdd","to":"yyyy-MM-dd"} || subString {"start":"0","end":"4"}
+}
@@ -7,9 +7,11 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -83,14 +85,55 @@ public class Mt103ConfigDrivenParser {
         private final MtSchema schema;
         private final Map<Integer, List<FieldDef>> blockFields = new HashMap<>();
         private final Map<String, List<FieldDef>> block3FieldsByTag = new HashMap<>();
+        // validation rules attached to schema components, checked as values are extracted
+        private final Map<String, MtValidator.Check[]> inlineChecks = new HashMap<>();
+        // rules that need the whole message (required, cross-field), run after the parse
+        private final MtValidator.Check[] deferredChecks;
 //        private final ObjectMapper mapper = new ObjectMapper();
 
         // regex for block 4 fields like ":20:VALUE"
         private static final Pattern TAG_LINE = Pattern.compile("^:(\\d{2,3}[A-Z]?):(.*)$");
 
         public MtParser(MtSchema schema) {
+            this(schema, null);
+        }
+
+        /**
+         * Parser with validation fused in: length, regex, swiftFormat and
+         * allowed/forbidden value rules on a schema component are checked inline
+         * when the component is extracted. Everything else runs in a deferred
+         * pass after the parse: presence, conditional, compare and amount format
+         * checks (which need the currency as well) and expressions. Use
+         * {@link #parse(String, List, boolean)} to get the errors; plain
+         * {@link #parse(String)} does not validate.
+         */
+        public MtParser(MtSchema schema, ValidationConfig rules) {
             this.schema = schema;
             indexSchema();
+            List<MtValidator.Check> deferred = new ArrayList<>();
+            if (rules != null) {
+                Set<String> componentKeys = new HashSet<>();
+                for (FieldDef f : schema.fields == null ? Collections.<FieldDef>emptyList() : schema.fields) {
+                    if (f.components != null) {
+                        for (ComponentDef c : f.components) {
+                            componentKeys.add(c.mtKey);
+                        }
+                    }
+                }
+                Map<String, List<MtValidator.Check>> byKey = new HashMap<>();
+                for (MtValidator.Check c : new MtValidator(rules).checks()) {
+                    if (c instanceof MtValidator.ValueCheck
+                            && componentKeys.contains(((MtValidator.ValueCheck) c).key())) {
+                        byKey.computeIfAbsent(((MtValidator.ValueCheck) c).key(), k -> new ArrayList<>()).add(c);
+                    } else {
+                        deferred.add(c);
+                    }
+                }
+                for (Map.Entry<String, List<MtValidator.Check>> e : byKey.entrySet()) {
+                    inlineChecks.put(e.getKey(), e.getValue().toArray(new MtValidator.Check[0]));
+                }
+            }
+            this.deferredChecks = deferred.toArray(new MtValidator.Check[0]);
         }
 
         private void indexSchema() {
@@ -104,7 +147,31 @@ public class Mt103ConfigDrivenParser {
         }
 
         public MtMessage parse(String fin) {
-            MtMessage mt = new MtMessage();
+            return parseInto(new MtMessage(), fin);
+        }
+
+        /**
+         * Parses and validates in one pass, adding the error messages to
+         * {@code errors}. With failFast the parse stops at the first failing rule
+         * and null is returned; otherwise the full message is returned even when
+         * it has errors.
+         */
+        public MtMessage parse(String fin, List<String> errors, boolean failFast) {
+            CheckedMessage mt = new CheckedMessage(errors, failFast);
+            try {
+                parseInto(mt, fin);
+                for (MtValidator.Check c : deferredChecks) {
+                    if (c.fails(mt.fields)) {
+                        mt.reject(c);
+                    }
+                }
+            } catch (Rejected r) {
+                return null;
+            }
+            return mt;
+        }
+
+        private MtMessage parseInto(MtMessage mt, String fin) {
             mt.raw = fin;
 
             // 1) split blocks {1:}{2:}{3:}{4:}{5:}
@@ -250,7 +317,7 @@ public class Mt103ConfigDrivenParser {
                             // simple one-component mapping
                             if (d.components != null && !d.components.isEmpty()) {
                                 ComponentDef c = d.components.get(0);
-                                mt.fields.put(c.mtKey, value);
+                                put(mt, c.mtKey, value);
                             }
                         }
                     }
@@ -364,7 +431,7 @@ public class Mt103ConfigDrivenParser {
                 v = v.substring(0, def.format.maxLength);
             }
             ComponentDef c = def.components.get(0);
-            mt.fields.put(c.mtKey, v);
+            put(mt, c.mtKey, v);
         }
 
         private void applyDateCurrencyAmount(MtMessage mt, FieldDef def, String raw) {
@@ -376,11 +443,11 @@ public class Mt103ConfigDrivenParser {
             String amountStr = v.substring(9).replace(",", ".");
             for (ComponentDef c : def.components) {
                 if ("date".equals(c.name)) {
-                    mt.fields.put(c.mtKey, date);
+                    put(mt, c.mtKey, date);
                 } else if ("ccy".equals(c.name)) {
-                    mt.fields.put(c.mtKey, ccy);
+                    put(mt, c.mtKey, ccy);
                 } else if ("amount".equals(c.name)) {
-                    mt.fields.put(c.mtKey, amountStr);
+                    put(mt, c.mtKey, amountStr);
                 }
             }
         }
@@ -392,9 +459,9 @@ public class Mt103ConfigDrivenParser {
             String amountStr = v.substring(3).replace(",", ".");
             for (ComponentDef c : def.components) {
                 if ("ccy".equals(c.name)) {
-                    mt.fields.put(c.mtKey, ccy);
+                    put(mt, c.mtKey, ccy);
                 } else if ("amount".equals(c.name)) {
-                    mt.fields.put(c.mtKey, amountStr);
+                    put(mt, c.mtKey, amountStr);
                 }
             }
         }
@@ -403,7 +470,7 @@ public class Mt103ConfigDrivenParser {
             String rate = raw.replace("\n", "").trim();
             for (ComponentDef c : def.components) {
                 if ("rate".equals(c.name)) {
-                    mt.fields.put(c.mtKey, rate);
+                    put(mt, c.mtKey, rate);
                 }
             }
         }
@@ -414,7 +481,7 @@ public class Mt103ConfigDrivenParser {
                 // expect component names like account/name/address0/address1/...
                 if ("account".equals(c.name)) {
                     if (lines.length > 0 && lines[0].startsWith("/")) {
-                        mt.fields.put(c.mtKey, lines[0].substring(1));
+                        put(mt, c.mtKey, lines[0].substring(1));
                     }
                 } else if (c.name.startsWith("address") || "name".equals(c.name)) {
                     int idx;
@@ -422,7 +489,7 @@ public class Mt103ConfigDrivenParser {
                         // name = first non-account line
                         idx = (lines.length > 0 && lines[0].startsWith("/")) ? 1 : 0;
                         if (idx < lines.length) {
-                            mt.fields.put(c.mtKey, lines[idx]);
+                            put(mt, c.mtKey, lines[idx]);
                         }
                     } else {
                         // addressN -> subsequent lines
@@ -431,7 +498,7 @@ public class Mt103ConfigDrivenParser {
                         int base = (lines.length > 0 && lines[0].startsWith("/")) ? 1 : 0;
                         int lineIdx = base + 1 + idx; // simplistic, adjust if needed
                         if (lineIdx < lines.length) {
-                            mt.fields.put(c.mtKey, lines[lineIdx]);
+                            put(mt, c.mtKey, lines[lineIdx]);
                         }
                     }
                 }
@@ -455,9 +522,9 @@ public class Mt103ConfigDrivenParser {
             }
             for (ComponentDef c : def.components) {
                 if ("account".equals(c.name) && account != null) {
-                    mt.fields.put(c.mtKey, account);
+                    put(mt, c.mtKey, account);
                 } else if ("bic".equals(c.name) && bic != null) {
-                    mt.fields.put(c.mtKey, bic);
+                    put(mt, c.mtKey, bic);
                 }
             }
         }
@@ -476,9 +543,9 @@ public class Mt103ConfigDrivenParser {
             }
             for (ComponentDef c : def.components) {
                 if ("account".equals(c.name) && account != null) {
-                    mt.fields.put(c.mtKey, account);
+                    put(mt, c.mtKey, account);
                 } else if ("name".equals(c.name) && name != null) {
-                    mt.fields.put(c.mtKey, name);
+                    put(mt, c.mtKey, name);
                 }
             }
         }
@@ -489,7 +556,22 @@ public class Mt103ConfigDrivenParser {
                 if (c.name.startsWith("line")) {
                     int idx = Character.getNumericValue(c.name.charAt(c.name.length() - 1));
                     if (idx < lines.length) {
-                        mt.fields.put(c.mtKey, lines[idx]);
+                        put(mt, c.mtKey, lines[idx]);
+                    }
+                }
+            }
+        }
+
+        /** Every extracted component goes through here, so inline rules see it immediately. */
+        private void put(MtMessage mt, String key, String value) {
+            mt.fields.put(key, value);
+            if (mt instanceof CheckedMessage && value != null && !value.isEmpty()) {
+                MtValidator.Check[] checks = inlineChecks.get(key);
+                if (checks != null) {
+                    for (MtValidator.Check c : checks) {
+                        if (((MtValidator.ValueCheck) c).failsValue(value)) {
+                            ((CheckedMessage) mt).reject(c);
+                        }
                     }
                 }
             }
@@ -500,10 +582,156 @@ public class Mt103ConfigDrivenParser {
             if (def.components == null) return;
             for (ComponentDef c : def.components) {
                 if (compName.equals(c.name)) {
-                    mt.fields.put(c.mtKey, value);
+                    put(mt, c.mtKey, value);
+                }
+            }
+        }
+    
+        /** Message being parsed with validation; collects errors or aborts the parse. */
+        private static final class CheckedMessage extends MtMessage {
+            private final List<String> errors;
+            private final boolean failFast;
+
+            CheckedMessage(List<String> errors, boolean failFast) {
+                this.errors = errors;
+                this.failFast = failFast;
+            }
+
+            void reject(MtValidator.Check c) {
+                errors.add(c.message(fields));
+                if (failFast) {
+                    throw Rejected.INSTANCE;
+                }
+            }
+        }
+
+        /** Unwinds a fail-fast parse; preallocated and stackless, it is control flow. */
+        private static final class Rejected extends RuntimeException {
+            private static final long serialVersionUID = 1L;
+            static final Rejected INSTANCE = new Rejected();
+
+            private Rejected() {
+                super(null, null, false, false);
+            }
+        }
+    }
+
+    /* ======================== BLOCK 4 WRITER ======================== */
+
+    /**
+     * Inverse of MtParser for block 4: renders the field map back into FIN tag
+     * lines in schema order. Works for any schema file with the same format
+     * (MT103, MT202). Amounts are stored with '.' by the parser and are written
+     * with the SWIFT ',' decimal separator.
+     */
+    public static class MtWriter {
+        private static final String CRLF = "\r\n";
+        private final List<FieldDef> block4;
+
+        public MtWriter(MtSchema schema) {
+            this.block4 = new ArrayList<>();
+            if (schema.fields == null) return;
+            for (FieldDef f : schema.fields) {
+                if (f.block == 4 && f.components != null && !f.components.isEmpty()) {
+                    block4.add(f);
                 }
             }
         }
+
+        /** Returns "{4:\r\n:20:...\r\n-}". */
+        public String renderBlock4(Map<String, String> fields) {
+            StringBuilder sb = new StringBuilder(512);
+            sb.append("{4:").append(CRLF);
+            for (FieldDef d : block4) {
+                String value = renderField(d, fields);
+                if (value != null && !value.isEmpty()) {
+                    sb.append(':').append(d.tag).append(':').append(value).append(CRLF);
+                }
+            }
+            sb.append("-}");
+            return sb.toString();
+        }
+
+        public String renderBlock4(MtMessage mt) {
+            return renderBlock4(mt.fields);
+        }
+
+        private String renderField(FieldDef def, Map<String, String> fields) {
+            if (def.format == null || def.format.type == null) return null;
+            switch (def.format.type) {
+                case "simple":
+                case "rate":
+                    return component(def, fields, def.components.get(0).name);
+                case "dateCurrencyAmount":
+                    return concat(component(def, fields, "date"), component(def, fields, "ccy"),
+                            swiftAmount(component(def, fields, "amount")));
+                case "currencyAmount":
+                    return concat(component(def, fields, "ccy"), swiftAmount(component(def, fields, "amount")));
+                case "partyLines":
+                case "structuredParty":
+                case "bicParty":
+                case "accountParty":
+                    return partyLines(def, fields);
+                case "freeTextLines":
+                case "regulatoryLines":
+                    return lines(def, fields);
+                default:
+                    // no parser support for this format type either
+                    return null;
+            }
+        }
+
+        private String partyLines(FieldDef def, Map<String, String> fields) {
+            StringBuilder sb = new StringBuilder();
+            String account = component(def, fields, "account");
+            if (account != null) {
+                sb.append('/').append(account);
+            }
+            for (ComponentDef c : def.components) {
+                if ("account".equals(c.name)) continue;
+                String v = fields.get(c.mtKey);
+                if (v == null || v.isEmpty()) continue;
+                if (sb.length() > 0) sb.append(CRLF);
+                sb.append(v);
+            }
+            return sb.length() == 0 ? null : sb.toString();
+        }
+
+        private String lines(FieldDef def, Map<String, String> fields) {
+            StringBuilder sb = new StringBuilder();
+            for (ComponentDef c : def.components) {
+                String v = fields.get(c.mtKey);
+                if (v == null) break;
+                if (sb.length() > 0) sb.append(CRLF);
+                sb.append(v);
+            }
+            return sb.length() == 0 ? null : sb.toString();
+        }
+
+        private String component(FieldDef def, Map<String, String> fields, String name) {
+            for (ComponentDef c : def.components) {
+                if (name.equals(c.name)) {
+                    String v = fields.get(c.mtKey);
+                    return (v == null || v.isEmpty()) ? null : v;
+                }
+            }
+            return null;
+        }
+
+        private static String concat(String... parts) {
+            StringBuilder sb = new StringBuilder();
+            for (String p : parts) {
+                if (p == null) return null;
+                sb.append(p);
+            }
+            return sb.toString();
+        }
+
+        private static String swiftAmount(String amount) {
+            if (amount == null) return null;
+            String v = amount.replace('.', ',');
+            return v.indexOf(',') < 0 ? v + "," : v;
+        }
     }
 
     /* ======================== MAIN DEMO ======================== */
@@ -0,0 +1,106 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exception free amount handling on scaled longs: "243,27" (or "243.27" as
+ * stored by MtParser) at scale 2 is 24327. Malformed input is reported through
+ * the {@link #MALFORMED} sentinel instead of a NumberFormatException, so bad
+ * messages cost no more than good ones.
+ */
+public final class MtAmount {
+
+	/** Returned for non numeric text, too many decimals for the scale, or overflow. */
+	public static final long MALFORMED = Long.MIN_VALUE;
+
+	private static final long[] POW10 = new long[19];
+	private static final Map<String, Integer> DECIMALS = new HashMap<>();
+
+	static {
+		POW10[0] = 1;
+		for (int i = 1; i < POW10.length; i++) {
+			POW10[i] = POW10[i - 1] * 10;
+		}
+		for (Currency c : Currency.getAvailableCurrencies()) {
+			if (c.getDefaultFractionDigits() >= 0) {
+				DECIMALS.put(c.getCurrencyCode(), c.getDefaultFractionDigits());
+			}
+		}
+	}
+
+	private MtAmount() {
+	}
+
+	/** ISO 4217 minor units of the currency (JPY 0, EUR 2, KWD 3), -1 when unknown. */
+	public static int decimals(String ccy) {
+		Integer d = ccy == null ? null : DECIMALS.get(ccy);
+		return d == null ? -1 : d;
+	}
+
+	/**
+	 * Number of decimals written in the amount ("100," is 0, "1,5" is 1), -1
+	 * when it is not an amount. Accepts ',' or '.' as separator and a leading
+	 * '-'.
+	 */
+	public static int scaleOf(String s) {
+		int n = s.length();
+		int i = (n > 0 && s.charAt(0) == '-') ? 1 : 0;
+		int digits = 0;
+		int sep = -1;
+		for (; i < n; i++) {
+			char c = s.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits++;
+			} else if ((c == ',' || c == '.') && sep < 0) {
+				sep = i;
+			} else {
+				return -1;
+			}
+		}
+		if (digits == 0) {
+			return -1;
+		}
+		return sep < 0 ? 0 : n - sep - 1;
+	}
+
+	/**
+	 * The amount multiplied by 10^scale, or {@link #MALFORMED} when it is not an
+	 * amount, has more than {@code scale} decimals or does not fit a long.
+	 */
+	public static long parse(String s, int scale) {
+		int decimals = scaleOf(s);
+		if (decimals < 0 || decimals > scale || scale >= POW10.length) {
+			return MALFORMED;
+		}
+		boolean negative = s.charAt(0) == '-';
+		long v = 0;
+		for (int i = negative ? 1 : 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == ',' || c == '.') {
+				continue;
+			}
+			if (v > (Long.MAX_VALUE - 9) / 10) {
+				return MALFORMED;
+			}
+			v = v * 10 + (c - '0');
+		}
+		long factor = POW10[scale - decimals];
+		if (v > Long.MAX_VALUE / factor) {
+			return MALFORMED;
+		}
+		v *= factor;
+		return negative ? -v : v;
+	}
+
+	/** 10^n for 0 &lt;= n &lt;= 18. */
+	static long pow10(int n) {
+		return POW10[n];
+	}
+
+	/** Largest scale {@link #parse} supports. */
+	static int maxScale() {
+		return POW10.length - 1;
+	}
+}
@@ -0,0 +1,610 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Small condition / value expression language over parsed MT fields
+ * (MtMessage.fields keys such as b4.32A.amount or b4.70[0]).
+ *
+ * <pre>
+ * present(b4.50A.bic) &amp;&amp; !present(b4.50K.name)
+ * b4.71A.code == 'OUR' || b4.23B.code in ('SPRI', 'SSTD')
+ * b4.59.account matches '^[A-Z]{2}[0-9]{2}'
+ * b4.33B.amount - b4.71F.amount &gt; 0
+ * coalesce(b4.52A.bic, b2.senderBic)
+ * </pre>
+ *
+ * Expressions are parsed once into a tree of lambdas; regexes and in-sets are
+ * compiled at that point, so evaluation per message is plain calls. Missing
+ * fields are null, amounts accept ',' or '.' as decimal separator, arithmetic
+ * on a non-numeric operand yields null and comparisons involving a number are
+ * numeric, otherwise they compare strings.
+ *
+ * Expressions compiled through one {@link Dag} share their common
+ * sub-expressions (comparisons, function calls, and/or/not), which are then
+ * evaluated at most once per message however many rules use them.
+ */
+public final class MtExpression {
+
+	private static final MathContext DIV = MathContext.DECIMAL64;
+
+	/** Compiled expression node. */
+	@FunctionalInterface
+	interface Node {
+		Object eval(Map<String, String> fields);
+	}
+
+	private final String source;
+	private final Node root;
+
+	private MtExpression(String source, Node root) {
+		this.source = source;
+		this.root = root;
+	}
+
+	public static MtExpression compile(String source) {
+		return compile(source, null);
+	}
+
+	private static MtExpression compile(String source, Dag dag) {
+		Parser p = new Parser(source, dag);
+		Node n = p.or();
+		p.expectEnd();
+		return new MtExpression(source, n);
+	}
+
+	/** Compiled boolean condition, e.g. a mapping rule's "when". */
+	public static Predicate<Map<String, String>> condition(String source) {
+		return compile(source)::test;
+	}
+
+	/** Compiled value expression, e.g. a mapping rule's "expression". */
+	public static Function<Map<String, String>, String> value(String source) {
+		return compile(source)::evaluate;
+	}
+
+	public String source() {
+		return source;
+	}
+
+	public boolean test(Map<String, String> fields) {
+		return truthy(root.eval(fields));
+	}
+
+	/** Result as text (numbers in plain notation), null when it has no value. */
+	public String evaluate(Map<String, String> fields) {
+		Object v = root.eval(fields);
+		if (v instanceof BigDecimal) {
+			return ((BigDecimal) v).stripTrailingZeros().toPlainString();
+		}
+		return v == null ? null : v.toString();
+	}
+
+	/* ======== Runtime semantics ======== */
+
+	static boolean truthy(Object v) {
+		if (v instanceof Boolean) {
+			return (Boolean) v;
+		}
+		if (v instanceof String) {
+			return !((String) v).isEmpty();
+		}
+		return v != null;
+	}
+
+	static BigDecimal number(Object v) {
+		if (v instanceof BigDecimal) {
+			return (BigDecimal) v;
+		}
+		if (!(v instanceof String)) {
+			return null;
+		}
+		String s = ((String) v).trim();
+		int n = s.length();
+		if (n == 0) {
+			return null;
+		}
+		// cheap shape check first, so non numeric text never throws
+		int digits = 0;
+		int seps = 0;
+		for (int i = 0; i < n; i++) {
+			char c = s.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits++;
+			} else if ((c == ',' || c == '.') && ++seps == 1) {
+				continue;
+			} else if (!(i == 0 && c == '-')) {
+				return null;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+		if (s.endsWith(",") || s.endsWith(".")) {
+			s = s.substring(0, n - 1);
+		}
+		return new BigDecimal(s.replace(',', '.'));
+	}
+
+	private static String text(Object v) {
+		if (v instanceof BigDecimal) {
+			return ((BigDecimal) v).stripTrailingZeros().toPlainString();
+		}
+		return v == null ? null : v.toString();
+	}
+
+	private static Node compare(Node l, Node r, String op) {
+		return f -> {
+			Object a = l.eval(f);
+			Object b = r.eval(f);
+			int c;
+			if (a instanceof BigDecimal || b instanceof BigDecimal) {
+				BigDecimal x = number(a);
+				BigDecimal y = number(b);
+				if (x == null || y == null) {
+					return "!=".equals(op) ? Boolean.valueOf(x != y) : Boolean.FALSE;
+				}
+				c = x.compareTo(y);
+			} else {
+				String x = text(a);
+				String y = text(b);
+				if (x == null || y == null) {
+					boolean same = x == y;
+					return "==".equals(op) ? same : "!=".equals(op) ? !same : Boolean.FALSE;
+				}
+				c = x.compareTo(y);
+			}
+			switch (op) {
+			case "==":
+				return c == 0;
+			case "!=":
+				return c != 0;
+			case "<":
+				return c < 0;
+			case "<=":
+				return c <= 0;
+			case ">":
+				return c > 0;
+			default:
+				return c >= 0;
+			}
+		};
+	}
+
+	private static Node arithmetic(Node l, Node r, char op) {
+		return f -> {
+			BigDecimal x = number(l.eval(f));
+			BigDecimal y = number(r.eval(f));
+			if (x == null || y == null) {
+				return null;
+			}
+			switch (op) {
+			case '+':
+				return x.add(y);
+			case '-':
+				return x.subtract(y);
+			case '*':
+				return x.multiply(y);
+			default:
+				return y.signum() == 0 ? null : x.divide(y, DIV);
+			}
+		};
+	}
+
+	/* ======== Shared sub-expressions ======== */
+
+	/**
+	 * Compilation context that turns a set of expressions into a DAG:
+	 * textually identical sub-expressions (whitespace aside) become one node
+	 * whose value is memoised per message. Call {@link #begin} before and
+	 * {@link #end} after evaluating a message's expressions; outside of that,
+	 * or for another field map, shared nodes simply evaluate.
+	 *
+	 * The memo is a per-thread frame of generation stamps, so one Dag can be
+	 * used by concurrent validators and a message costs no allocation.
+	 */
+	static final class Dag {
+		private final Map<String, Node> shared = new HashMap<>();
+		private final ThreadLocal<Frame> frames = ThreadLocal.withInitial(Frame::new);
+
+		MtExpression compile(String source) {
+			return MtExpression.compile(source, this);
+		}
+
+		/** Number of distinct shared sub-expressions. */
+		int size() {
+			return shared.size();
+		}
+
+		void begin(Map<String, String> fields) {
+			Frame fr = frames.get();
+			fr.fields = fields;
+			fr.generation++;
+		}
+
+		void end() {
+			frames.get().fields = null;
+		}
+
+		private Node intern(String key, Node n) {
+			Node existing = shared.get(key);
+			if (existing != null) {
+				return existing;
+			}
+			int id = shared.size();
+			Node memo = f -> {
+				Frame fr = frames.get();
+				if (fr.fields != f) {
+					return n.eval(f);
+				}
+				if (id >= fr.stamps.length) {
+					fr.grow(shared.size());
+				}
+				if (fr.stamps[id] == fr.generation) {
+					return fr.values[id];
+				}
+				Object v = n.eval(f);
+				fr.stamps[id] = fr.generation;
+				fr.values[id] = v;
+				return v;
+			};
+			shared.put(key, memo);
+			return memo;
+		}
+
+		private static final class Frame {
+			Map<String, String> fields;
+			long generation;
+			long[] stamps = new long[0];
+			Object[] values = new Object[0];
+
+			void grow(int size) {
+				stamps = Arrays.copyOf(stamps, size);
+				values = Arrays.copyOf(values, size);
+			}
+		}
+	}
+
+	/* ======== Parser ======== */
+
+	/** Recursive descent parser producing the lambda tree directly. */
+	private static final class Parser {
+		private final String src;
+		private final Dag dag; // null = nothing shared
+		private int pos;
+
+		Parser(String src, Dag dag) {
+			if (src == null || src.trim().isEmpty()) {
+				throw new IllegalArgumentException("Empty expression");
+			}
+			this.src = src;
+			this.dag = dag;
+		}
+
+		/** The node for src[start, pos), shared with identical text compiled before. */
+		private Node share(int start, Node n) {
+			return dag == null ? n : dag.intern(normalize(src.substring(start, pos)), n);
+		}
+
+		/** Collapses whitespace outside quoted literals, so spacing does not defeat sharing. */
+		private static String normalize(String text) {
+			StringBuilder sb = new StringBuilder(text.length());
+			char quote = 0;
+			boolean space = false;
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (quote == 0 && Character.isWhitespace(c)) {
+					space = true;
+					continue;
+				}
+				if (space && sb.length() > 0) {
+					sb.append(' ');
+				}
+				space = false;
+				if (quote == 0 && (c == '\'' || c == '"')) {
+					quote = c;
+				} else if (c == quote) {
+					quote = 0;
+				}
+				sb.append(c);
+			}
+			return sb.toString();
+		}
+
+		Node or() {
+			int start = mark();
+			Node n = and();
+			boolean compound = false;
+			while (accept("||") || acceptWord("or")) {
+				Node l = n;
+				Node r = and();
+				n = f -> truthy(l.eval(f)) || truthy(r.eval(f));
+				compound = true;
+			}
+			return compound ? share(start, n) : n;
+		}
+
+		private Node and() {
+			int start = mark();
+			Node n = not();
+			boolean compound = false;
+			while (accept("&&") || acceptWord("and")) {
+				Node l = n;
+				Node r = not();
+				n = f -> truthy(l.eval(f)) && truthy(r.eval(f));
+				compound = true;
+			}
+			return compound ? share(start, n) : n;
+		}
+
+		private Node not() {
+			int start = mark();
+			if (accept("!") || acceptWord("not")) {
+				Node n = not();
+				return share(start, f -> !truthy(n.eval(f)));
+			}
+			return comparison();
+		}
+
+		private int mark() {
+			skipSpace();
+			return pos;
+		}
+
+		private Node comparison() {
+			int start = mark();
+			Node l = additive();
+			for (String op : new String[] { "==", "!=", "<=", ">=", "<", ">" }) {
+				if (accept(op)) {
+					Node r = additive();
+					return share(start, compare(l, r, op));
+				}
+			}
+			if (acceptWord("in")) {
+				expect("(");
+				Set<String> set = new HashSet<>();
+				do {
+					set.add(literalText());
+				} while (accept(","));
+				expect(")");
+				return share(start, f -> {
+					String v = text(l.eval(f));
+					return v != null && set.contains(v);
+				});
+			}
+			if (acceptWord("matches")) {
+				Pattern p = Pattern.compile(literalText());
+				return share(start, f -> {
+					String v = text(l.eval(f));
+					return v != null && p.matcher(v).find();
+				});
+			}
+			return l;
+		}
+
+		private Node additive() {
+			Node n = multiplicative();
+			while (true) {
+				if (accept("+")) {
+					n = arithmetic(n, multiplicative(), '+');
+				} else if (accept("-")) {
+					n = arithmetic(n, multiplicative(), '-');
+				} else {
+					return n;
+				}
+			}
+		}
+
+		private Node multiplicative() {
+			Node n = unary();
+			while (true) {
+				if (accept("*")) {
+					n = arithmetic(n, unary(), '*');
+				} else if (accept("/")) {
+					n = arithmetic(n, unary(), '/');
+				} else {
+					return n;
+				}
+			}
+		}
+
+		private Node unary() {
+			if (accept("-")) {
+				Node n = unary();
+				return f -> {
+					BigDecimal v = number(n.eval(f));
+					return v == null ? null : v.negate();
+				};
+			}
+			return primary();
+		}
+
+		private Node primary() {
+			skipSpace();
+			if (pos >= src.length()) {
+				throw error("Unexpected end");
+			}
+			char c = src.charAt(pos);
+			if (accept("(")) {
+				Node n = or();
+				expect(")");
+				return n;
+			}
+			if (c == '\'' || c == '"') {
+				String s = literalText();
+				return f -> s;
+			}
+			if (c >= '0' && c <= '9') {
+				int start = pos;
+				while (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) {
+					pos++;
+				}
+				BigDecimal d = new BigDecimal(src.substring(start, pos));
+				return f -> d;
+			}
+			int start = pos;
+			String name = identifier();
+			if (accept("(")) {
+				List<Node> args = new ArrayList<>();
+				if (!accept(")")) {
+					do {
+						args.add(or());
+					} while (accept(","));
+					expect(")");
+				}
+				return share(start, function(name, args));
+			}
+			switch (name) {
+			case "null":
+				return f -> null;
+			case "true":
+				return f -> Boolean.TRUE;
+			case "false":
+				return f -> Boolean.FALSE;
+			default:
+				return f -> f.get(name);
+			}
+		}
+
+		private Node function(String name, List<Node> args) {
+			Node[] a = args.toArray(new Node[0]);
+			switch (name) {
+			case "present":
+				arity(name, a, 1);
+				return f -> truthy(a[0].eval(f));
+			case "amount":
+				arity(name, a, 1);
+				return f -> number(a[0].eval(f));
+			case "length":
+				arity(name, a, 1);
+				return f -> {
+					String v = text(a[0].eval(f));
+					return v == null ? null : BigDecimal.valueOf(v.length());
+				};
+			case "coalesce":
+				return f -> {
+					for (Node n : a) {
+						Object v = n.eval(f);
+						if (truthy(v)) {
+							return v;
+						}
+					}
+					return null;
+				};
+			case "concat":
+				return f -> {
+					StringBuilder sb = new StringBuilder();
+					for (Node n : a) {
+						String v = text(n.eval(f));
+						if (v != null) {
+							sb.append(v);
+						}
+					}
+					return sb.length() == 0 ? null : sb.toString();
+				};
+			default:
+				throw error("Unknown function " + name);
+			}
+		}
+
+		private void arity(String name, Node[] args, int n) {
+			if (args.length != n) {
+				throw error(name + " takes " + n + " argument(s)");
+			}
+		}
+
+		private String identifier() {
+			skipSpace();
+			int start = pos;
+			while (pos < src.length()) {
+				char c = src.charAt(pos);
+				if (Character.isLetterOrDigit(c) || c == '.' || c == '_' || c == ':' || c == '[' || c == ']') {
+					pos++;
+				} else {
+					break;
+				}
+			}
+			if (start == pos) {
+				throw error("Expected field, literal or function");
+			}
+			return src.substring(start, pos);
+		}
+
+		private String literalText() {
+			skipSpace();
+			if (pos >= src.length()) {
+				throw error("Expected literal");
+			}
+			char q = src.charAt(pos);
+			if (q != '\'' && q != '"') {
+				return identifier();
+			}
+			int end = src.indexOf(q, pos + 1);
+			if (end < 0) {
+				throw error("Unterminated string");
+			}
+			String s = src.substring(pos + 1, end);
+			pos = end + 1;
+			return s;
+		}
+
+		private boolean peek(String token) {
+			skipSpace();
+			return src.startsWith(token, pos);
+		}
+
+		private boolean accept(String token) {
+			if (peek(token)) {
+				pos += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		/** Keyword match that does not swallow the start of a field name. */
+		private boolean acceptWord(String word) {
+			skipSpace();
+			int end = pos + word.length();
+			if (src.regionMatches(true, pos, word, 0, word.length())
+					&& (end == src.length() || !Character.isLetterOrDigit(src.charAt(end)))) {
+				pos = end;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(String token) {
+			if (!accept(token)) {
+				throw error("Expected '" + token + "'");
+			}
+		}
+
+		void expectEnd() {
+			skipSpace();
+			if (pos < src.length()) {
+				throw error("Unexpected '" + src.substring(pos) + "'");
+			}
+		}
+
+		private void skipSpace() {
+			while (pos < src.length() && Character.isWhitespace(src.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private IllegalArgumentException error(String msg) {
+			return new IllegalArgumentException(msg + " at " + pos + " in expression: " + src);
+		}
+	}
+}
@@ -0,0 +1,914 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic FIN messages for load and fuzz testing, built from an MtSchema
+ * (which fields exist, their format types and mtKeys) and a ValidationConfig
+ * (value domains, lengths, SWIFT formats).
+ *
+ * Every sample is parsed back with the schema's MtParser and checked with an
+ * MtValidator over the same config before it is handed out: valid samples
+ * pass it, and a sample carrying a {@link Defect} is guaranteed to fail it,
+ * so a corpus can be replayed with known expected outcomes. Drafts are shaped
+ * by the config's presence rules: a required key fixes the field option, and
+ * conditionalRequired and expression rules whose condition is a list of
+ * present / not present / value tests are applied while drafting (71F pulls
+ * in 33B, 71A OUR drops 71F). Candidates that still do not hold up (a rule
+ * too complex to apply, a defect the config does not catch) are redrawn,
+ * see {@link #redraws()}; a defect kind the config never catches (BAD_BIC
+ * without a format rule on any BIC) is no longer produced.
+ *
+ * The same schema, config and seed always produce the same sequence.
+ * Messages are produced one at a time, so {@link #stream()},
+ * {@link #generate} and {@link #writeRje} handle corpora of any size. Only
+ * the format types MtParser extracts are generated; fields of other types
+ * (timeIndication, clearingParty) and the MT202 COV "U" pseudo tags are
+ * left out. Not thread safe, use one generator (with its own seed) per
+ * thread.
+ */
+public class MtGenerator {
+
+	/** Controlled ways a sample is broken. */
+	public enum Defect {
+		/** A mandatory field is left out. */
+		MISSING_MANDATORY,
+		/** A value is longer than its length or SWIFT format allows. */
+		LENGTH_EXCEEDED,
+		/** A BIC is not a well formed BIC8/BIC11. */
+		BAD_BIC
+	}
+
+	private static final int VALID_ATTEMPTS = 1000;
+	private static final int DEFECT_ATTEMPTS = 1000;
+	private static final int SHAPE_PASSES = 4; // a rule applied can trigger another, e.g. 71F -> 33B -> 36
+	// tests of a condition that can be applied to a draft
+	private static final Pattern PRESENT = Pattern.compile("(?i)(not\\s+)?present\\(\\s*([\\w.]+)\\s*\\)");
+	private static final Pattern VALUE_IN = Pattern.compile("(?i)([\\w.]+)\\s+in\\s+\\((.*)\\)");
+	private static final Pattern VALUE_IS = Pattern.compile("([\\w.]+)\\s*==\\s*'([^']*)'");
+	private static final Pattern LITERAL = Pattern.compile("'([^']*)'");
+	// format types MtParser extracts
+	private static final List<String> GENERATED = Arrays.asList("simple", "dateCurrencyAmount", "currencyAmount",
+			"rate", "bicParty", "partyLines", "structuredParty", "accountParty", "freeTextLines", "regulatoryLines");
+	private static final String[] CURRENCIES = { "EUR", "EUR", "EUR", "USD", "USD", "GBP", "CHF", "JPY", "MAD",
+			"SEK", "CAD", "AUD" };
+	private static final String[] COUNTRIES = { "DE", "FR", "GB", "US", "CH", "MA", "ES", "IT", "NL", "BE", "JP",
+			"SE" };
+	private static final String[] NAMES = { "ACME TRADING LTD", "NORDIC PAPER AB", "CASA EXPORT SARL",
+			"GLOBAL FREIGHT GMBH", "HELIOS ENERGY SA", "BLUE RIVER FOODS", "ATLAS MOTORS PLC", "SAKURA TEXTILES KK",
+			"ALPINE MEDICAL AG", "PORTO WINES LDA" };
+	private static final String[] STREETS = { "14 HIGH STREET", "RUE DE LA PAIX 22", "HAUPTSTRASSE 5",
+			"AV MOHAMMED V 118", "1 MAIN ST", "VIA ROMA 10", "KUNGSGATAN 44" };
+	private static final String[] CITIES = { "LONDON", "PARIS", "FRANKFURT", "CASABLANCA", "NEW YORK", "MILANO",
+			"STOCKHOLM", "ZURICH", "TOKYO" };
+	private static final String[] TEXT = { "INVOICE 2024-118", "/RFB/PAYMENT OF GOODS", "SALARY OCTOBER",
+			"/INV/77120 77121", "ORDER 5531 DEPOSIT", "/CODTYPTR/001", "//CUSTOMER DEMAND DEPOSITS" };
+	private static final char[] ALNUM = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+	private static final char[] DIGITS = "0123456789".toCharArray();
+	private static final char[] LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+	private final String msgType; // "103", "202"
+	private final List<Field> block3 = new ArrayList<>();
+	private final List<List<Field>> block4 = new ArrayList<>(); // alternatives per tag, e.g. 50A/50F/50K
+	private final Map<String, Field> byKey = new HashMap<>(); // block 4 mtKey -> field
+	private final List<Shape> shapes = new ArrayList<>();
+	private final MtValidator validator; // null = samples are not checked
+	private final Function<String, Mt103ConfigDrivenParser.MtMessage> parser; // FIN -> fields for the validator
+	private final Map<String, List<String>> allowed = new HashMap<>();
+	private final Map<String, SwiftFormat> formats = new HashMap<>();
+	private final Map<String, int[]> lengths = new HashMap<>(); // min, max
+	private final Set<String> bounded = new HashSet<>(); // keys with a length, format or regex rule
+	private final SplittableRandom rnd;
+	private final String[] bics;
+
+	private double invalidShare = 0.1;
+	private double optionalShare = 0.35;
+	private long generated;
+	private long redraws;
+	private final Map<Defect, Long> defects = new EnumMap<>(Defect.class);
+	private final Set<Defect> undetectable = EnumSet.noneOf(Defect.class);
+
+	private MtGenerator(String messageType, List<Field> fields, ValidationConfig rules,
+			Function<String, Mt103ConfigDrivenParser.MtMessage> parser, long seed) {
+		this.msgType = messageType == null ? "103" : messageType.replaceAll("^MT(\\d{3}).*$", "$1");
+		this.parser = parser;
+		Map<String, List<Field>> byBase = new LinkedHashMap<>();
+		for (Field f : fields) {
+			if (f.block == 3) {
+				block3.add(f);
+			} else if (f.block == 4 && f.tag.matches("\\d{2,3}[A-Z]?") && GENERATED.contains(f.type)) {
+				byBase.computeIfAbsent(f.baseTag(), k -> new ArrayList<>()).add(f);
+			}
+		}
+		this.validator = rules == null ? null : new MtValidator(rules);
+		Set<String> required = new HashSet<>();
+		if (rules != null && rules.rules != null) {
+			for (ValidationRule r : rules.rules) {
+				if (r.type == null || r.mtKey == null && !"expression".equals(r.type)) {
+					continue;
+				}
+				switch (r.type) {
+				case "required":
+					required.add(r.mtKey);
+					break;
+				case "conditionalRequired":
+					if (r.whenMtKey != null) {
+						String when = "present(" + r.whenMtKey + ")";
+						addShape(Boolean.FALSE.equals(r.whenPresent) ? "not " + when : when, "present(" + r.mtKey + ")");
+					}
+					break;
+				case "expression":
+					addShape(r.when, r.condition);
+					break;
+				case "regex":
+					bounded.add(r.mtKey);
+					break;
+				case "allowedValues":
+					if (r.values != null && !r.values.isEmpty()) {
+						allowed.put(r.mtKey, r.values);
+					}
+					break;
+				case "swiftFormat":
+					formats.put(r.mtKey, SwiftFormat.compile(r.format));
+					bounded.add(r.mtKey);
+					break;
+				case "length":
+					lengths.put(r.mtKey, new int[] { r.min == null ? 1 : Math.max(1, r.min),
+							r.max == null ? 35 : r.max });
+					bounded.add(r.mtKey);
+					break;
+				default:
+					break;
+				}
+			}
+		}
+		for (List<Field> alternatives : byBase.values()) {
+			// a required key fixes the option, e.g. option-less 59 rather than 59A or 59F
+			List<Field> options = new ArrayList<>();
+			for (Field f : alternatives) {
+				if (!Collections.disjoint(f.components.values(), required)) {
+					f.required = true;
+					options.add(f);
+				}
+			}
+			List<Field> group = options.isEmpty() ? alternatives : options;
+			for (Field f : group) {
+				f.group = block4.size();
+				for (String key : f.components.values()) {
+					byKey.put(key, f);
+				}
+			}
+			block4.add(group);
+		}
+		this.rnd = new SplittableRandom(seed);
+		this.bics = new String[200]; // recurring counterparties
+		for (int i = 0; i < bics.length; i++) {
+			bics[i] = randomBic();
+		}
+	}
+
+	public static MtGenerator forMt103(Mt103ConfigDrivenParser.MtSchema schema, ValidationConfig rules, long seed) {
+		List<Field> fields = new ArrayList<>();
+		for (Mt103ConfigDrivenParser.FieldDef d : schema.fields) {
+			Field f = new Field(d.tag, d.option, d.block, d.mandatory, d.format == null ? null : d.format.type,
+					d.format == null ? null : d.format.maxLength);
+			if (d.components != null) {
+				for (Mt103ConfigDrivenParser.ComponentDef c : d.components) {
+					f.components.put(c.name, c.mtKey);
+				}
+			}
+			fields.add(f);
+		}
+		Mt103ConfigDrivenParser.MtParser parser = new Mt103ConfigDrivenParser.MtParser(schema);
+		return new MtGenerator(schema.messageType, fields, rules, parser::parse, seed);
+	}
+
+	public static MtGenerator forMt202(Mt202ConfigDrivenParser.MtSchema schema, ValidationConfig rules, long seed) {
+		List<Field> fields = new ArrayList<>();
+		for (Mt202ConfigDrivenParser.FieldDef d : schema.fields) {
+			Field f = new Field(d.tag, d.option, d.block, d.mandatory, d.format == null ? null : d.format.type,
+					d.format == null ? null : d.format.maxLength);
+			if (d.components != null) {
+				for (Mt202ConfigDrivenParser.ComponentDef c : d.components) {
+					f.components.put(c.name, c.mtKey);
+				}
+			}
+			fields.add(f);
+		}
+		Mt202ConfigDrivenParser.MtParser parser = new Mt202ConfigDrivenParser.MtParser(schema);
+		return new MtGenerator(schema.messageType, fields, rules, fin -> {
+			// MtValidator works on the MT103 message type; only the fields are needed
+			Mt103ConfigDrivenParser.MtMessage mt = new Mt103ConfigDrivenParser.MtMessage();
+			mt.fields = parser.parse(fin).fields;
+			return mt;
+		}, seed);
+	}
+
+	/**
+	 * Adds a rule the drafts are made to satisfy, unless its condition is more
+	 * than present / not present / value tests joined by "and".
+	 */
+	private void addShape(String when, String condition) {
+		if (condition == null || condition.trim().isEmpty()) {
+			return;
+		}
+		Shape s = new Shape(when == null || when.trim().isEmpty() ? null : MtExpression.compile(when),
+				MtExpression.compile(condition));
+		for (String test : condition.trim().split("(?i)\\s+and\\s+")) {
+			Matcher present = PRESENT.matcher(test);
+			Matcher in = VALUE_IN.matcher(test);
+			Matcher is = VALUE_IS.matcher(test);
+			if (present.matches()) {
+				(present.group(1) == null ? s.require : s.forbid).add(present.group(2));
+			} else if (in.matches()) {
+				List<String> values = new ArrayList<>();
+				for (Matcher lit = LITERAL.matcher(in.group(2)); lit.find();) {
+					values.add(lit.group(1));
+				}
+				if (values.isEmpty()) {
+					return;
+				}
+				s.values.put(in.group(1), values);
+			} else if (is.matches()) {
+				s.values.put(is.group(1), Collections.singletonList(is.group(2)));
+			} else {
+				return; // e.g. an "or" or an amount comparison: drafts breaking it are redrawn
+			}
+		}
+		shapes.add(s);
+	}
+
+	/** Share of samples carrying a defect, 0.1 by default. */
+	public MtGenerator invalidShare(double share) {
+		this.invalidShare = share;
+		return this;
+	}
+
+	/** Probability that an optional field is present, 0.35 by default. */
+	public MtGenerator optionalShare(double share) {
+		this.optionalShare = share;
+		return this;
+	}
+
+	/* ======== Output ======== */
+
+	public Sample next() {
+		Sample s = null;
+		if (rnd.nextDouble() < invalidShare) {
+			Defect d = Defect.values()[rnd.nextInt(Defect.values().length)];
+			for (int i = 0; i < Defect.values().length && s == null; i++) {
+				s = broken(Defect.values()[(d.ordinal() + i) % Defect.values().length]);
+			}
+		}
+		if (s == null) {
+			s = valid();
+		}
+		generated++;
+		if (s.defect != null) {
+			defects.merge(s.defect, 1L, Long::sum);
+		}
+		return s;
+	}
+
+	/** Endless, lazily generated samples. */
+	public Stream<Sample> stream() {
+		return Stream.generate(this::next);
+	}
+
+	/** Hands {@code count} samples to the sink, e.g. {@code s -> mq.enqueue("MT.IN", s.fin())}. */
+	public void generate(long count, Consumer<Sample> sink) {
+		for (long i = 0; i < count; i++) {
+			sink.accept(next());
+		}
+	}
+
+	/** Writes {@code count} FIN messages separated by '$' lines (RJE style). */
+	public void writeRje(Path file, long count) throws IOException {
+		try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+			writeRje(w, count);
+		}
+	}
+
+	public void writeRje(Writer out, long count) throws IOException {
+		for (long i = 0; i < count; i++) {
+			if (i > 0) {
+				out.write("\r\n$\r\n");
+			}
+			out.write(next().fin);
+		}
+	}
+
+	/* ======== Metrics ======== */
+
+	public long generated() {
+		return generated;
+	}
+
+	/** Candidates thrown away because they did not validate as intended. */
+	public long redraws() {
+		return redraws;
+	}
+
+	public long defects(Defect d) {
+		return defects.getOrDefault(d, 0L);
+	}
+
+	/* ======== Drawing messages ======== */
+
+	private Sample valid() {
+		for (int attempt = 0; attempt < VALID_ATTEMPTS; attempt++) {
+			String fin = draft().render(msgType);
+			if (isValid(fin)) {
+				return new Sample(fin, null, null);
+			}
+			redraws++;
+		}
+		throw new IllegalStateException("No valid MT" + msgType + " in " + VALID_ATTEMPTS
+				+ " attempts; the validation config rejects what the schema allows");
+	}
+
+	/** A sample with the defect that the validator rejects, null when none is found. */
+	private Sample broken(Defect defect) {
+		if (undetectable.contains(defect)) {
+			return null;
+		}
+		for (int attempt = 0; attempt < DEFECT_ATTEMPTS; attempt++) {
+			Draft m = draft();
+			if (!isValid(m.render(msgType))) {
+				redraws++;
+				continue; // the defect must be the only thing wrong
+			}
+			String detail = apply(defect, m);
+			String fin = m.render(msgType);
+			if (detail != null && (validator == null || !isValid(fin))) {
+				return new Sample(fin, defect, detail);
+			}
+			redraws++;
+		}
+		undetectable.add(defect); // the config does not catch it (or the schema has nothing to break)
+		return null;
+	}
+
+	/** Labels a rendered sample the way a consumer would see it: parsed, then validated. */
+	private boolean isValid(String fin) {
+		return validator == null || validator.validate(parser.apply(fin), MtValidator.Mode.FAIL_FAST).isValid();
+	}
+
+	/** Breaks the draft, returning what was broken, or null when the draft has nothing to break. */
+	private String apply(Defect defect, Draft m) {
+		switch (defect) {
+		case MISSING_MANDATORY: {
+			List<FieldValue> mandatory = new ArrayList<>();
+			for (FieldValue fv : m.block4) {
+				if (fv.field.mandatory) {
+					mandatory.add(fv);
+				}
+			}
+			if (mandatory.isEmpty()) {
+				return null;
+			}
+			FieldValue drop = mandatory.get(rnd.nextInt(mandatory.size()));
+			m.block4.remove(drop);
+			return drop.field.tag;
+		}
+		case LENGTH_EXCEEDED: {
+			List<String[]> candidates = new ArrayList<>(); // field index, component
+			for (int i = 0; i < m.block4.size(); i++) {
+				FieldValue fv = m.block4.get(i);
+				for (String name : fv.values.keySet()) {
+					String key = fv.field.components.get(name);
+					// MtParser clips simple fields and cuts date and currency by position, so those
+					// cannot carry an over-long value
+					if (checked(key) && !"simple".equals(fv.field.type) && !"date".equals(name)
+							&& !"ccy".equals(name)) {
+						candidates.add(new String[] { Integer.toString(i), name });
+					}
+				}
+			}
+			if (candidates.isEmpty()) {
+				return null;
+			}
+			String[] c = candidates.get(rnd.nextInt(candidates.size()));
+			FieldValue fv = m.block4.get(Integer.parseInt(c[0]));
+			String v = fv.values.get(c[1]);
+			String key = fv.field.components.get(c[1]);
+			boolean numeric = "amount".equals(c[1]) || "rate".equals(c[1]);
+			StringBuilder sb = new StringBuilder(v);
+			while (sb.length() <= Math.max(35, maxLength(key))) {
+				sb.insert(0, numeric ? (char) ('1' + rnd.nextInt(9)) : 'X');
+			}
+			fv.values.put(c[1], sb.toString());
+			return key;
+		}
+		case BAD_BIC: {
+			List<FieldValue> withBic = new ArrayList<>();
+			for (FieldValue fv : m.block4) {
+				if (fv.values.containsKey("bic") && checked(fv.field.components.get("bic"))) {
+					withBic.add(fv);
+				}
+			}
+			if (withBic.isEmpty()) {
+				return null;
+			}
+			FieldValue fv = withBic.get(rnd.nextInt(withBic.size()));
+			String bic = fv.values.get("bic");
+			char[] b = bic.toCharArray();
+			switch (rnd.nextInt(3)) {
+			case 0:
+				b[rnd.nextInt(6)] = DIGITS[rnd.nextInt(10)]; // bank or country code with a digit
+				fv.values.put("bic", new String(b));
+				break;
+			case 1:
+				fv.values.put("bic", bic.substring(0, 8) + "X"); // 9 characters
+				break;
+			default:
+				fv.values.put("bic", bic.substring(0, 6)); // truncated
+				break;
+			}
+			return fv.field.components.get("bic");
+		}
+		default:
+			return null;
+		}
+	}
+
+	/** Whether the config can notice a malformed value of the key. */
+	private boolean checked(String key) {
+		return validator == null || bounded.contains(key);
+	}
+
+	private int maxLength(String key) {
+		SwiftFormat f = formats.get(key);
+		int[] len = lengths.get(key);
+		int max = len == null ? 0 : len[1];
+		if (f != null) {
+			int n = 0;
+			for (char ch : f.notation().toCharArray()) {
+				n = Character.isDigit(ch) ? n * 10 + (ch - '0') : 0;
+				max = Math.max(max, n);
+			}
+		}
+		return max;
+	}
+
+	private Draft draft() {
+		Draft m = new Draft();
+		m.sender = bics[rnd.nextInt(bics.length)];
+		do {
+			m.receiver = bics[rnd.nextInt(bics.length)];
+		} while (m.receiver.equals(m.sender));
+		m.session = digits(4);
+		m.sequence = digits(6);
+		m.ccy = CURRENCIES[rnd.nextInt(CURRENCIES.length)];
+		for (Field f : block3) {
+			// UETR is mandatory on the network; the other block 3 tags are optional
+			if ("121".equals(f.tag) || f.mandatory || rnd.nextDouble() < optionalShare) {
+				m.block3.add(new FieldValue(f, block3Value(f)));
+			}
+		}
+		for (List<Field> alternatives : block4) {
+			boolean mandatory = false;
+			for (Field f : alternatives) {
+				mandatory |= f.mandatory || f.required;
+			}
+			if (!mandatory && rnd.nextDouble() >= optionalShare) {
+				continue;
+			}
+			Field f = alternatives.get(rnd.nextInt(alternatives.size()));
+			m.block4.add(new FieldValue(f, block4Values(f, m.ccy)));
+		}
+		shape(m);
+		return m;
+	}
+
+	/** Adds, drops or sets fields until the draft meets the shaping rules (or the passes run out). */
+	private void shape(Draft m) {
+		for (int pass = 0; pass < SHAPE_PASSES; pass++) {
+			boolean changed = false;
+			Map<String, String> fields = m.fields();
+			for (Shape s : shapes) {
+				if ((s.when == null || s.when.test(fields)) && !s.condition.test(fields)) {
+					boolean applied = false;
+					for (String key : s.forbid) {
+						applied |= forbid(m, key);
+					}
+					for (String key : s.require) {
+						applied |= require(m, key);
+					}
+					for (Map.Entry<String, List<String>> e : s.values.entrySet()) {
+						applied |= assign(m, e.getKey(), e.getValue());
+					}
+					if (applied) {
+						changed = true;
+						fields = m.fields();
+					}
+				}
+			}
+			if (!changed) {
+				return;
+			}
+		}
+	}
+
+	/** Drafts the field carrying the key, in place of another option of the same tag. */
+	private boolean require(Draft m, String key) {
+		Field f = byKey.get(key);
+		if (f == null) {
+			return false;
+		}
+		int at = m.block4.size();
+		for (int i = 0; i < m.block4.size(); i++) {
+			Field present = m.block4.get(i).field;
+			if (present == f) {
+				return false;
+			}
+			if (present.group == f.group) {
+				m.block4.set(i, new FieldValue(f, block4Values(f, m.ccy)));
+				return true;
+			}
+			if (present.group > f.group && at == m.block4.size()) {
+				at = i; // keep the tag order
+			}
+		}
+		m.block4.add(at, new FieldValue(f, block4Values(f, m.ccy)));
+		return true;
+	}
+
+	/** Replaces the field carrying the key with another option of the tag, or drops it. */
+	private boolean forbid(Draft m, String key) {
+		Field f = byKey.get(key);
+		for (int i = 0; f != null && i < m.block4.size(); i++) {
+			if (m.block4.get(i).field == f) {
+				List<Field> others = new ArrayList<>(block4.get(f.group));
+				others.remove(f);
+				if (others.isEmpty()) {
+					m.block4.remove(i);
+				} else {
+					Field other = others.get(rnd.nextInt(others.size()));
+					m.block4.set(i, new FieldValue(other, block4Values(other, m.ccy)));
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Gives the key one of the values when its field is drafted. */
+	private boolean assign(Draft m, String key, List<String> values) {
+		Field f = byKey.get(key);
+		for (FieldValue fv : m.block4) {
+			if (fv.field == f) {
+				for (Map.Entry<String, String> c : f.components.entrySet()) {
+					if (key.equals(c.getValue()) && !values.contains(fv.values.get(c.getKey()))) {
+						fv.values.put(c.getKey(), values.get(rnd.nextInt(values.size())));
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private Map<String, String> block3Value(Field f) {
+		Map<String, String> v = new LinkedHashMap<>();
+		String name = f.components.isEmpty() ? "value" : f.components.keySet().iterator().next();
+		switch (f.tag) {
+		case "121":
+			v.put(name, uuid());
+			break;
+		case "119":
+			v.put(name, "STP");
+			break;
+		case "111":
+			v.put(name, "001");
+			break;
+		case "113":
+			v.put(name, "00" + digits(2));
+			break;
+		default:
+			v.put(name, chars(ALNUM, f.maxLength == null ? 16 : Math.min(f.maxLength, 16)));
+			break;
+		}
+		return v;
+	}
+
+	/** Component values keyed by component name, as MtParser would extract them. */
+	private Map<String, String> block4Values(Field f, String ccy) {
+		Map<String, String> v = new LinkedHashMap<>();
+		switch (f.type) {
+		case "simple": {
+			String name = f.components.keySet().iterator().next();
+			v.put(name, simpleValue(f, f.components.get(name)));
+			break;
+		}
+		case "dateCurrencyAmount":
+			v.put("date", twoDigits(24 + rnd.nextInt(3)) + twoDigits(1 + rnd.nextInt(12))
+					+ twoDigits(1 + rnd.nextInt(28)));
+			v.put("ccy", ccy);
+			v.put("amount", amount(ccy, 7));
+			break;
+		case "currencyAmount": {
+			String c = rnd.nextInt(4) == 0 ? CURRENCIES[rnd.nextInt(CURRENCIES.length)] : ccy;
+			v.put("ccy", c);
+			v.put("amount", amount(c, 3));
+			break;
+		}
+		case "rate":
+			v.put("rate", "0," + digits(4));
+			break;
+		case "bicParty":
+			if (f.components.containsKey("account") && rnd.nextBoolean()) {
+				v.put("account", accountNumber());
+			}
+			v.put("bic", bics[rnd.nextInt(bics.length)]);
+			break;
+		case "accountParty":
+			v.put("account", accountNumber());
+			v.put("name", NAMES[rnd.nextInt(NAMES.length)]);
+			break;
+		case "partyLines":
+		case "structuredParty":
+			if (f.components.containsKey("account") && rnd.nextBoolean()) {
+				v.put("account", accountNumber());
+			}
+			v.put("name", NAMES[rnd.nextInt(NAMES.length)]);
+			int addresses = rnd.nextInt(3);
+			if (addresses > 0) {
+				v.put("address0", STREETS[rnd.nextInt(STREETS.length)]);
+			}
+			if (addresses > 1) {
+				v.put("address1", CITIES[rnd.nextInt(CITIES.length)]);
+			}
+			break;
+		case "freeTextLines":
+		case "regulatoryLines": {
+			int lines = 1 + rnd.nextInt(Math.max(1, Math.min(3, f.components.size())));
+			for (int i = 0; i < lines; i++) {
+				v.put("line" + i, TEXT[rnd.nextInt(TEXT.length)]);
+			}
+			break;
+		}
+		default:
+			break;
+		}
+		return v;
+	}
+
+	private String simpleValue(Field f, String key) {
+		List<String> values = allowed.get(key);
+		if (values != null) {
+			return values.get(rnd.nextInt(values.size()));
+		}
+		SwiftFormat format = formats.get(key);
+		if (format != null) {
+			return format.sample(rnd);
+		}
+		int[] len = lengths.get(key);
+		int max = f.maxLength != null ? f.maxLength : 16;
+		int min = 1;
+		if (len != null) {
+			min = Math.min(len[0], max);
+			max = Math.min(len[1], max);
+		}
+		return chars(ALNUM, min + rnd.nextInt(max - min + 1));
+	}
+
+	/** Amount with the currency's decimals and a comma, at most 10^magnitude. */
+	private String amount(String ccy, int magnitude) {
+		long units = 1 + (long) Math.pow(10, rnd.nextDouble() * magnitude);
+		int decimals = Math.max(0, MtAmount.decimals(ccy));
+		StringBuilder sb = new StringBuilder().append(units).append(',');
+		if (decimals > 0 && rnd.nextInt(3) > 0) {
+			sb.append(digits(decimals));
+		}
+		return sb.toString();
+	}
+
+	private String accountNumber() {
+		return rnd.nextBoolean() ? COUNTRIES[rnd.nextInt(COUNTRIES.length)] + digits(2) + chars(ALNUM, 18)
+				: digits(10 + rnd.nextInt(14));
+	}
+
+	private String randomBic() {
+		String bic = chars(LETTERS, 4) + COUNTRIES[rnd.nextInt(COUNTRIES.length)] + chars(ALNUM, 2);
+		return rnd.nextInt(3) == 0 ? bic + chars(ALNUM, 3) : bic;
+	}
+
+	/** Version 4 UUID from the seeded generator. */
+	private String uuid() {
+		String hex = Long.toHexString(rnd.nextLong() | Long.MIN_VALUE).substring(1)
+				+ Long.toHexString(rnd.nextLong() | Long.MIN_VALUE).substring(1);
+		// 30 random hex digits, plus the version and variant nibbles
+		return hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-4" + hex.substring(12, 15) + "-"
+				+ "89ab".charAt(rnd.nextInt(4)) + hex.substring(15, 18) + "-" + hex.substring(18, 30);
+	}
+
+	private static String twoDigits(int n) {
+		return n < 10 ? "0" + n : Integer.toString(n);
+	}
+
+	private String digits(int n) {
+		return chars(DIGITS, n);
+	}
+
+	private String chars(char[] alphabet, int n) {
+		char[] out = new char[n];
+		for (int i = 0; i < n; i++) {
+			out[i] = alphabet[rnd.nextInt(alphabet.length)];
+		}
+		return new String(out);
+	}
+
+	/* ======== Model ======== */
+
+	/** One generated message; defect is null for a valid one. */
+	public static final class Sample {
+		private final String fin;
+		private final Defect defect;
+		private final String detail;
+
+		Sample(String fin, Defect defect, String detail) {
+			this.fin = fin;
+			this.defect = defect;
+			this.detail = detail;
+		}
+
+		public String fin() {
+			return fin;
+		}
+
+		public boolean isValid() {
+			return defect == null;
+		}
+
+		public Defect defect() {
+			return defect;
+		}
+
+		/** Tag or mtKey the defect was applied to. */
+		public String detail() {
+			return detail;
+		}
+
+		@Override
+		public String toString() {
+			return defect == null ? fin : defect + " (" + detail + ")\n" + fin;
+		}
+	}
+
+	/** Schema field, independent of the MT103 and MT202 schema classes. */
+	private static final class Field {
+		final String tag;
+		final String option;
+		final int block;
+		final boolean mandatory;
+		final String type;
+		final Integer maxLength;
+		final Map<String, String> components = new LinkedHashMap<>(); // name -> mtKey
+		int group; // index of its tag in block4
+		boolean required; // carries a key of a required rule
+
+		Field(String tag, String option, int block, boolean mandatory, String type, Integer maxLength) {
+			this.tag = tag;
+			this.option = option;
+			this.block = block;
+			this.mandatory = mandatory;
+			this.type = type;
+			this.maxLength = maxLength;
+		}
+
+		/** "50" for 50A, 50F and 50K, so only one option is generated. */
+		String baseTag() {
+			return option != null && tag.length() > option.length() && tag.endsWith(option)
+					? tag.substring(0, tag.length() - option.length())
+					: tag;
+		}
+	}
+
+	/** A presence or value rule applied while drafting: when it holds, the condition is made to hold. */
+	private static final class Shape {
+		final MtExpression when; // null = always
+		final MtExpression condition;
+		final List<String> require = new ArrayList<>();
+		final List<String> forbid = new ArrayList<>();
+		final Map<String, List<String>> values = new LinkedHashMap<>();
+
+		Shape(MtExpression when, MtExpression condition) {
+			this.when = when;
+			this.condition = condition;
+		}
+	}
+
+	private static final class FieldValue {
+		final Field field;
+		final Map<String, String> values; // component name -> value as written
+
+		FieldValue(Field field, Map<String, String> values) {
+			this.field = field;
+			this.values = values;
+		}
+	}
+
+	/** Message under construction, rendered to FIN. */
+	private static final class Draft {
+		String sender;
+		String receiver;
+		String session;
+		String sequence;
+		String ccy; // of 32A, and of 33B and the charges most of the time
+		final List<FieldValue> block3 = new ArrayList<>();
+		final List<FieldValue> block4 = new ArrayList<>();
+
+		String render(String msgType) {
+			StringBuilder sb = new StringBuilder(512);
+			sb.append("{1:F01").append(lt(sender)).append(session).append(sequence).append('}');
+			sb.append("{2:I").append(msgType).append(lt(receiver)).append("N}");
+			if (!block3.isEmpty()) {
+				sb.append("{3:");
+				for (FieldValue fv : block3) {
+					sb.append('{').append(fv.field.tag).append(':').append(fv.values.values().iterator().next())
+							.append('}');
+				}
+				sb.append('}');
+			}
+			sb.append("{4:\r\n");
+			for (FieldValue fv : block4) {
+				sb.append(':').append(fv.field.tag).append(':').append(raw(fv)).append("\r\n");
+			}
+			return sb.append("-}").toString();
+		}
+
+		/** Field content as written after ":tag:". */
+		private static String raw(FieldValue fv) {
+			Map<String, String> v = fv.values;
+			switch (fv.field.type) {
+			case "dateCurrencyAmount":
+				return nz(v.get("date")) + nz(v.get("ccy")) + nz(v.get("amount"));
+			case "currencyAmount":
+				return nz(v.get("ccy")) + nz(v.get("amount"));
+			case "bicParty":
+			case "accountParty":
+			case "partyLines":
+			case "structuredParty": {
+				StringBuilder sb = new StringBuilder();
+				if (v.containsKey("account")) {
+					sb.append('/').append(v.get("account"));
+				}
+				for (Map.Entry<String, String> e : v.entrySet()) {
+					if (!"account".equals(e.getKey())) {
+						sb.append(sb.length() > 0 ? "\r\n" : "").append(e.getValue());
+					}
+				}
+				return sb.toString();
+			}
+			default:
+				return String.join("\r\n", v.values());
+			}
+		}
+
+		/** Block 4 values by mtKey, amounts with a decimal point, for the shaping rules. */
+		Map<String, String> fields() {
+			Map<String, String> out = new HashMap<>();
+			for (FieldValue fv : block4) {
+				for (Map.Entry<String, String> e : fv.values.entrySet()) {
+					String key = fv.field.components.get(e.getKey());
+					if (key != null) {
+						out.put(key, "amount".equals(e.getKey()) ? e.getValue().replace(',', '.') : e.getValue());
+					}
+				}
+			}
+			return out;
+		}
+
+		private static String nz(String s) {
+			return s == null ? "" : s;
+		}
+
+		/** Logical terminal address: BIC8, terminal code, branch. */
+		private static String lt(String bic) {
+			return bic.substring(0, 8) + "A" + (bic.length() == 11 ? bic.substring(8) : "XXX");
+		}
+	}
+}
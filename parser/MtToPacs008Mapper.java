@@ -1,20 +1,25 @@
 package com.karan.swifttranslator.custom.parser;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -22,85 +27,197 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
 import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.exc.StreamReadException;
-import com.fasterxml.jackson.databind.DatabindException;
 // File: MtToPacs008Mapper.java
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class MtToPacs008Mapper {
 
-	/* ======== Config model ======== */
-
-	public static class MappingConfig {
-		public List<MappingRule> mappings;
-	}
-
-	public static class MappingRule {
-		public String mtKey; // e.g. "b4.32A.amount"
-		public String mxPath; // e.g. "CdtTrfTxInf.IntrBkSttlmAmt@Ccy"
-		public String transform; // e.g. write custom logic
-		public String value; // in case of mtKey constant
-		public String format; // e.g. regex or date format
-		public String action; // e.g. Action if any like trim
-		public Map<String, String> params; // in case of date format - {"from":"yyMMdd","to":"yyyy-MM-dd"}|| subString
-											// {"start":"0","end":"4"}
-	}
-
 	/* ======== Mapper ======== */
 
+	/**
+	 * pacs.008 facade over {@link MxMappingEngine}: the compiled plan is cached
+	 * per config, so creating a mapper per message is cheap.
+	 */
 	public static class JsonDrivenMapper {
-		private final MappingConfig config;
+		private static final String NS = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
+		private static final String ROOT = "FIToFICstmrCdtTrf";
+		private static final int STREAM_BUFFER = 8192;
+
+		private final MxMappingEngine.Plan plan;
+		private final MxSchemaValidator schemaValidator; // null = no output validation
 
 		public JsonDrivenMapper(MappingConfig config) {
-			this.config = config;
+			this(config, null);
+		}
+
+		/**
+		 * With a validator every writeTo / mapToBytes output is checked against
+		 * the XSD before it is written; violations raise SchemaViolationException.
+		 */
+		public JsonDrivenMapper(MappingConfig config, MxSchemaValidator schemaValidator) {
+			this.plan = MxMappingEngine.plan(NS, ROOT, config);
+			this.schemaValidator = schemaValidator;
 		}
 
 		public Document map(Mt103ConfigDrivenParser.MtMessage mt) throws Exception {
-			// 1) Create empty pacs.008 Document / FIToFICstmrCdtTrf root
-			DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-			dbf.setNamespaceAware(true);
-			DocumentBuilder db = dbf.newDocumentBuilder();
-			Document doc = db.newDocument();
-
-			String NS = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
-			Element root = doc.createElementNS(NS, "Document");
-			doc.appendChild(root);
-			Element fiToFi = doc.createElementNS(NS, "FIToFICstmrCdtTrf");
-			root.appendChild(fiToFi);
-
-			// 2) Apply all mapping rules
-			for (MappingRule r : config.mappings) {
-				String value = mt.fields.get(r.mtKey);
-
-				if (r.mtKey.startsWith("CONSTANT:")) {
-					value = r.value;
-				}
+			return plan.map(mt.fields);
+		}
 
-				if (value == null || value.isEmpty()) {
-					if (!"DUMMY".equalsIgnoreCase(r.value)) {
-						continue;
-					}
-					if ("DUMMY".equalsIgnoreCase(r.value)) {
-						value = "DUMMY";
-					}
-				}
+		/**
+		 * Same output as {@link #map} but rendered through the pre-compiled
+		 * template: constant subtrees are copied as pre-encoded bytes and only the
+		 * per-message values are escaped and encoded.
+		 */
+		public byte[] mapToBytes(Mt103ConfigDrivenParser.MtMessage mt) {
+			XmlByteWriter out = new XmlByteWriter();
+			writeTo(mt, out);
+			return out.toByteArray();
+		}
 
-				if (r.transform != null) {
-					value = applyTransform(r.transform, value, r);
-					if (value == null || value.isEmpty()) {
-						continue;
-					}
+		/** Streams the UTF-8 document into {@code out}; the stream is not closed. */
+		public void writeTo(Mt103ConfigDrivenParser.MtMessage mt, OutputStream out) throws IOException {
+			try {
+				XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		public void writeTo(Mt103ConfigDrivenParser.MtMessage mt, WritableByteChannel out) throws IOException {
+			try {
+				XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		/**
+		 * Writes into a caller supplied (e.g. pooled) buffer starting at its
+		 * position and returns the number of bytes written. Throws
+		 * BufferOverflowException when the document does not fit.
+		 */
+		public int writeTo(Mt103ConfigDrivenParser.MtMessage mt, ByteBuffer out) {
+			XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER);
+			writeTo(mt, w);
+			w.flush();
+			return (int) w.count();
+		}
+
+		public void writeTo(Mt103ConfigDrivenParser.MtMessage mt, XmlByteWriter out) {
+			if (schemaValidator == null) {
+				plan.writeTo(mt.fields, out);
+				return;
+			}
+			List<String> errors = plan.writeValidated(mt.fields, out, schemaValidator);
+			if (!errors.isEmpty()) {
+				throw new MxSchemaValidator.SchemaViolationException(errors);
+			}
+		}
+
+		/* ---------- Output profiles ---------- */
+
+		/**
+		 * Template output shaped by {@code profile}: the bytes go through the
+		 * profile's gzip/deflate stream. Template output is never indented,
+		 * declares the namespace once and has no empty elements other than [n]
+		 * padding, which is kept so the output maps back with MxToMtMapper; the
+		 * indent and pruneEmpty flags only matter for DOM output.
+		 */
+		public void writeTo(Mt103ConfigDrivenParser.MtMessage mt, OutputStream out, MxOutputProfile profile)
+				throws IOException {
+			try {
+				OutputStream o = profile.open(out);
+				XmlByteWriter w = new XmlByteWriter(o, STREAM_BUFFER);
+				writeTo(mt, w);
+				w.flush();
+				profile.finish(o);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		public byte[] mapToBytes(Mt103ConfigDrivenParser.MtMessage mt, MxOutputProfile profile) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+			writeTo(mt, out, profile);
+			return out.toByteArray();
+		}
+
+		/* ---------- Resolved snapshots ---------- */
+
+		/**
+		 * Resolved, schema checked values of the message for repeated rendering
+		 * with {@link #writeSnapshot}, see {@link CachingTranslator}.
+		 */
+		public String[] snapshot(Mt103ConfigDrivenParser.MtMessage mt) {
+			String[] values = plan.snapshot(mt.fields);
+			if (schemaValidator != null) {
+				List<String> errors = plan.validateSnapshot(values, schemaValidator);
+				if (!errors.isEmpty()) {
+					throw new MxSchemaValidator.SchemaViolationException(errors);
 				}
+			}
+			return values;
+		}
+
+		/** Renders a snapshot with a fresh CreDtTm (and other clock based values). */
+		public void writeSnapshot(String[] values, XmlByteWriter out) {
+			plan.writeSnapshot(values, out);
+		}
 
-				applyPath(doc, fiToFi, r.mxPath, value);
+		/* ---------- Exclusive C14N output (for signing) ---------- */
+
+		/** Exclusive XML Canonicalization form of the message. */
+		public byte[] mapToCanonicalBytes(Mt103ConfigDrivenParser.MtMessage mt) {
+			XmlByteWriter out = new XmlByteWriter();
+			writeCanonical(mt, out);
+			return out.toByteArray();
+		}
+
+		/**
+		 * Streams the canonical form into {@code out} and returns the SHA-256
+		 * digest of exactly those bytes, computed while they are written.
+		 */
+		public byte[] writeCanonical(Mt103ConfigDrivenParser.MtMessage mt, OutputStream out) throws IOException {
+			try {
+				XmlByteWriter w = new XmlByteWriter(out, STREAM_BUFFER).digest(sha256());
+				writeCanonical(mt, w);
+				return w.finishDigest();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		public void writeCanonical(Mt103ConfigDrivenParser.MtMessage mt, XmlByteWriter out) {
+			if (schemaValidator == null) {
+				plan.writeCanonical(mt.fields, out);
+				return;
 			}
+			List<String> errors = plan.writeCanonicalValidated(mt.fields, out, schemaValidator);
+			if (!errors.isEmpty()) {
+				throw new MxSchemaValidator.SchemaViolationException(errors);
+			}
+		}
+
+		private static MessageDigest sha256() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("SHA-256 not available", e);
+			}
+		}
+
+		/** Opt-in per-rule hit / skip / timing counters, see {@link MappingProfiler#report}. */
+		public MappingProfiler enableProfiling() {
+			return plan.enableProfiling();
+		}
 
-			return doc;
+		public void disableProfiling() {
+			plan.disableProfiling();
 		}
 
 		/**
@@ -108,156 +225,278 @@ public class MtToPacs008Mapper {
 		 * @return
 		 */
 		public String getChargeBearer(String value) {
-			switch (value) {
-			case "OUR":
-				value = "DEBT";
-				break;
-			case "BEN":
-				value = "CRED";
-				break;
-			case "SHA":
-				value = "SHAR";
-				break;
-			default:
-				;
-				break;
-			}
-			return value;
+			return MxTransforms.chargeBearer(value);
 		}
+	}
 
-		private void applyPath(Document doc, Element parent, String path, String value) {
-			// Support @attribute and simple [index] arrays
-			String[] parts = path.split("\\.");
+	/* ======== Cached FIN -> pacs.008 translation ======== */
 
-			Element current = parent;
-			for (int i = 0; i < parts.length; i++) {
-				String part = parts[i];
+	/**
+	 * Full parse, validate, map pipeline for raw FIN MT103s with a
+	 * {@link TranslationCache} in front: a byte-identical message seen before
+	 * under the same config version is rendered from its cached snapshot, only
+	 * CreDtTm is taken fresh. Messages failing MT validation are not cached.
+	 *
+	 * With {@link #rejectDuplicates} every message is parsed and checked
+	 * against a DuplicateIndex before the cache, since a retransmission is
+	 * exactly what the cache would otherwise serve.
+	 *
+	 * Thread safe when the parser, validator and cache are; the cache may be
+	 * shared between translators as long as their versions differ.
+	 */
+	public static class CachingTranslator {
+		private final Mt103ConfigDrivenParser.MtParser parser;
+		private final MtValidator validator; // null = no MT validation, or taken from registry
+		private final ValidationRegistry registry; // null = fixed validator
+		private final String messageType;
+		private final JsonDrivenMapper mapper;
+		private final TranslationCache<String[]> cache;
+		private final String version;
+		private volatile Keyed keyed; // cache version for the registry's current snapshot
+		private volatile DuplicateIndex duplicates; // null = no duplicate check
 
-				// attribute on current element
-				if (part.contains("@")) {
-					String[] pe = part.split("@", 2);
-					String elemName = pe[0];
-					String attrName = pe[1];
+		/**
+		 * @param configVersion identifies the schema, validation and mapping
+		 *                      configs; change it whenever one of them changes
+		 */
+		public CachingTranslator(Mt103ConfigDrivenParser.MtParser parser, MtValidator validator,
+				JsonDrivenMapper mapper, TranslationCache<String[]> cache, String configVersion) {
+			this(parser, validator, null, null, mapper, cache, configVersion);
+		}
 
-					if (!elemName.isEmpty()) {
-						current = ensureChild(doc, current, elemName, 0);
-					}
-					current.setAttribute(attrName, value);
-					return;
-				}
+		/**
+		 * Validates with the registry's current rules for messageType. The rules'
+		 * version is part of the cache key, so a reload never serves translations
+		 * validated under the old rules.
+		 *
+		 * @param configVersion identifies the schema and mapping configs
+		 */
+		public CachingTranslator(Mt103ConfigDrivenParser.MtParser parser, ValidationRegistry registry,
+				String messageType, JsonDrivenMapper mapper, TranslationCache<String[]> cache,
+				String configVersion) {
+			this(parser, null, registry, messageType, mapper, cache, configVersion);
+			registry.current(messageType); // fail early when not registered
+		}
 
-				// list index: Name[0]
-				int idx = 0;
-				String elemName = part;
-				int bracket = part.indexOf('[');
-				if (bracket >= 0 && part.endsWith("]")) {
-					elemName = part.substring(0, bracket);
-					String sIdx = part.substring(bracket + 1, part.length() - 1);
-					idx = Integer.parseInt(sIdx);
-				}
+		private CachingTranslator(Mt103ConfigDrivenParser.MtParser parser, MtValidator validator,
+				ValidationRegistry registry, String messageType, JsonDrivenMapper mapper,
+				TranslationCache<String[]> cache, String configVersion) {
+			this.parser = parser;
+			this.validator = validator;
+			this.registry = registry;
+			this.messageType = messageType;
+			this.mapper = mapper;
+			this.cache = cache;
+			this.version = configVersion;
+		}
+
+		/**
+		 * Rejects messages whose UETR or business fields the index has seen within
+		 * its window with DuplicateIndex.DuplicateException. A message that then
+		 * fails validation or mapping is removed from the index again, so its
+		 * repaired resubmission goes through.
+		 */
+		public CachingTranslator rejectDuplicates(DuplicateIndex index) {
+			this.duplicates = index;
+			return this;
+		}
 
-				// last segment -> set text
-				if (i == parts.length - 1) {
-					Element child = ensureChild(doc, current, elemName, idx);
-					child.setTextContent(value);
-				} else {
-					current = ensureChild(doc, current, elemName, idx);
+		/**
+		 * pacs.008 bytes for the FIN message. Throws MtValidator.ValidationException
+		 * on MT validation errors, SchemaViolationException on output validation
+		 * errors and DuplicateIndex.DuplicateException on duplicates.
+		 */
+		public byte[] translate(String fin) {
+			MtValidator v = validator;
+			String key = version;
+			if (registry != null) {
+				Keyed k = keyed(registry.current(messageType));
+				v = k.config.validator();
+				key = k.key;
+			}
+			DuplicateIndex dup = duplicates;
+			String[] values;
+			if (dup == null) {
+				values = cache.get(fin, key);
+				if (values == null) {
+					values = snapshot(parser.parse(fin), v);
+					cache.put(fin, key, values);
+				}
+			} else {
+				Mt103ConfigDrivenParser.MtMessage mt = parser.parse(fin);
+				DuplicateIndex.Match match = dup.checkAndRecord(mt.fields);
+				if (match != DuplicateIndex.Match.NONE) {
+					throw new DuplicateIndex.DuplicateException(match, mt.fields.get("b4.20"));
+				}
+				try {
+					values = cache.get(fin, key);
+					if (values == null) {
+						values = snapshot(mt, v);
+						cache.put(fin, key, values);
+					}
+				} catch (RuntimeException e) {
+					dup.forget(mt.fields);
+					throw e;
 				}
 			}
+			XmlByteWriter out = new XmlByteWriter();
+			mapper.writeSnapshot(values, out);
+			return out.toByteArray();
 		}
 
-		private Element ensureChild(Document doc, Element parent, String name, int index) {
-			NodeList existing = parent.getElementsByTagNameNS(parent.getNamespaceURI(), name);
-			// Filter only direct children of this parent
-			List<Element> direct = new ArrayList<>();
-			for (int i = 0; i < existing.getLength(); i++) {
-				Node n = existing.item(i);
-				if (n.getParentNode() == parent) {
-					direct.add((Element) n);
-				}
+		private Keyed keyed(ValidationRegistry.Snapshot config) {
+			Keyed k = keyed;
+			if (k == null || k.config != config) {
+				k = new Keyed(config, version + "/" + config.tag());
+				keyed = k;
 			}
-			while (direct.size() <= index) {
-				Element e = doc.createElementNS(parent.getNamespaceURI(), name);
-				parent.appendChild(e);
-				direct.add(e);
+			return k;
+		}
+
+		private String[] snapshot(Mt103ConfigDrivenParser.MtMessage mt, MtValidator validator) {
+			if (validator != null) {
+				List<String> errors = validator.validate(mt);
+				if (!errors.isEmpty()) {
+					throw new MtValidator.ValidationException(errors);
+				}
 			}
-			return direct.get(index);
+			return mapper.snapshot(mt);
 		}
 
-		private String applyTransform(String name, String value, MappingRule rule) {
-			if (value == null)
-				return null;
-			switch (name) {
-			case "mapChargeBearer":
-				return getChargeBearer(value);
+		public TranslationCache<String[]> cache() {
+			return cache;
+		}
 
-			case "numericNormalize":
-				return value.replace(",", ".");
+		private static final class Keyed {
+			final ValidationRegistry.Snapshot config;
+			final String key;
 
-			case "trim":
-				return value.trim();
+			Keyed(ValidationRegistry.Snapshot config, String key) {
+				this.config = config;
+				this.key = key;
+			}
+		}
+	}
 
-			case "upper":
-				return value.toUpperCase(Locale.ROOT);
+	/* ======== Bulk mode: many MT103 -> one pacs.008 per group ======== */
 
-			case "lower":
-				return value.toLowerCase(Locale.ROOT);
+	/**
+	 * Groups parsed MT103s by settlement date, currency and instructed agent and
+	 * emits one FIToFICstmrCdtTrf per group with one CdtTrfTxInf per MT103.
+	 * GrpHdr is taken from the first message of the group, NbOfTxs and CtrlSum
+	 * are computed. A group is emitted as soon as it reaches maxTransactions,
+	 * the rest on {@link #flush}; only resolved values are buffered, not
+	 * documents.
+	 *
+	 * Not thread safe, use one assembler per input stream.
+	 */
+	public static class BulkAssembler {
+		private static final String[] DEFAULT_GROUP_KEYS = { "b4.32A.date", "b4.32A.ccy", "b2.receiverBic" };
+		private static final String AMOUNT_KEY = "b4.32A.amount";
+
+		private final MxMappingEngine.Plan plan;
+		private final MxMappingEngine.BulkPlan bulk;
+		private final MxSchemaValidator schemaValidator;
+		private final String[] groupKeys;
+		private final int maxTransactions;
+		private final Map<List<String>, Batch> open = new LinkedHashMap<>();
+		private long rejected;
+
+		public BulkAssembler(JsonDrivenMapper mapper, int maxTransactions) {
+			this(mapper, maxTransactions, DEFAULT_GROUP_KEYS);
+		}
 
-			case "substring":
-				return substringTransform(value, rule.params);
+		/** @param groupKeys mtKeys whose values form the grouping key */
+		public BulkAssembler(JsonDrivenMapper mapper, int maxTransactions, String... groupKeys) {
+			if (maxTransactions < 1) {
+				throw new IllegalArgumentException("maxTransactions must be >= 1");
+			}
+			this.plan = mapper.plan;
+			this.bulk = plan.bulkPlan();
+			this.schemaValidator = mapper.schemaValidator;
+			this.groupKeys = groupKeys.clone();
+			this.maxTransactions = maxTransactions;
+		}
 
-			case "dateFormat":
-				return dateFormatTransform(value, rule.params);
+		/**
+		 * Maps the whole stream and returns one pacs.008 per group; messages with
+		 * a malformed amount are left out, see {@link #rejected()}.
+		 */
+		public List<byte[]> assemble(Stream<Mt103ConfigDrivenParser.MtMessage> mts) {
+			List<byte[]> out = new ArrayList<>();
+			mts.forEachOrdered(mt -> add(mt, out::add));
+			flush(out::add);
+			return out;
+		}
 
-			case "joinLines":
-				// for mtKey that is a list, you can adjust your parser to store joined value
-				return value.trim();
-			default:
-				return value;
+		/**
+		 * Adds the message to its group. Returns false and leaves it out when its
+		 * 32A amount is malformed or negative, so one bad message does not abort
+		 * the group.
+		 */
+		public boolean add(Mt103ConfigDrivenParser.MtMessage mt, Consumer<byte[]> sink) {
+			String amount = mt.fields.get(AMOUNT_KEY);
+			BigDecimal value = BigDecimal.ZERO;
+			if (amount != null && !amount.isEmpty()) {
+				int scale = MtAmount.scaleOf(amount);
+				long units = scale < 0 ? MtAmount.MALFORMED : MtAmount.parse(amount, scale);
+				if (units < 0) { // MALFORMED is negative too
+					rejected++;
+					return false;
+				}
+				value = BigDecimal.valueOf(units, scale);
+			}
+			List<String> key = new ArrayList<>(groupKeys.length);
+			for (String k : groupKeys) {
+				key.add(mt.fields.get(k));
 			}
+			Batch b = open.computeIfAbsent(key, k -> new Batch());
+			b.add(plan.resolveValues(mt.fields, bulk.template, bulk.ruleSlots), value);
+			if (b.rows.size() >= maxTransactions) {
+				open.remove(key);
+				sink.accept(render(b));
+			}
+			return true;
+		}
+
+		/** Messages left out because of a malformed amount. */
+		public long rejected() {
+			return rejected;
 		}
 
-		private String substringTransform(String value, Map<String, String> params) {
-			if (params == null)
-				return value;
-			int start = Integer.parseInt(params.getOrDefault("start", "0"));
-			String endStr = params.get("end");
-			int end = (endStr != null) ? Integer.parseInt(endStr) : value.length();
-			if (start < 0)
-				start = 0;
-			if (end > value.length())
-				end = value.length();
-			if (start >= end)
-				return "";
-			return value.substring(start, end);
-		}
-
-		private String dateFormatTransform(String value, Map<String, String> params) {
-			if (params == null)
-				return value;
-			// adding type to identify format
-			if (params.get("type") != null) {
-				String format = params.getOrDefault("format", "YYYY-MM-DDTHH:MM:SS");
-				String timezone = params.getOrDefault("timezone", "GMT");
-
-				ZonedDateTime zdt = ZonedDateTime.now(ZoneId.of(timezone));
-				DateTimeFormatter fmt = DateTimeFormatter.ofPattern(format);
-
-				return zdt.format(fmt);
+		/** Emits all open groups in first-seen order. */
+		public void flush(Consumer<byte[]> sink) {
+			for (Batch b : open.values()) {
+				sink.accept(render(b));
 			}
-			String from = params.getOrDefault("from", "yyyyMMdd");
-			String to = params.getOrDefault("to", "yyyy-MM-dd");
-			try {
-				java.time.format.DateTimeFormatter in = java.time.format.DateTimeFormatter.ofPattern(from);
-				java.time.format.DateTimeFormatter out = java.time.format.DateTimeFormatter.ofPattern(to);
-				// you can decide Date vs LocalDateTime as needed
-				java.time.LocalDate d = java.time.LocalDate.parse(value, in);
-				return d.format(out);
-			} catch (Exception e) {
-				return value; // or log
+			open.clear();
+		}
+
+		private byte[] render(Batch b) {
+			String[] header = b.rows.get(0).clone();
+			header[bulk.nbOfTxsSlot] = Integer.toString(b.rows.size());
+			header[bulk.ctrlSumSlot] = b.ctrlSum.toPlainString();
+			if (schemaValidator != null) {
+				List<String> errors = schemaValidator
+						.validate(h -> bulk.template.fireBatch(header, b.rows, MxMappingEngine.BulkPlan.TX_ELEMENT, h));
+				if (!errors.isEmpty()) {
+					throw new MxSchemaValidator.SchemaViolationException(errors);
+				}
 			}
+			XmlByteWriter out = new XmlByteWriter(1024 + b.rows.size() * 1024);
+			bulk.template.writeBatch(header, b.rows, MxMappingEngine.BulkPlan.TX_ELEMENT, out);
+			return out.toByteArray();
 		}
 
+		private static final class Batch {
+			final List<String[]> rows = new ArrayList<>();
+			BigDecimal ctrlSum = BigDecimal.ZERO;
+
+			void add(String[] values, BigDecimal amount) {
+				rows.add(values);
+				ctrlSum = ctrlSum.add(amount);
+			}
+		}
 	}
 
 	/* ======== Utility: XML to String ======== */
@@ -272,6 +511,26 @@ public class MtToPacs008Mapper {
 		return sw.toString();
 	}
 
+	/** DOM variant of JsonDrivenMapper.writeTo: serialises as UTF-8 straight into the stream. */
+	public static void writeXml(Document doc, OutputStream out) throws Exception {
+		TransformerFactory tf = TransformerFactory.newInstance();
+		Transformer t = tf.newTransformer();
+		t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
+		t.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+		t.setOutputProperty(OutputKeys.INDENT, "yes");
+		t.transform(new DOMSource(doc), new StreamResult(out));
+	}
+
+	/** Serialised per profile, e.g. {@link MxOutputProfile#PRODUCTION} for compact output. */
+	public static String toXmlString(Document doc, MxOutputProfile profile) throws Exception {
+		return profile.toXmlString(doc);
+	}
+
+	/** Serialised per profile (compressed when it says so); the stream is not closed. */
+	public static void writeXml(Document doc, OutputStream out, MxOutputProfile profile) throws Exception {
+		profile.write(doc, out);
+	}
+
 	/* ======== Demo main wiring parser + mapper ======== */
 
 	public static void main(String[] args) throws Exception {
@@ -295,9 +554,13 @@ public class MtToPacs008Mapper {
 
 		Mt103ConfigDrivenParser.MtMessage mt = mtParser.parse(mt103);
 
-		// validate MT
+		// validate MT; the registry loads the rules once and reloads them when the file changes
+		ValidationRegistry validation = new ValidationRegistry();
+		validation.register("MT103", Paths
+				.get("D:\\JavaPractice\\pacs008-mt103-swifttranslator\\src\\main\\resources\\mt103-validation.json"));
+		validation.watch();
 
-		mtValidation(mt);
+		mtValidation(validation, mt);
 
 		// 2) Load MT→pacs.008 mapping config
 		MappingConfig cfg;
@@ -313,6 +576,15 @@ public class MtToPacs008Mapper {
 		// 4) Print XML
 		System.out.println(toXmlString(doc));
 
+		// 5) Validate output against the pacs.008 XSD
+		MxSchemaValidator xsd = MxSchemaValidator.forXsd(
+				Paths.get("D:\\JavaPractice\\pacs008-mt103-swifttranslator\\src\\main\\resources\\pacs.008.001.08.xsd"));
+		for (String err : xsd.validate(doc)) {
+			System.out.println(" - XSD: " + err);
+		}
+		mapper.writeTo(mt, System.out);
+		System.out.println();
+
 		for (int i = 0; i < 0; i++) {
 			long startTime = System.nanoTime(); // Get the current time in nanoseconds
 			Mt103ConfigDrivenParser.MtMessage mt1 = mtParser.parse(mt103);
@@ -336,28 +608,16 @@ public class MtToPacs008Mapper {
 	/**
 	 * Call MT validation from here
 	 * 
+	 * @param validation registry holding the compiled MT103 rules
 	 * @param mt
-	 * @throws IOException
-	 * @throws StreamReadException
-	 * @throws DatabindException
 	 */
-	private static void mtValidation(Mt103ConfigDrivenParser.MtMessage mt)
-			throws IOException, StreamReadException, DatabindException {
-		ObjectMapper om = new ObjectMapper();
-		om.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
-		ValidationConfig valCfg;
-		try (InputStream in = Files.newInputStream(Paths
-				.get("D:\\JavaPractice\\pacs008-mt103-swifttranslator\\src\\main\\resources\\mt103-validation.json"))) {
-			valCfg = om.readValue(in, ValidationConfig.class);
-		}
-
-		MtValidator validator = new MtValidator(valCfg);
-		List<String> errors = validator.validate(mt);
+	private static void mtValidation(ValidationRegistry validation, Mt103ConfigDrivenParser.MtMessage mt) {
+		ValidationRegistry.Validated result = validation.validate("MT103", mt, MtValidator.Mode.COLLECT_ALL);
 
-		if (!errors.isEmpty()) {
+		if (!result.isValid()) {
 			// Decide what to do: log, throw exception, reject, etc.
-			System.out.println("MT validation failed:");
-			for (String err : errors) {
+			System.out.println("MT validation failed (rules " + result.config().tag() + "):");
+			for (String err : result.messages()) {
 				System.out.println(" - " + err);
 			}
 			// e.g., return or throw
@@ -1,143 +1,725 @@
 package com.karan.swifttranslator.custom.parser;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.karan.swifttranslator.custom.parser.Mt103ConfigDrivenParser.MtMessage;
 
+/**
+ * Rule based MT validation. The ValidationConfig is compiled once into typed
+ * checks (patterns compiled, value lists hashed, thresholds parsed), so
+ * validating a message only runs the checks. Unknown rule types are ignored.
+ *
+ * {@link #validate(MtMessage, Mode)} reports failures as rule ids (position
+ * in the config) and codes and renders message text only on request. A valid
+ * message gets the shared {@link Result#VALID}, so the success path does not
+ * allocate a result or error list.
+ */
 public class MtValidator {
 
-	private final ValidationConfig cfg;
+	public enum Mode {
+		/** Every failing rule. */
+		COLLECT_ALL,
+		/** Stop at the first failing rule. */
+		FAIL_FAST,
+		/** Number of failing rules only, no ids kept. */
+		COUNT_ONLY
+	}
+
+	private final Check[] checks;
+	private final MtExpression.Dag dag; // shared sub-expressions of the expression rules
+	private final int ruleCount; // rules in the config, compiled or not
+	private final String[] codes; // by rule id
 
 	public MtValidator(ValidationConfig cfg) {
-		this.cfg = cfg;
+		List<Check> compiled = new ArrayList<>();
+		this.dag = new MtExpression.Dag();
+		if (cfg.rules != null) {
+			for (int i = 0; i < cfg.rules.size(); i++) {
+				ValidationRule r = cfg.rules.get(i);
+				int from = compiled.size();
+				compile(r, dag, compiled);
+				for (int k = from; k < compiled.size(); k++) {
+					Check c = compiled.get(k);
+					c.id = i;
+					if (c.code == null) {
+						c.code = r.code != null ? r.code : r.type;
+					}
+				}
+			}
+		}
+		this.checks = compiled.toArray(new Check[0]);
+		this.ruleCount = cfg.rules == null ? 0 : cfg.rules.size();
+		this.codes = new String[ruleCount];
+		for (Check c : checks) {
+			if (!(c instanceof AmountFormat)) {
+				codes[c.id] = c.code;
+			}
+		}
+	}
+
+	/** Compiled checks in config order, see MtParser's inline validation. */
+	Check[] checks() {
+		return checks;
 	}
 
+	/** All error messages, empty when valid. */
 	public List<String> validate(MtMessage mt) {
-		List<String> errors = new ArrayList<>();
-		Map<String, String> f = mt.fields;
+		return validate(mt, Mode.COLLECT_ALL).messages();
+	}
 
-		for (ValidationRule r : cfg.rules) {
-			switch (r.type) {
-			case "required":
-				if (isEmpty(f.get(r.mtKey))) {
-					errors.add(msg(r, "Required field missing: " + r.mtKey));
+	public Result validate(MtMessage mt, Mode mode) {
+		Map<String, String> f = mt.fields;
+		int[] failed = null;
+		int count = 0;
+		boolean shared = dag.size() > 0;
+		if (shared) {
+			dag.begin(f);
+		}
+		try {
+			for (int i = 0; i < checks.length; i++) {
+				if (!checks[i].fails(f)) {
+					continue;
 				}
-				break;
-
-			case "length":
-				String v = f.get(r.mtKey);
-				if (!isEmpty(v)) {
-					int len = v.length();
-					if ((r.min != null && len > r.min) || (r.max != null && len < r.max)) {
-						errors.add(msg(r, "Length violation on " + r.mtKey + ", expected : [" + r.min + "," + r.max
-								+ "], Found : " + len + " (" + v + ")"));
+				if (mode != Mode.COUNT_ONLY) {
+					if (failed == null) {
+						failed = new int[mode == Mode.FAIL_FAST ? 1 : checks.length - i];
 					}
+					failed[count] = i;
 				}
-				break;
-
-			case "regex":
-				v = f.get(r.mtKey);
-				if (!isEmpty(v) && !v.matches(r.pattern)) {
-					errors.add(msg(r, "Format violation on " + r.mtKey));
+				count++;
+				if (mode == Mode.FAIL_FAST) {
+					break;
 				}
-				break;
+			}
+		} finally {
+			if (shared) {
+				dag.end();
+			}
+		}
+		return count == 0 ? Result.VALID : new Result(checks, f, count, failed);
+	}
 
-			case "allowedValues":
-				v = f.get(r.mtKey);
-				if (!isEmpty(v) && (r.values == null || !r.values.contains(v))) {
-					errors.add(msg(r, "Invalid value for " + r.mtKey + ": " + v));
-				}
-				break;
+	/* ======== Batch validation ======== */
 
-			case "forbiddenValues":
-				v = f.get(r.mtKey);
-				if (!isEmpty(v) && r.values != null && r.values.contains(v)) {
-					errors.add(msg(r, "Forbidden value for " + r.mtKey + ": " + v));
-				}
-				break;
+	/** {@link #validateBatch(List, Mode, int)} over a stream, which is collected first. */
+	public BatchResult validateBatch(Stream<MtMessage> messages, Mode mode, int stopAfter) {
+		return validateBatch(messages.collect(Collectors.toList()), mode, stopAfter);
+	}
 
-			case "conditionalRequired":
-				boolean cond = !isEmpty(f.get(r.whenMtKey));
-				if (Boolean.FALSE.equals(r.whenPresent)) {
-					cond = !cond;
-				}
-				if (cond && isEmpty(f.get(r.mtKey))) {
-					errors.add(msg(r, "Conditional required field missing: " + r.mtKey));
+	/**
+	 * Validates the messages in parallel on the common fork/join pool and
+	 * counts failures per rule id. Once {@code stopAfter} messages have failed
+	 * (0 = never stop) the messages not started yet are skipped; those already
+	 * running finish, so slightly more failures may be reported. Rule counts
+	 * are not available in COUNT_ONLY mode.
+	 */
+	public BatchResult validateBatch(List<MtMessage> messages, Mode mode, int stopAfter) {
+		int n = messages.size();
+		Result[] results = new Result[n];
+		LongAdder[] byRule = new LongAdder[ruleCount];
+		for (int r = 0; r < byRule.length; r++) {
+			byRule[r] = new LongAdder();
+		}
+		AtomicInteger failed = new AtomicInteger();
+		LongAdder validated = new LongAdder();
+		IntStream.range(0, n).parallel().forEach(i -> {
+			if (stopAfter > 0 && failed.get() >= stopAfter) {
+				return;
+			}
+			Result r = validate(messages.get(i), mode);
+			results[i] = r;
+			validated.increment();
+			if (!r.isValid()) {
+				failed.incrementAndGet();
+				if (mode != Mode.COUNT_ONLY) {
+					for (int e = 0; e < r.errorCount(); e++) {
+						byRule[r.ruleId(e)].increment();
+					}
 				}
-				break;
+			}
+		});
+		long[] counts = new long[ruleCount];
+		for (int r = 0; r < counts.length; r++) {
+			counts[r] = byRule[r].sum();
+		}
+		return new BatchResult(results, counts, codes, (int) validated.sum(), failed.get());
+	}
 
-			case "mutuallyExclusive":
-				handleExclusive(r, f, errors, true);
-				break;
+	/** Per-message results of a batch plus failure counts by rule id. */
+	public static final class BatchResult {
+		private final Result[] results;
+		private final long[] ruleCounts;
+		private final String[] codes;
+		private final int validated;
+		private final int failed;
 
-			case "atMostOneOf":
-				handleExclusive(r, f, errors, false);
-				break;
+		private BatchResult(Result[] results, long[] ruleCounts, String[] codes, int validated, int failed) {
+			this.results = results;
+			this.ruleCounts = ruleCounts;
+			this.codes = codes;
+			this.validated = validated;
+			this.failed = failed;
+		}
+
+		public int size() {
+			return results.length;
+		}
+
+		/** Result of the i-th message, null when it was skipped after stopAfter failures. */
+		public Result result(int i) {
+			return results[i];
+		}
+
+		public int validated() {
+			return validated;
+		}
 
-			case "compare":
-				v = f.get(r.mtKey);
-				if (!isEmpty(v) && !compareNumeric(v, r.operator, r.threshold)) {
-					errors.add(msg(r, "Comparison failed on " + r.mtKey));
+		public int failed() {
+			return failed;
+		}
+
+		/** True when messages were skipped because of stopAfter. */
+		public boolean stopped() {
+			return validated < results.length;
+		}
+
+		/** Messages failing the rule with this id (position in ValidationConfig.rules). */
+		public long count(int ruleId) {
+			return ruleCounts[ruleId];
+		}
+
+		/** Failing rules as "id code: count", most frequent first. */
+		public List<String> summary() {
+			List<Integer> ids = new ArrayList<>();
+			for (int r = 0; r < ruleCounts.length; r++) {
+				if (ruleCounts[r] > 0) {
+					ids.add(r);
 				}
-				break;
+			}
+			ids.sort((a, b) -> Long.compare(ruleCounts[b], ruleCounts[a]));
+			List<String> out = new ArrayList<>(ids.size());
+			for (int r : ids) {
+				out.add(r + " " + codes[r] + ": " + ruleCounts[r]);
+			}
+			return out;
+		}
 
-			default:
-				// ignore unknown rule types
+		@Override
+		public String toString() {
+			return String.format("%d messages, %d validated, %d failed%s", results.length, validated, failed,
+					stopped() ? " (stopped)" : "");
+		}
+	}
+
+	/** Distinct sub-expressions shared by the expression rules, each evaluated once per message. */
+	public int sharedExpressions() {
+		return dag.size();
+	}
+
+	/**
+	 * Outcome of one validation. Messages are built from the message fields
+	 * when asked for, so the fields must not change while the result is in use.
+	 */
+	public static final class Result {
+		public static final Result VALID = new Result(null, null, 0, null);
+
+		private final Check[] checks;
+		private final Map<String, String> fields;
+		private final int count;
+		private final int[] failed; // check indexes, null in COUNT_ONLY mode
+
+		private Result(Check[] checks, Map<String, String> fields, int count, int[] failed) {
+			this.checks = checks;
+			this.fields = fields;
+			this.count = count;
+			this.failed = failed;
+		}
+
+		public boolean isValid() {
+			return count == 0;
+		}
+
+		public int errorCount() {
+			return count;
+		}
+
+		/** Position in ValidationConfig.rules of the i-th failing rule. */
+		public int ruleId(int i) {
+			return check(i).id;
+		}
+
+		/** The rule's code, or its type when the config gives none. */
+		public String code(int i) {
+			return check(i).code;
+		}
+
+		public String message(int i) {
+			return check(i).message(fields);
+		}
+
+		public List<String> messages() {
+			if (count == 0) {
+				return new ArrayList<>(0);
+			}
+			List<String> out = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				out.add(message(i));
+			}
+			return out;
+		}
+
+		private Check check(int i) {
+			if (failed == null) {
+				throw new IllegalStateException("COUNT_ONLY result has no rule ids");
+			}
+			if (i < 0 || i >= count) {
+				throw new IndexOutOfBoundsException("Error " + i + " of " + count);
 			}
+			return checks[failed[i]];
+		}
+
+		@Override
+		public String toString() {
+			return count == 0 ? "valid" : count + " error(s)";
+		}
+	}
+
+	/* ======== Rule compilation ======== */
+
+	/** Adds the checks of one rule: none for unknown types, two for compare. */
+	private static void compile(ValidationRule r, MtExpression.Dag dag, List<Check> out) {
+		if (r.type == null) {
+			return;
+		}
+		switch (r.type) {
+		case "required":
+			out.add(new Required(r));
+			break;
+		case "length":
+			out.add(new Length(r));
+			break;
+		case "regex":
+			out.add(new Regex(r));
+			break;
+		case "swiftFormat":
+			out.add(new Format(r));
+			break;
+		case "allowedValues":
+			out.add(new ValueSet(r, true));
+			break;
+		case "forbiddenValues":
+			out.add(new ValueSet(r, false));
+			break;
+		case "conditionalRequired":
+			out.add(new ConditionalRequired(r));
+			break;
+		case "mutuallyExclusive":
+			out.add(new Exclusive(r, true));
+			break;
+		case "atMostOneOf":
+			out.add(new Exclusive(r, false));
+			break;
+		case "compare":
+			out.add(new AmountFormat(r));
+			out.add(new Compare(r));
+			break;
+		case "expression":
+			out.add(new Expression(r, dag));
+			break;
+		default:
+			// ignore unknown rule types
 		}
-		return errors;
 	}
 
-	private boolean isEmpty(String s) {
+	private static boolean isEmpty(String s) {
 		return s == null || s.isEmpty();
 	}
 
-	private String msg(ValidationRule r, String fallback) {
-		return (r.message != null && !r.message.isEmpty()) ? r.message : fallback;
+	/** One compiled rule: a cheap test, and the message built only for failures. */
+	abstract static class Check {
+		final ValidationRule rule;
+		int id; // position in the config, set once while compiling
+		String code;
+
+		Check(ValidationRule rule) {
+			this.rule = rule;
+		}
+
+		abstract boolean fails(Map<String, String> f);
+
+		abstract String fallbackMessage(Map<String, String> f);
+
+		String message(Map<String, String> f) {
+			return (rule.message != null && !rule.message.isEmpty()) ? rule.message : fallbackMessage(f);
+		}
 	}
 
-	private void handleExclusive(ValidationRule r, Map<String, String> f, List<String> errors, boolean exactlyOne) {
-		if (r.mtKeys == null || r.mtKeys.isEmpty())
-			return;
-		int count = 0;
-		for (String k : r.mtKeys) {
-			if (!isEmpty(f.get(k)))
-				count++;
+	/** A check on the value of a single mtKey, which the parser can run as soon as it extracts it. */
+	abstract static class ValueCheck extends Check {
+		ValueCheck(ValidationRule rule) {
+			super(rule);
+		}
+
+		String key() {
+			return rule.mtKey;
+		}
+
+		/** Only called for non-empty values. */
+		abstract boolean failsValue(String v);
+
+		@Override
+		final boolean fails(Map<String, String> f) {
+			String v = f.get(rule.mtKey);
+			return !isEmpty(v) && failsValue(v);
+		}
+	}
+
+	private static final class Required extends Check {
+		Required(ValidationRule r) {
+			super(r);
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			return isEmpty(f.get(rule.mtKey));
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Required field missing: " + rule.mtKey;
+		}
+	}
+
+	private static final class Length extends ValueCheck {
+		private final int min;
+		private final int max;
+
+		Length(ValidationRule r) {
+			super(r);
+			this.min = r.min != null ? r.min : 0;
+			this.max = r.max != null ? r.max : Integer.MAX_VALUE;
+		}
+
+		@Override
+		boolean failsValue(String v) {
+			int len = v.length();
+			return len < min || len > max;
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			String v = f.get(rule.mtKey);
+			return "Length violation on " + rule.mtKey + ", expected : [" + rule.min + "," + rule.max + "], Found : "
+					+ v.length() + " (" + v + ")";
+		}
+	}
+
+	private static final class Regex extends ValueCheck {
+		private final Pattern pattern;
+		private final ThreadLocal<Matcher> matcher; // reset per value instead of a new Matcher
+
+		Regex(ValidationRule r) {
+			super(r);
+			this.pattern = Pattern.compile(r.pattern);
+			this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
 		}
-		if (exactlyOne) {
-			if (count != 1) {
-				errors.add(msg(r, "Exactly one of " + r.mtKeys + " must be present"));
+
+		@Override
+		boolean failsValue(String v) {
+			return !matcher.get().reset(v).matches();
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Format violation on " + rule.mtKey;
+		}
+	}
+
+	private static final class Format extends ValueCheck {
+		private final SwiftFormat format;
+
+		Format(ValidationRule r) {
+			super(r);
+			this.format = SwiftFormat.compile(r.format);
+		}
+
+		@Override
+		boolean failsValue(String v) {
+			return !format.matches(v);
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			String v = f.get(rule.mtKey);
+			return "Format " + format + " violated on " + rule.mtKey + " at position " + format.mismatch(v) + ": " + v;
+		}
+	}
+
+	private static final class ValueSet extends ValueCheck {
+		private final Set<String> values;
+		private final boolean allowed;
+
+		ValueSet(ValidationRule r, boolean allowed) {
+			super(r);
+			this.values = r.values == null ? Collections.emptySet() : new HashSet<>(r.values);
+			this.allowed = allowed;
+		}
+
+		@Override
+		boolean failsValue(String v) {
+			return values.contains(v) != allowed;
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return (allowed ? "Invalid value for " : "Forbidden value for ") + rule.mtKey + ": " + f.get(rule.mtKey);
+		}
+	}
+
+	private static final class ConditionalRequired extends Check {
+		private final boolean whenPresent;
+
+		ConditionalRequired(ValidationRule r) {
+			super(r);
+			this.whenPresent = !Boolean.FALSE.equals(r.whenPresent);
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			boolean cond = isEmpty(f.get(rule.whenMtKey)) != whenPresent;
+			return cond && isEmpty(f.get(rule.mtKey));
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Conditional required field missing: " + rule.mtKey;
+		}
+	}
+
+	private static final class Exclusive extends Check {
+		private final String[] keys;
+		private final boolean exactlyOne;
+
+		Exclusive(ValidationRule r, boolean exactlyOne) {
+			super(r);
+			this.keys = r.mtKeys == null ? new String[0] : r.mtKeys.toArray(new String[0]);
+			this.exactlyOne = exactlyOne;
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			if (keys.length == 0) {
+				return false;
 			}
-		} else {
-			if (count > 1) {
-				errors.add(msg(r, "At most one of " + r.mtKeys + " may be present"));
+			int count = 0;
+			for (String k : keys) {
+				if (!isEmpty(f.get(k))) {
+					count++;
+				}
 			}
+			return exactlyOne ? count != 1 : count > 1;
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return exactlyOne ? "Exactly one of " + rule.mtKeys + " must be present"
+					: "At most one of " + rule.mtKeys + " may be present";
 		}
 	}
 
-	private boolean compareNumeric(String v, String op, String thr) {
-		try {
-			java.math.BigDecimal val = new java.math.BigDecimal(v.replace(",", "."));
-			java.math.BigDecimal t = new java.math.BigDecimal(thr.replace(",", "."));
-			int cmp = val.compareTo(t);
+	/**
+	 * Numeric compare on scaled longs. The threshold is parsed at load; the
+	 * value is scaled to its currency's decimals (currencyMtKey, by default the
+	 * .ccy sibling of an .amount key) or, without a known currency, its own.
+	 * Malformed values do not fail here but in the rule's {@link AmountFormat}
+	 * check, which is reported separately.
+	 */
+	private static final class Compare extends Check {
+		private static final int GT = 0, LT = 1, GE = 2, LE = 3, EQ = 4, NONE = -1;
+
+		private final int op;
+		private final String currencyKey; // null = no currency
+		private final int thresholdScale;
+		private final long[] thresholdAt; // threshold scaled to 0..maxScale, MALFORMED below its own scale
+
+		Compare(ValidationRule r) {
+			super(r);
+			this.op = operator(r.operator);
+			this.currencyKey = currencyKey(r);
+			this.thresholdScale = r.threshold == null ? -1 : MtAmount.scaleOf(r.threshold);
+			if (thresholdScale < 0) {
+				throw new IllegalArgumentException("compare rule on " + r.mtKey + " has no numeric threshold: "
+						+ r.threshold);
+			}
+			this.thresholdAt = new long[MtAmount.maxScale() + 1];
+			for (int sc = 0; sc < thresholdAt.length; sc++) {
+				thresholdAt[sc] = MtAmount.parse(r.threshold, sc);
+			}
+		}
+
+		private static int operator(String op) {
+			if (op == null) {
+				return NONE;
+			}
 			switch (op) {
 			case ">":
-				return cmp > 0;
+				return GT;
 			case "<":
-				return cmp < 0;
+				return LT;
 			case ">=":
-				return cmp >= 0;
+				return GE;
 			case "<=":
-				return cmp <= 0;
+				return LE;
 			case "==":
-				return cmp == 0;
+				return EQ;
 			default:
+				return NONE;
+			}
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			String v = f.get(rule.mtKey);
+			if (isEmpty(v)) {
+				return false;
+			}
+			int decimals = currencyKey == null ? -1 : MtAmount.decimals(f.get(currencyKey));
+			int scale = Math.max(decimals >= 0 ? decimals : MtAmount.scaleOf(v), thresholdScale);
+			if (scale > MtAmount.maxScale()) {
+				return false;
+			}
+			long val = MtAmount.parse(v, scale);
+			long thr = thresholdAt[scale];
+			if (val == MtAmount.MALFORMED || thr == MtAmount.MALFORMED) {
+				return false; // reported by AmountFormat
+			}
+			int cmp = Long.compare(val, thr);
+			switch (op) {
+			case GT:
+				return !(cmp > 0);
+			case LT:
+				return !(cmp < 0);
+			case GE:
+				return !(cmp >= 0);
+			case LE:
+				return !(cmp <= 0);
+			case EQ:
+				return cmp != 0;
+			default:
+				return false;
+			}
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Comparison failed on " + rule.mtKey;
+		}
+	}
+
+	/** Companion of a compare rule: the value is no amount, or has more decimals than its currency. */
+	private static final class AmountFormat extends Check {
+		static final String CODE = "amountFormat";
+
+		private final String currencyKey;
+
+		AmountFormat(ValidationRule r) {
+			super(r);
+			this.currencyKey = currencyKey(r);
+			this.code = CODE;
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			String v = f.get(rule.mtKey);
+			if (isEmpty(v)) {
+				return false;
+			}
+			int scale = MtAmount.scaleOf(v);
+			if (scale < 0) {
 				return true;
 			}
-		} catch (Exception e) {
-			return false;
+			int decimals = currencyKey == null ? -1 : MtAmount.decimals(f.get(currencyKey));
+			if (decimals >= 0 && scale > decimals) {
+				return true;
+			}
+			return MtAmount.parse(v, scale) == MtAmount.MALFORMED;
+		}
+
+		/** The rule's message describes the comparison, not this failure. */
+		@Override
+		String message(Map<String, String> f) {
+			return fallbackMessage(f);
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Malformed amount on " + rule.mtKey + ": " + f.get(rule.mtKey)
+					+ (currencyKey != null && f.get(currencyKey) != null ? " " + f.get(currencyKey) : "");
+		}
+	}
+
+	private static String currencyKey(ValidationRule r) {
+		if (r.currencyMtKey != null) {
+			return r.currencyMtKey;
+		}
+		if (r.mtKey != null && r.mtKey.endsWith(".amount")) {
+			return r.mtKey.substring(0, r.mtKey.length() - ".amount".length()) + ".ccy";
+		}
+		return null;
+	}
+
+	/**
+	 * Multi-field rule (e.g. a network validated rule): fails when its optional
+	 * "when" expression holds and its "condition" does not.
+	 */
+	private static final class Expression extends Check {
+		private final MtExpression when; // null = always applies
+		private final MtExpression condition;
+
+		Expression(ValidationRule r, MtExpression.Dag dag) {
+			super(r);
+			if (r.condition == null || r.condition.trim().isEmpty()) {
+				throw new IllegalArgumentException("expression rule needs a 'condition'");
+			}
+			this.when = (r.when == null || r.when.trim().isEmpty()) ? null : dag.compile(r.when);
+			this.condition = dag.compile(r.condition);
+		}
+
+		@Override
+		boolean fails(Map<String, String> f) {
+			return (when == null || when.test(f)) && !condition.test(f);
+		}
+
+		@Override
+		String fallbackMessage(Map<String, String> f) {
+			return "Rule violated: " + (when != null ? "if " + when.source() + " then " : "") + condition.source();
+		}
+	}
+
+	/** Raised by callers that reject an MT message on validation errors. */
+	public static class ValidationException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private final List<String> errors;
+
+		public ValidationException(List<String> errors) {
+			super("MT validation failed: " + errors);
+			this.errors = Collections.unmodifiableList(errors);
+		}
+
+		public List<String> getErrors() {
+			return errors;
 		}
 	}
 }
@@ -0,0 +1,543 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Single mapping engine behind every JSON driven MT -> MX mapper.
+ *
+ * A {@link Plan} is compiled once per target message definition (namespace,
+ * root element, message element) and mapping JSON and cached, so mapper
+ * instances are cheap to create and all message types share one warm code
+ * path: pre-resolved transforms, the pre-rendered output template and the DOM
+ * builder.
+ *
+ * A config is serialised once per instance to find its plan; building more
+ * mappers from the same instance is a map lookup. Equal configs loaded
+ * separately share a plan. The cache keeps the {@value #MAX_PLANS} most
+ * recently used plans; an evicted plan stays valid for the mappers holding it.
+ */
+public final class MxMappingEngine {
+
+	public static final String DEFAULT_ROOT = "Document";
+
+	public static final int MAX_PLANS = 64;
+
+	private static final ObjectMapper OM = new ObjectMapper();
+	// serialised config per instance; weak, so configs are not kept alive by the cache
+	private static final Map<MappingConfig, String> CONFIG_JSON = Collections.synchronizedMap(new WeakHashMap<>());
+	// LRU in access order, guarded by itself
+	private static final Map<PlanKey, Plan> PLANS = new LinkedHashMap<PlanKey, Plan>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PlanKey, Plan> eldest) {
+			return size() > MAX_PLANS;
+		}
+	};
+
+	private MxMappingEngine() {
+	}
+
+	/**
+	 * Cached plan for the config. Definition fields set in the config win over
+	 * the defaults passed by the calling mapper. The config instance is read
+	 * once, so changes made to it after its first plan are not seen; load a new
+	 * instance instead.
+	 */
+	public static Plan plan(String defaultNamespace, String defaultMessageElement, MappingConfig config) {
+		String ns = config.namespace != null ? config.namespace : defaultNamespace;
+		String root = config.rootElement != null ? config.rootElement : DEFAULT_ROOT;
+		String msg = config.messageElement != null ? config.messageElement : defaultMessageElement;
+		if (ns == null || msg == null) {
+			throw new IllegalArgumentException("Mapping config has no target namespace / messageElement");
+		}
+		PlanKey key = new PlanKey(ns, root, msg, CONFIG_JSON.computeIfAbsent(config, MxMappingEngine::toJson));
+		synchronized (PLANS) {
+			Plan p = PLANS.get(key);
+			if (p != null) {
+				return p;
+			}
+		}
+		// compiled outside the lock; a concurrent duplicate is dropped
+		Plan p = new Plan(ns, root, msg, config);
+		synchronized (PLANS) {
+			Plan prev = PLANS.putIfAbsent(key, p);
+			return prev != null ? prev : p;
+		}
+	}
+
+	/** Plan for a config that names its own target message definition. */
+	public static Plan plan(MappingConfig config) {
+		return plan(null, null, config);
+	}
+
+	public static int cachedPlans() {
+		synchronized (PLANS) {
+			return PLANS.size();
+		}
+	}
+
+	private static String toJson(MappingConfig config) {
+		try {
+			return OM.writeValueAsString(config);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Mapping config cannot be serialised", e);
+		}
+	}
+
+	/* ======== Compiled plan ======== */
+
+	public static final class Plan {
+		private final String namespace;
+		private final String rootElement;
+		private final String messageElement;
+		private final MappingRule[] rules;
+		private final UnaryOperator<String>[] transforms;
+		private final Predicate<Map<String, String>>[] conditions; // null when the rule always applies
+		private final Function<Map<String, String>, String>[] expressions; // null when the mtKey is the source
+		private final MxTemplate template;
+		private final int[] ruleSlots; // template slot per rule, -1 when pre-rendered
+		private final int[] clockRules; // rules whose value comes from the clock (e.g. CreDtTm)
+		private volatile BulkPlan bulkPlan; // compiled on first bulk use
+		// output variants by (canonical ? 1 : 0), compiled on first use
+		private final AtomicReferenceArray<MxTemplate> variants = new AtomicReferenceArray<>(2);
+		private volatile MappingProfiler profiler; // null unless profiling is enabled
+
+		@SuppressWarnings("unchecked")
+		private Plan(String namespace, String rootElement, String messageElement, MappingConfig config) {
+			this.namespace = namespace;
+			this.rootElement = rootElement;
+			this.messageElement = messageElement;
+			this.rules = config.mappings.toArray(new MappingRule[0]);
+			this.transforms = (UnaryOperator<String>[]) new UnaryOperator<?>[rules.length];
+			this.conditions = (Predicate<Map<String, String>>[]) new Predicate<?>[rules.length];
+			this.expressions = (Function<Map<String, String>, String>[]) new Function<?, ?>[rules.length];
+			for (int i = 0; i < rules.length; i++) {
+				MappingRule r = rules[i];
+				transforms[i] = MxTransforms.compile(r);
+				if (r.when != null && !r.when.trim().isEmpty()) {
+					conditions[i] = MtExpression.condition(r.when);
+				}
+				if (r.expression != null && !r.expression.trim().isEmpty()) {
+					expressions[i] = MtExpression.value(r.expression);
+				}
+			}
+			this.ruleSlots = new int[rules.length];
+			this.template = compileTemplate(false, ruleSlots);
+			variants.set(0, template);
+			int clocks = 0;
+			int[] clock = new int[rules.length];
+			for (int i = 0; i < rules.length; i++) {
+				if (ruleSlots[i] >= 0 && MxTransforms.isTimeDependent(rules[i])) {
+					clock[clocks++] = i;
+				}
+			}
+			this.clockRules = Arrays.copyOf(clock, clocks);
+		}
+
+		public String namespace() {
+			return namespace;
+		}
+
+		public String messageElement() {
+			return messageElement;
+		}
+
+		/* ---------- Profiling ---------- */
+
+		/**
+		 * Starts per-rule profiling of this plan and returns the profiler; plans
+		 * are shared, so every mapper using the same config is measured.
+		 */
+		public synchronized MappingProfiler enableProfiling() {
+			if (profiler == null) {
+				boolean[] preRendered = new boolean[rules.length];
+				for (int i = 0; i < rules.length; i++) {
+					preRendered[i] = ruleSlots[i] < 0;
+				}
+				profiler = new MappingProfiler(rules, preRendered);
+			}
+			return profiler;
+		}
+
+		public synchronized void disableProfiling() {
+			profiler = null;
+		}
+
+		/** Active profiler, null when profiling is off. */
+		public MappingProfiler profiler() {
+			return profiler;
+		}
+
+		/* ---------- DOM output ---------- */
+
+		public Document map(Map<String, String> fields) throws Exception {
+			DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+			dbf.setNamespaceAware(true);
+			Document doc = dbf.newDocumentBuilder().newDocument();
+
+			Element root = doc.createElementNS(namespace, rootElement);
+			doc.appendChild(root);
+			Element msg = doc.createElementNS(namespace, messageElement);
+			root.appendChild(msg);
+
+			MappingProfiler p = profiler;
+			for (int i = 0; i < rules.length; i++) {
+				String value = resolveValue(i, fields);
+				if (value != null) {
+					if (p == null) {
+						applyPath(doc, msg, rules[i].mxPath, value);
+					} else {
+						long start = System.nanoTime();
+						applyPath(doc, msg, rules[i].mxPath, value);
+						p.recordPath(i, System.nanoTime() - start);
+					}
+				}
+			}
+			return doc;
+		}
+
+		/* ---------- Template output ---------- */
+
+		public void writeTo(Map<String, String> fields, XmlByteWriter out) {
+			template.write(resolveValues(fields, template, ruleSlots), out);
+		}
+
+		/**
+		 * Validates the message against the schema from the resolved values and
+		 * writes it only when valid. Returns the schema errors, empty on success.
+		 */
+		public List<String> writeValidated(Map<String, String> fields, XmlByteWriter out, MxSchemaValidator validator) {
+			return writeValidated(variant(false), fields, out, validator);
+		}
+
+		private List<String> writeValidated(MxTemplate t, Map<String, String> fields, XmlByteWriter out,
+				MxSchemaValidator validator) {
+			String[] values = resolveValues(fields, t, ruleSlots);
+			List<String> errors = validator.validate(h -> t.fire(values, h));
+			if (errors.isEmpty()) {
+				t.write(values, out);
+			}
+			return errors;
+		}
+
+		/* ---------- Resolved snapshots (translation cache) ---------- */
+
+		/**
+		 * Resolved template values of the message, to be rendered later (and
+		 * repeatedly) with {@link #writeSnapshot}. The array must not be modified.
+		 */
+		public String[] snapshot(Map<String, String> fields) {
+			return resolveValues(fields, template, ruleSlots);
+		}
+
+		/** Schema check of a snapshot without writing it; returns the errors, empty when valid. */
+		public List<String> validateSnapshot(String[] values, MxSchemaValidator validator) {
+			return validator.validate(h -> template.fire(values, h));
+		}
+
+		/**
+		 * Renders a snapshot. Clock based values (dateFormat with a type, i.e.
+		 * CreDtTm) are taken again now instead of from the snapshot; everything
+		 * else is written as resolved.
+		 */
+		public void writeSnapshot(String[] values, XmlByteWriter out) {
+			String[] v = values;
+			if (clockRules.length > 0) {
+				v = values.clone();
+				for (int i : clockRules) {
+					int slot = ruleSlots[i];
+					if (v[slot] != null) {
+						v[slot] = transforms[i].apply(v[slot]); // clock transforms ignore their input
+					}
+				}
+			}
+			template.write(v, out);
+		}
+
+		/* ---------- Canonical output ---------- */
+
+		/**
+		 * Writes the message as Exclusive XML Canonicalization bytes, ready to be
+		 * signed without another canonicalisation pass. Set a digest on
+		 * {@code out} to get the SHA-256 (or other) digest of the same bytes.
+		 */
+		public void writeCanonical(Map<String, String> fields, XmlByteWriter out) {
+			MxTemplate t = variant(true);
+			t.write(resolveValues(fields, t, ruleSlots), out);
+		}
+
+		/** Canonical counterpart of {@link #writeValidated}. */
+		public List<String> writeCanonicalValidated(Map<String, String> fields, XmlByteWriter out,
+				MxSchemaValidator validator) {
+			return writeValidated(variant(true), fields, out, validator);
+		}
+
+		private MxTemplate variant(boolean canonical) {
+			int i = canonical ? 1 : 0;
+			MxTemplate t = variants.get(i);
+			if (t == null) {
+				// same declaration order as the default template, so ruleSlots apply
+				variants.compareAndSet(i, null, compileTemplate(canonical, new int[rules.length]));
+				t = variants.get(i);
+			}
+			return t;
+		}
+
+		String[] resolveValues(Map<String, String> fields, MxTemplate t, int[] slots) {
+			String[] values = new String[t.slotCount()];
+			for (int i = 0; i < slots.length; i++) {
+				int slot = slots[i];
+				if (slot >= 0) {
+					values[slot] = resolveValue(i, fields);
+				}
+			}
+			return values;
+		}
+
+		private String resolveValue(int i, Map<String, String> fields) {
+			MappingProfiler p = profiler;
+			if (p == null) {
+				return resolve(i, fields);
+			}
+			long start = System.nanoTime();
+			String value = resolve(i, fields);
+			p.recordResolve(i, value != null, System.nanoTime() - start);
+			return value;
+		}
+
+		/**
+		 * Value of one rule for a message after condition, source (constant,
+		 * expression or mtKey, falling back to the rule's value) and transform,
+		 * or null when the rule does not fire.
+		 */
+		private String resolve(int i, Map<String, String> fields) {
+			if (conditions[i] != null && !conditions[i].test(fields)) {
+				return null;
+			}
+			MappingRule r = rules[i];
+			String value;
+			if (expressions[i] != null) {
+				value = expressions[i].apply(fields);
+			} else if (r.mtKey != null && r.mtKey.startsWith("CONSTANT")) {
+				value = r.value;
+			} else {
+				value = r.mtKey == null ? null : fields.get(r.mtKey);
+			}
+
+			if (value == null || value.isEmpty()) {
+				// default value, e.g. the placeholder input of a clock based dateFormat
+				value = r.value;
+				if (value == null || value.isEmpty()) {
+					return null;
+				}
+			}
+
+			value = transforms[i].apply(value);
+			return (value == null || value.isEmpty()) ? null : value;
+		}
+
+		private boolean isConstant(MappingRule r) {
+			return r.mtKey != null && r.mtKey.startsWith("CONSTANT") && !MxTransforms.isTimeDependent(r)
+					&& r.when == null && r.expression == null;
+		}
+
+		/**
+		 * Constant rules (CONSTANT:* keys without a time dependent transform) are
+		 * resolved once here and become part of the pre-rendered template.
+		 */
+		private MxTemplate compileTemplate(boolean canonical, int[] slots) {
+			MxTemplate t = new MxTemplate(namespace, rootElement, messageElement, canonical);
+			Map<String, String> noFields = Collections.emptyMap();
+			for (int i = 0; i < rules.length; i++) {
+				if (isConstant(rules[i])) {
+					t.constant(rules[i].mxPath, resolve(i, noFields));
+					slots[i] = -1;
+				} else {
+					slots[i] = t.variable(rules[i].mxPath);
+				}
+			}
+			return t.compile();
+		}
+
+		/* ---------- Bulk template ---------- */
+
+		BulkPlan bulkPlan() {
+			BulkPlan b = bulkPlan;
+			if (b == null) {
+				synchronized (this) {
+					b = bulkPlan;
+					if (b == null) {
+						b = compileBulkPlan();
+						bulkPlan = b;
+					}
+				}
+			}
+			return b;
+		}
+
+		/**
+		 * Template for multi-transaction output: like the single one, but
+		 * GrpHdr.NbOfTxs and GrpHdr.CtrlSum are variable so the assembler can fill
+		 * in the computed totals. CtrlSum is declared right after NbOfTxs to keep
+		 * schema order.
+		 */
+		private BulkPlan compileBulkPlan() {
+			MxTemplate t = new MxTemplate(namespace, rootElement, messageElement);
+			int[] slots = new int[rules.length];
+			int nbOfTxs = -1;
+			int ctrlSum = -1;
+			Map<String, String> noFields = Collections.emptyMap();
+			for (int i = 0; i < rules.length; i++) {
+				MappingRule r = rules[i];
+				if (nbOfTxs < 0 && (r.mxPath.startsWith(BulkPlan.TX_ELEMENT) || BulkPlan.NB_OF_TXS.equals(r.mxPath))) {
+					nbOfTxs = t.variable(BulkPlan.NB_OF_TXS);
+					ctrlSum = t.variable(BulkPlan.CTRL_SUM);
+				}
+				if (BulkPlan.NB_OF_TXS.equals(r.mxPath)) {
+					slots[i] = -1;
+				} else if (isConstant(r)) {
+					t.constant(r.mxPath, resolve(i, noFields));
+					slots[i] = -1;
+				} else {
+					slots[i] = t.variable(r.mxPath);
+				}
+			}
+			if (nbOfTxs < 0) {
+				nbOfTxs = t.variable(BulkPlan.NB_OF_TXS);
+				ctrlSum = t.variable(BulkPlan.CTRL_SUM);
+			}
+			return new BulkPlan(t.compile(), slots, nbOfTxs, ctrlSum);
+		}
+
+		/* ---------- DOM path helpers ---------- */
+
+		private void applyPath(Document doc, Element parent, String path, String value) {
+			// Support @attribute and simple [index] arrays
+			String[] parts = path.split("\\.");
+
+			Element current = parent;
+			for (int i = 0; i < parts.length; i++) {
+				String part = parts[i];
+
+				// attribute on current element
+				if (part.contains("@")) {
+					String[] pe = part.split("@", 2);
+					String elemName = pe[0];
+					String attrName = pe[1];
+
+					if (!elemName.isEmpty()) {
+						current = ensureChild(doc, current, elemName, 0);
+					}
+					current.setAttribute(attrName, value);
+					return;
+				}
+
+				// list index: Name[0]
+				int idx = 0;
+				String elemName = part;
+				int bracket = part.indexOf('[');
+				if (bracket >= 0 && part.endsWith("]")) {
+					elemName = part.substring(0, bracket);
+					String sIdx = part.substring(bracket + 1, part.length() - 1);
+					idx = Integer.parseInt(sIdx);
+				}
+
+				// last segment -> set text
+				if (i == parts.length - 1) {
+					Element child = ensureChild(doc, current, elemName, idx);
+					child.setTextContent(value);
+				} else {
+					current = ensureChild(doc, current, elemName, idx);
+				}
+			}
+		}
+
+		private Element ensureChild(Document doc, Element parent, String name, int index) {
+			NodeList existing = parent.getElementsByTagNameNS(parent.getNamespaceURI(), name);
+			// Filter only direct children of this parent
+			List<Element> direct = new ArrayList<>();
+			for (int i = 0; i < existing.getLength(); i++) {
+				Node n = existing.item(i);
+				if (n.getParentNode() == parent) {
+					direct.add((Element) n);
+				}
+			}
+			while (direct.size() <= index) {
+				Element e = doc.createElementNS(parent.getNamespaceURI(), name);
+				parent.appendChild(e);
+				direct.add(e);
+			}
+			return direct.get(index);
+		}
+	}
+
+	/** Template and slots for the multi-transaction output of a plan. */
+	static final class BulkPlan {
+		static final String TX_ELEMENT = "CdtTrfTxInf";
+		static final String NB_OF_TXS = "GrpHdr.NbOfTxs";
+		static final String CTRL_SUM = "GrpHdr.CtrlSum";
+
+		final MxTemplate template;
+		final int[] ruleSlots;
+		final int nbOfTxsSlot;
+		final int ctrlSumSlot;
+
+		BulkPlan(MxTemplate template, int[] ruleSlots, int nbOfTxsSlot, int ctrlSumSlot) {
+			this.template = template;
+			this.ruleSlots = ruleSlots;
+			this.nbOfTxsSlot = nbOfTxsSlot;
+			this.ctrlSumSlot = ctrlSumSlot;
+		}
+	}
+
+	private static final class PlanKey {
+		final String namespace;
+		final String rootElement;
+		final String messageElement;
+		final String mappingJson;
+
+		PlanKey(String namespace, String rootElement, String messageElement, String mappingJson) {
+			this.namespace = namespace;
+			this.rootElement = rootElement;
+			this.messageElement = messageElement;
+			this.mappingJson = mappingJson;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof PlanKey)) {
+				return false;
+			}
+			PlanKey k = (PlanKey) o;
+			return namespace.equals(k.namespace) && rootElement.equals(k.rootElement)
+					&& messageElement.equals(k.messageElement) && mappingJson.equals(k.mappingJson);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(namespace, rootElement, messageElement, mappingJson);
+		}
+	}
+}
@@ -0,0 +1,515 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Build time generator: reads an ISO 20022 message XSD (e.g.
+ * resources/pacs.008.001.08.xsd) and writes one Java source file with a plain
+ * class per complexType, an enum per enumerated simpleType and a streaming
+ * writer per class on top of {@link XmlByteWriter}.
+ *
+ * The ISO XSDs only use a small subset of XML Schema: each complexType is one
+ * sequence, one choice or a simpleContent extension (amount + Ccy), simple
+ * types restrict xs: built-ins, and SupplementaryDataEnvelope holds xs:any.
+ * Element tags are pre-encoded byte constants, so the generated writers only
+ * copy bytes and escape values; no reflection is involved.
+ *
+ * Usage: MxModelGenerator &lt;xsd&gt; &lt;output dir&gt; &lt;class name&gt;, e.g.
+ * {@code resources/pacs.008.001.08.xsd parser Pacs008Model}. The generated
+ * file is committed, rerun the generator when the XSD changes.
+ */
+public class MxModelGenerator {
+
+	private static final String XS = XMLConstants.W3C_XML_SCHEMA_NS_URI;
+	private static final String PACKAGE = MxModelGenerator.class.getPackage().getName();
+
+	private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("abstract", "assert", "boolean",
+			"break", "byte", "case", "catch", "char", "class", "const", "continue", "default", "do", "double", "else",
+			"enum", "extends", "final", "finally", "float", "for", "goto", "if", "implements", "import", "instanceof",
+			"int", "interface", "long", "native", "new", "package", "private", "protected", "public", "return",
+			"short", "static", "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient",
+			"try", "void", "volatile", "while", "true", "false", "null", "var", "record", "yield"));
+
+	private final String className;
+	private String namespace;
+	private final List<String[]> roots = new ArrayList<>(); // element name, type
+	private final Map<String, SimpleType> simpleTypes = new LinkedHashMap<>();
+	private final Map<String, ComplexType> complexTypes = new LinkedHashMap<>();
+
+	private final StringBuilder src = new StringBuilder(1 << 16);
+	private final Set<String> openTags = new LinkedHashSet<>();
+	private final Set<String> attrTags = new LinkedHashSet<>();
+
+	public MxModelGenerator(String className) {
+		this.className = className;
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.out.println("Usage: MxModelGenerator <xsd> <output dir> <class name>");
+			return;
+		}
+		Path out = new MxModelGenerator(args[2]).generate(Paths.get(args[0]), Paths.get(args[1]));
+		System.out.println("Generated " + out);
+	}
+
+	/** Reads the XSD and writes {@code <outputDir>/<className>.java}. */
+	public Path generate(Path xsd, Path outputDir) throws Exception {
+		read(xsd);
+		String code = emit(xsd.getFileName().toString());
+		Path out = outputDir.resolve(className + ".java");
+		Files.write(out, code.getBytes(StandardCharsets.UTF_8));
+		return out;
+	}
+
+	/* ======== XSD model ======== */
+
+	private static final class SimpleType {
+		String javaType; // String, BigDecimal, Boolean or the enum name
+		final List<String> enumValues = new ArrayList<>();
+	}
+
+	private enum Kind {
+		SEQUENCE, CHOICE, SIMPLE_CONTENT
+	}
+
+	private static final class ComplexType {
+		final String name;
+		Kind kind;
+		final List<Particle> elements = new ArrayList<>();
+		final List<Particle> attributes = new ArrayList<>();
+		boolean any;
+		String valueType; // simpleContent base
+
+		ComplexType(String name) {
+			this.name = name;
+		}
+	}
+
+	private static final class Particle {
+		String name;
+		String type;
+		boolean required;
+		boolean repeated;
+	}
+
+	private void read(Path xsd) throws Exception {
+		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+		dbf.setNamespaceAware(true);
+		dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		Document doc = dbf.newDocumentBuilder().parse(xsd.toFile());
+		Element schema = doc.getDocumentElement();
+		namespace = schema.getAttribute("targetNamespace");
+
+		for (Element e : children(schema)) {
+			switch (e.getLocalName()) {
+			case "element":
+				roots.add(new String[] { e.getAttribute("name"), e.getAttribute("type") });
+				break;
+			case "simpleType":
+				simpleTypes.put(e.getAttribute("name"), readSimple(e));
+				break;
+			case "complexType":
+				complexTypes.put(e.getAttribute("name"), readComplex(e));
+				break;
+			default:
+				// annotations etc.
+			}
+		}
+		// enum names are only known now
+		for (Map.Entry<String, SimpleType> s : simpleTypes.entrySet()) {
+			if (s.getValue().javaType == null) {
+				s.getValue().javaType = s.getKey();
+			}
+		}
+	}
+
+	private SimpleType readSimple(Element e) {
+		SimpleType t = new SimpleType();
+		Element restriction = first(e, "restriction");
+		String base = restriction.getAttribute("base");
+		for (Element f : children(restriction)) {
+			if ("enumeration".equals(f.getLocalName())) {
+				t.enumValues.add(f.getAttribute("value"));
+			}
+		}
+		boolean identifiers = !t.enumValues.isEmpty();
+		for (String v : t.enumValues) {
+			identifiers &= isIdentifier(v);
+		}
+		if (identifiers) {
+			t.javaType = null; // enum, named after the type
+		} else if (base.endsWith(":decimal")) {
+			t.javaType = "BigDecimal";
+		} else if (base.endsWith(":boolean")) {
+			t.javaType = "Boolean";
+		} else {
+			// strings, codes with non identifier values and ISO date/time lexical forms
+			t.javaType = "String";
+		}
+		return t;
+	}
+
+	private ComplexType readComplex(Element e) {
+		ComplexType t = new ComplexType(e.getAttribute("name"));
+		for (Element c : children(e)) {
+			switch (c.getLocalName()) {
+			case "sequence":
+				t.kind = Kind.SEQUENCE;
+				readParticles(c, t);
+				break;
+			case "choice":
+				t.kind = Kind.CHOICE;
+				readParticles(c, t);
+				break;
+			case "simpleContent":
+				t.kind = Kind.SIMPLE_CONTENT;
+				Element ext = first(c, "extension");
+				t.valueType = ext.getAttribute("base");
+				for (Element a : children(ext)) {
+					if ("attribute".equals(a.getLocalName())) {
+						Particle p = new Particle();
+						p.name = a.getAttribute("name");
+						p.type = a.getAttribute("type");
+						p.required = "required".equals(a.getAttribute("use"));
+						t.attributes.add(p);
+					}
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported content in complexType " + t.name + ": " + c.getLocalName());
+			}
+		}
+		return t;
+	}
+
+	private void readParticles(Element group, ComplexType t) {
+		for (Element p : children(group)) {
+			if ("any".equals(p.getLocalName())) {
+				t.any = true;
+				continue;
+			}
+			if (!"element".equals(p.getLocalName())) {
+				throw new IllegalArgumentException("Unsupported particle in " + t.name + ": " + p.getLocalName());
+			}
+			Particle el = new Particle();
+			el.name = p.getAttribute("name");
+			el.type = p.getAttribute("type");
+			String min = p.getAttribute("minOccurs");
+			String max = p.getAttribute("maxOccurs");
+			el.required = min.isEmpty() || !"0".equals(min);
+			el.repeated = "unbounded".equals(max) || (!max.isEmpty() && Integer.parseInt(max) > 1);
+			t.elements.add(el);
+		}
+	}
+
+	private static List<Element> children(Element e) {
+		List<Element> list = new ArrayList<>();
+		for (Node n = e.getFirstChild(); n != null; n = n.getNextSibling()) {
+			if (n instanceof Element && XS.equals(n.getNamespaceURI())) {
+				list.add((Element) n);
+			}
+		}
+		return list;
+	}
+
+	private static Element first(Element e, String localName) {
+		for (Element c : children(e)) {
+			if (localName.equals(c.getLocalName())) {
+				return c;
+			}
+		}
+		throw new IllegalArgumentException("No xs:" + localName + " in " + e.getAttribute("name"));
+	}
+
+	/* ======== Source emission ======== */
+
+	private String emit(String xsdName) {
+		// types first: the tag constants in the header are collected while writing them
+		for (Map.Entry<String, SimpleType> s : simpleTypes.entrySet()) {
+			if (!s.getValue().enumValues.isEmpty() && s.getValue().javaType.equals(s.getKey())) {
+				emitEnum(s.getKey(), s.getValue());
+			}
+		}
+		for (ComplexType t : complexTypes.values()) {
+			emitClass(t);
+		}
+		String body = src.toString();
+		src.setLength(0);
+
+		line(0, "package " + PACKAGE + ";");
+		line(0, "");
+		line(0, "import java.math.BigDecimal;");
+		line(0, "import java.nio.charset.StandardCharsets;");
+		line(0, "import java.util.ArrayList;");
+		line(0, "import java.util.List;");
+		line(0, "");
+		line(0, "/**");
+		line(0, " * Typed model and streaming writer for " + namespace + ".");
+		line(0, " *");
+		line(0, " * GENERATED by MxModelGenerator from " + xsdName + ", do not edit. Optional");
+		line(0, " * elements are null when absent, repeated ones are lists (created by the add");
+		line(0, " * methods), choices write their first non-null alternative. Date and time");
+		line(0, " * values are kept in their ISO lexical form. Schema facets (patterns,");
+		line(0, " * lengths, required elements) are not checked here, use MxSchemaValidator.");
+		line(0, " */");
+		line(0, "public final class " + className + " {");
+		line(0, "");
+		line(1, "public static final String NAMESPACE = \"" + namespace + "\";");
+		line(0, "");
+		line(1, "private " + className + "() {");
+		line(1, "}");
+		line(0, "");
+		for (String[] root : roots) {
+			emitRootWriter(root[0], root[1]);
+		}
+		line(1, "/* ======== Pre-encoded tags ======== */");
+		line(0, "");
+		for (String tag : openTags) {
+			line(1, "private static final byte[] O_" + tag + " = ascii(\"<" + tag + ">\");");
+			line(1, "private static final byte[] C_" + tag + " = ascii(\"</" + tag + ">\");");
+		}
+		for (String tag : attrTags) {
+			line(1, "private static final byte[] A_" + tag + " = ascii(\"<" + tag + "\");");
+			if (!openTags.contains(tag)) {
+				line(1, "private static final byte[] C_" + tag + " = ascii(\"</" + tag + ">\");");
+			}
+		}
+		line(0, "");
+		line(1, "private static byte[] ascii(String s) {");
+		line(2, "return s.getBytes(StandardCharsets.US_ASCII);");
+		line(1, "}");
+		line(0, "");
+		line(1, "private static <T> List<T> add(List<T> list, T value) {");
+		line(2, "List<T> l = list != null ? list : new ArrayList<>();");
+		line(2, "l.add(value);");
+		line(2, "return l;");
+		line(1, "}");
+		src.append(body);
+		line(0, "}");
+		return src.toString();
+	}
+
+	private void emitRootWriter(String element, String type) {
+		String prolog = "<?xml version=\\\"1.0\\\" encoding=\\\"UTF-8\\\"?><" + element + " xmlns=\\\"" + namespace
+				+ "\\\">";
+		line(1, "/* ======== Document writer ======== */");
+		line(0, "");
+		line(1, "private static final byte[] " + element.toUpperCase() + "_OPEN = (\"" + prolog
+				+ "\").getBytes(StandardCharsets.UTF_8);");
+		line(1, "private static final byte[] " + element.toUpperCase() + "_CLOSE = ascii(\"</" + element + ">\");");
+		line(0, "");
+		line(1, "/** Writes the complete UTF-8 document (declaration, root element and namespace). */");
+		line(1, "public static void write(" + type + " doc, XmlByteWriter out) {");
+		line(2, "out.writeRaw(" + element.toUpperCase() + "_OPEN);");
+		line(2, "doc.write(out);");
+		line(2, "out.writeRaw(" + element.toUpperCase() + "_CLOSE);");
+		line(1, "}");
+		line(0, "");
+		line(1, "public static byte[] toBytes(" + type + " doc) {");
+		line(2, "XmlByteWriter out = new XmlByteWriter();");
+		line(2, "write(doc, out);");
+		line(2, "return out.toByteArray();");
+		line(1, "}");
+		line(0, "");
+	}
+
+	private void emitEnum(String name, SimpleType t) {
+		line(0, "");
+		line(1, "public enum " + name + " {");
+		line(2, String.join(", ", t.enumValues));
+		line(1, "}");
+	}
+
+	private void emitClass(ComplexType t) {
+		line(0, "");
+		line(1, "public static class " + t.name + " {");
+		if (t.kind == Kind.SIMPLE_CONTENT) {
+			line(2, "public " + javaType(t.valueType) + " value;");
+			for (Particle a : t.attributes) {
+				line(2, "public " + javaType(a.type) + " " + field(a.name) + ";" + (a.required ? " // required" : ""));
+			}
+		} else {
+			for (Particle p : t.elements) {
+				String type = javaType(p.type);
+				if (p.repeated) {
+					line(2, "public List<" + type + "> " + field(p.name) + ";");
+				} else {
+					line(2, "public " + type + " " + field(p.name) + ";" + (p.required && t.kind == Kind.SEQUENCE ? " // required" : ""));
+				}
+			}
+			if (t.any) {
+				line(2, "/** Well-formed XML written as is (xs:any). */");
+				line(2, "public String any;");
+			}
+		}
+		emitAdders(t);
+		emitWriter(t);
+		line(1, "}");
+	}
+
+	private void emitAdders(ComplexType t) {
+		for (Particle p : t.elements) {
+			if (p.repeated) {
+				String f = field(p.name);
+				line(0, "");
+				line(2, "public " + t.name + " add" + p.name + "(" + javaType(p.type) + " v) {");
+				line(3, f + " = add(" + f + ", v);");
+				line(3, "return this;");
+				line(2, "}");
+			}
+		}
+	}
+
+	private void emitWriter(ComplexType t) {
+		line(0, "");
+		if (t.kind == Kind.SIMPLE_CONTENT) {
+			line(2, "/** Attributes, end of the start tag and the value. */");
+			line(2, "void write(XmlByteWriter out) {");
+			for (Particle a : t.attributes) {
+				String f = field(a.name);
+				line(3, "if (" + f + " != null) {");
+				line(4, "out.writeAscii(\" " + a.name + "=\\\"\");");
+				line(4, "out.writeAttrValue(" + text(a.type, f) + ");");
+				line(4, "out.writeAscii(\"\\\"\");");
+				line(3, "}");
+			}
+			line(3, "out.writeAscii(\">\");");
+			line(3, "if (value != null) {");
+			line(4, writeValue(t.valueType, "value"));
+			line(3, "}");
+			line(2, "}");
+			return;
+		}
+		line(2, "void write(XmlByteWriter out) {");
+		boolean firstChoice = true;
+		for (Particle p : t.elements) {
+			String f = field(p.name);
+			if (p.repeated) {
+				line(3, "if (" + f + " != null) {");
+				line(4, "for (" + javaType(p.type) + " v : " + f + ") {");
+				writeElement(5, p, "v");
+				line(4, "}");
+				line(3, "}");
+			} else if (t.kind == Kind.CHOICE) {
+				line(3, (firstChoice ? "if (" : "} else if (") + f + " != null) {");
+				writeElement(4, p, f);
+				firstChoice = false;
+			} else {
+				line(3, "if (" + f + " != null) {");
+				writeElement(4, p, f);
+				line(3, "}");
+			}
+		}
+		if (t.kind == Kind.CHOICE && !firstChoice) {
+			line(3, "}");
+		}
+		if (t.any) {
+			line(3, "if (any != null) {");
+			line(4, "out.writeRaw(any.getBytes(StandardCharsets.UTF_8));");
+			line(3, "}");
+		}
+		line(2, "}");
+	}
+
+	private void writeElement(int indent, Particle p, String var) {
+		ComplexType ct = complexTypes.get(p.type);
+		if (ct != null && ct.kind == Kind.SIMPLE_CONTENT) {
+			attrTags.add(p.name);
+			line(indent, "out.writeRaw(A_" + p.name + ");");
+			line(indent, var + ".write(out);");
+			line(indent, "out.writeRaw(C_" + p.name + ");");
+			return;
+		}
+		openTags.add(p.name);
+		line(indent, "out.writeRaw(O_" + p.name + ");");
+		if (ct != null) {
+			line(indent, var + ".write(out);");
+		} else {
+			line(indent, writeValue(p.type, var));
+		}
+		line(indent, "out.writeRaw(C_" + p.name + ");");
+	}
+
+	private String writeValue(String xsdType, String var) {
+		String type = javaType(xsdType);
+		switch (type) {
+		case "String":
+			return "out.writeText(" + var + ");";
+		case "BigDecimal":
+			return "out.writeAscii(" + var + ".toPlainString());";
+		case "Boolean":
+			return "out.writeAscii(" + var + ".toString());";
+		default:
+			return "out.writeAscii(" + var + ".name());"; // enum constants are ASCII identifiers
+		}
+	}
+
+	private String text(String xsdType, String var) {
+		String type = javaType(xsdType);
+		return "String".equals(type) ? var : var + ("BigDecimal".equals(type) ? ".toPlainString()" : ".toString()");
+	}
+
+	private String javaType(String xsdType) {
+		if (complexTypes.containsKey(xsdType)) {
+			return xsdType;
+		}
+		SimpleType s = simpleTypes.get(xsdType);
+		if (s != null) {
+			return s.javaType;
+		}
+		if (xsdType.endsWith(":decimal")) {
+			return "BigDecimal";
+		}
+		if (xsdType.endsWith(":boolean")) {
+			return "Boolean";
+		}
+		return "String";
+	}
+
+	/** Element name as a field: MsgId -> msgId, acronyms (BICFI, UETR) unchanged. */
+	private static String field(String name) {
+		String f = name;
+		if (name.length() > 1 && !(Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1)))) {
+			f = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+		}
+		return KEYWORDS.contains(f) ? f + "_" : f;
+	}
+
+	private static boolean isIdentifier(String v) {
+		if (v.isEmpty() || !Character.isJavaIdentifierStart(v.charAt(0)) || KEYWORDS.contains(v)) {
+			return false;
+		}
+		for (int i = 1; i < v.length(); i++) {
+			if (!Character.isJavaIdentifierPart(v.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void line(int indent, String s) {
+		for (int i = 0; i < indent; i++) {
+			src.append('\t');
+		}
+		src.append(s).append('\n');
+	}
+}
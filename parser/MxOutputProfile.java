@@ -0,0 +1,237 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * How mapper output is serialised: indentation, empty element pruning and
+ * compression of the byte stream.
+ *
+ * {@link #PRETTY} is the historical toXmlString format (indented, for logs and
+ * demos). {@link #PRODUCTION} is what goes on MQ: no indentation, namespace
+ * declared once on the root. {@link #ARCHIVE} adds gzip for stored copies.
+ * Profiles are immutable, derive variants with the with* methods.
+ */
+public final class MxOutputProfile {
+
+	public enum Compression {
+		NONE, GZIP, DEFLATE
+	}
+
+	public static final MxOutputProfile PRETTY = new MxOutputProfile(true, false, Compression.NONE, Deflater.DEFAULT_COMPRESSION);
+	public static final MxOutputProfile PRODUCTION = new MxOutputProfile(false, false, Compression.NONE, Deflater.DEFAULT_COMPRESSION);
+	public static final MxOutputProfile ARCHIVE = PRODUCTION.withCompression(Compression.GZIP);
+
+	private static final ThreadLocal<TransformerFactory> TF = ThreadLocal.withInitial(TransformerFactory::newInstance);
+	private static final int COMPRESS_BUFFER = 8192;
+
+	private final boolean indent;
+	private final boolean pruneEmpty;
+	private final Compression compression;
+	private final int level;
+
+	private MxOutputProfile(boolean indent, boolean pruneEmpty, Compression compression, int level) {
+		this.indent = indent;
+		this.pruneEmpty = pruneEmpty;
+		this.compression = compression;
+		this.level = level;
+	}
+
+	public MxOutputProfile withIndent(boolean on) {
+		return new MxOutputProfile(on, pruneEmpty, compression, level);
+	}
+
+	/**
+	 * Leaves out elements without text, attributes or child elements. Empty
+	 * [n] padding in front of a kept sibling of the same name stays, so pruned
+	 * output still maps back with MxToMtMapper.
+	 */
+	public MxOutputProfile withPruneEmpty(boolean on) {
+		return new MxOutputProfile(indent, on, compression, level);
+	}
+
+	public MxOutputProfile withCompression(Compression c) {
+		return new MxOutputProfile(indent, pruneEmpty, c, level);
+	}
+
+	/** Deflater level 0-9 (or -1 for the default) used by GZIP and DEFLATE. */
+	public MxOutputProfile withCompressionLevel(int compressionLevel) {
+		return new MxOutputProfile(indent, pruneEmpty, compression, compressionLevel);
+	}
+
+	public boolean indent() {
+		return indent;
+	}
+
+	public boolean pruneEmpty() {
+		return pruneEmpty;
+	}
+
+	public Compression compression() {
+		return compression;
+	}
+
+	/* ======== Compression ======== */
+
+	/**
+	 * Wraps {@code out} in the profile's compressor; pair with {@link #finish},
+	 * which completes the compressed stream without closing {@code out}.
+	 */
+	public OutputStream open(OutputStream out) throws IOException {
+		switch (compression) {
+		case GZIP: {
+			int lvl = level;
+			return new GZIPOutputStream(out, COMPRESS_BUFFER) {
+				{
+					def.setLevel(lvl);
+				}
+
+				@Override
+				public void finish() throws IOException {
+					super.finish();
+					def.end(); // normally done by close(), which would close out
+				}
+			};
+		}
+		case DEFLATE:
+			return new DeflaterOutputStream(out, new Deflater(level), COMPRESS_BUFFER) {
+				@Override
+				public void finish() throws IOException {
+					super.finish();
+					def.end();
+				}
+			};
+		default:
+			return out;
+		}
+	}
+
+	public void finish(OutputStream opened) throws IOException {
+		if (opened instanceof DeflaterOutputStream) {
+			((DeflaterOutputStream) opened).finish();
+		}
+		opened.flush();
+	}
+
+	/* ======== DOM serialisation ======== */
+
+	/**
+	 * Serialises the DOM as a String (never compressed). Pruning and namespace
+	 * clean-up edit the passed document in place.
+	 */
+	public String toXmlString(Document doc) throws TransformerException {
+		prepare(doc);
+		StringWriter sw = new StringWriter();
+		transformer().transform(new DOMSource(doc), new StreamResult(sw));
+		return sw.toString();
+	}
+
+	/** Serialises the DOM as UTF-8 into {@code out}, compressed per profile; out is not closed. */
+	public void write(Document doc, OutputStream out) throws TransformerException, IOException {
+		prepare(doc);
+		OutputStream o = open(out);
+		transformer().transform(new DOMSource(doc), new StreamResult(o));
+		finish(o);
+	}
+
+	private Transformer transformer() throws TransformerException {
+		Transformer t = TF.get().newTransformer();
+		t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
+		t.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+		t.setOutputProperty(OutputKeys.INDENT, indent ? "yes" : "no");
+		if (indent) {
+			t.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
+		}
+		return t;
+	}
+
+	private void prepare(Document doc) {
+		Element root = doc.getDocumentElement();
+		if (root == null) {
+			return;
+		}
+		dropRedundantNamespaces(root);
+		if (pruneEmpty) {
+			prune(root);
+		}
+	}
+
+	/** Removes xmlns declarations that repeat the binding already in scope. */
+	private static void dropRedundantNamespaces(Element e) {
+		for (Node n = e.getFirstChild(); n != null; n = n.getNextSibling()) {
+			if (!(n instanceof Element)) {
+				continue;
+			}
+			Element child = (Element) n;
+			NamedNodeMap attrs = child.getAttributes();
+			for (int i = attrs.getLength() - 1; i >= 0; i--) {
+				Attr a = (Attr) attrs.item(i);
+				if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(a.getNamespaceURI())) {
+					continue;
+				}
+				String prefix = XMLConstants.XMLNS_ATTRIBUTE.equals(a.getLocalName()) ? null : a.getLocalName();
+				String inScope = e.lookupNamespaceURI(prefix);
+				if (a.getValue().equals(inScope)) {
+					child.removeAttributeNode(a);
+				}
+			}
+			dropRedundantNamespaces(child);
+		}
+	}
+
+	/**
+	 * Post-order, so parents emptied by pruning go too; returns true when e is
+	 * empty. Children are visited last to first: an empty element followed by a
+	 * kept one of the same name holds its position and is not removed.
+	 */
+	private static boolean prune(Element e) {
+		boolean empty = true;
+		Set<String> kept = new HashSet<>();
+		Node n = e.getLastChild();
+		while (n != null) {
+			Node previous = n.getPreviousSibling();
+			if (n instanceof Element) {
+				if (prune((Element) n) && !kept.contains(n.getNodeName())) {
+					e.removeChild(n);
+				} else {
+					empty = false;
+					kept.add(n.getNodeName());
+				}
+			} else if (n.getNodeType() == Node.TEXT_NODE || n.getNodeType() == Node.CDATA_SECTION_NODE) {
+				if (!n.getNodeValue().trim().isEmpty()) {
+					empty = false;
+				}
+			} else {
+				empty = false;
+			}
+			n = previous;
+		}
+		NamedNodeMap attrs = e.getAttributes();
+		for (int i = 0; i < attrs.getLength() && empty; i++) {
+			if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attrs.item(i).getNamespaceURI())) {
+				empty = false;
+			}
+		}
+		return empty && e.getParentNode() != e.getOwnerDocument();
+	}
+}
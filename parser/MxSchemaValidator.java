@@ -0,0 +1,172 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+
+import org.w3c.dom.Document;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * XSD validation of mapper output (e.g. resources/pacs.008.001.08.xsd).
+ *
+ * The XSD is compiled into a {@link Schema} once per file and cached. Validators
+ * are not thread safe, so each worker borrows one from a bounded pool and hands
+ * it back afterwards; when the pool is empty a new one is created instead of
+ * blocking. Template output is validated from SAX events fired straight from
+ * the resolved values and DOM output through a DOMSource, so the serialised
+ * message is never parsed again.
+ */
+public class MxSchemaValidator {
+
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	private static final Map<Path, MxSchemaValidator> CACHE = new ConcurrentHashMap<>();
+
+	private final Schema schema;
+	private final BlockingQueue<ValidatorHandler> handlers;
+	private final BlockingQueue<Validator> validators;
+
+	/** Source of SAX events for one document, e.g. MxTemplate#fire. */
+	@FunctionalInterface
+	public interface EventSource {
+		void fire(ContentHandler handler) throws SAXException;
+	}
+
+	private MxSchemaValidator(Schema schema, int poolSize) {
+		this.schema = schema;
+		this.handlers = new ArrayBlockingQueue<>(poolSize);
+		this.validators = new ArrayBlockingQueue<>(poolSize);
+	}
+
+	public static MxSchemaValidator forXsd(Path xsd) {
+		return forXsd(xsd, DEFAULT_POOL_SIZE);
+	}
+
+	/** Cached per XSD file; the pool size of the first call wins. */
+	public static MxSchemaValidator forXsd(Path xsd, int poolSize) {
+		return CACHE.computeIfAbsent(xsd.toAbsolutePath().normalize(), p -> {
+			try {
+				SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+				sf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+				return new MxSchemaValidator(sf.newSchema(p.toFile()), Math.max(1, poolSize));
+			} catch (SAXException e) {
+				throw new IllegalArgumentException("Cannot compile schema " + p, e);
+			}
+		});
+	}
+
+	/* ======== Validation ======== */
+
+	/** Validates a streamed document; returns the schema errors, empty when valid. */
+	public List<String> validate(EventSource source) {
+		ValidatorHandler h = handlers.poll();
+		if (h == null) {
+			h = schema.newValidatorHandler();
+		}
+		Collector errors = new Collector();
+		h.setErrorHandler(errors);
+		// only a handler that saw the whole document goes back to the pool, not one
+		// aborted mid-document by a SAXException or RuntimeException
+		boolean reusable = false;
+		try {
+			source.fire(h);
+			reusable = true;
+		} catch (SAXException e) {
+			errors.add(e);
+		} finally {
+			h.setErrorHandler(null);
+			if (reusable) {
+				handlers.offer(h);
+			}
+		}
+		return errors.result();
+	}
+
+	/** Validates a mapped DOM in place. */
+	public List<String> validate(Document doc) {
+		Validator v = validators.poll();
+		if (v == null) {
+			v = schema.newValidator();
+		}
+		Collector errors = new Collector();
+		v.setErrorHandler(errors);
+		try {
+			v.validate(new DOMSource(doc));
+		} catch (Exception e) {
+			errors.add(e);
+			v.reset();
+		} finally {
+			v.setErrorHandler(null);
+			validators.offer(v);
+		}
+		return errors.result();
+	}
+
+	/* ======== Errors ======== */
+
+	/** Thrown by the mappers when validated output does not conform to the XSD. */
+	public static class SchemaViolationException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private final List<String> errors;
+
+		public SchemaViolationException(List<String> errors) {
+			super("MX schema validation failed: " + errors);
+			this.errors = Collections.unmodifiableList(errors);
+		}
+
+		public List<String> getErrors() {
+			return errors;
+		}
+	}
+
+	/** Collects all errors instead of stopping at the first one. */
+	private static final class Collector implements ErrorHandler {
+		private List<String> errors;
+
+		@Override
+		public void warning(SAXParseException e) {
+			// warnings do not make the message invalid
+		}
+
+		@Override
+		public void error(SAXParseException e) {
+			add(e);
+		}
+
+		@Override
+		public void fatalError(SAXParseException e) throws SAXException {
+			add(e);
+			throw e;
+		}
+
+		void add(Exception e) {
+			if (errors == null) {
+				errors = new ArrayList<>();
+			}
+			String msg = e.getMessage();
+			if (errors.isEmpty() || !errors.get(errors.size() - 1).equals(msg)) {
+				errors.add(msg);
+			}
+		}
+
+		List<String> result() {
+			return errors == null ? Collections.emptyList() : errors;
+		}
+	}
+}
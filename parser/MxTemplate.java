@@ -0,0 +1,542 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Pre-compiled output shape for one MX message type.
+ *
+ * Every mapping rule registers its mxPath once, either as a constant or as a
+ * variable slot. On {@link #compile()} every subtree that only holds constants
+ * (e.g. GrpHdr.SttlmInf) is rendered once into UTF-8 bytes; per message only
+ * the variable slots are escaped and spliced in between those byte runs.
+ *
+ * Path syntax and element semantics follow JsonDrivenMapper.applyPath:
+ * "A.B[1].C@Attr", siblings appear in first-declared order, a later value on
+ * the same node wins, and Name[n] pads the missing lower indices with empty
+ * elements.
+ *
+ * A canonical template writes Exclusive XML Canonicalization (exc-c14n, no
+ * comments) directly: no XML declaration, empty elements as start/end tag
+ * pairs, attributes in sorted order and c14n character references. The
+ * namespace is declared once on the root, which is where exc-c14n puts it.
+ *
+ * The padding elements are always written, also where empty elements are
+ * otherwise pruned: they hold the [n] position of the siblings that follow,
+ * which MxToMtMapper needs to map them back.
+ */
+public class MxTemplate {
+
+	private static final AttributesImpl NO_ATTRS = new AttributesImpl();
+
+	private final String namespace;
+	private final String rootElement;
+	private final Node message;
+	private final boolean canonical;
+	private int slotCount;
+	private boolean compiled;
+
+	private byte[] prolog;
+	private byte[] epilog;
+
+	public MxTemplate(String namespace, String rootElement, String messageElement) {
+		this(namespace, rootElement, messageElement, false);
+	}
+
+	public MxTemplate(String namespace, String rootElement, String messageElement, boolean canonical) {
+		this.namespace = namespace;
+		this.rootElement = rootElement;
+		this.message = new Node(messageElement);
+		this.canonical = canonical;
+	}
+
+	public boolean isCanonical() {
+		return canonical;
+	}
+
+	/* ======== Declaration ======== */
+
+	/** Registers a per-message value for the path and returns its slot index. */
+	public int variable(String path) {
+		int slot = slotCount++;
+		declare(path, new Source(slot, null));
+		return slot;
+	}
+
+	/** Registers a value that is identical for every message. */
+	public void constant(String path, String value) {
+		if (value == null || value.isEmpty()) {
+			return;
+		}
+		declare(path, new Source(-1, value));
+	}
+
+	public int slotCount() {
+		return slotCount;
+	}
+
+	private void declare(String path, Source source) {
+		if (compiled) {
+			throw new IllegalStateException("Template already compiled");
+		}
+		String[] parts = path.split("\\.");
+		Node current = message;
+		for (int i = 0; i < parts.length; i++) {
+			String part = parts[i];
+
+			int at = part.indexOf('@');
+			if (at >= 0) {
+				String elemName = part.substring(0, at);
+				if (!elemName.isEmpty()) {
+					current = current.child(elemName, 0);
+				}
+				current.attrs.computeIfAbsent(part.substring(at + 1), a -> new ArrayList<>()).add(source);
+				return;
+			}
+
+			int idx = 0;
+			String elemName = part;
+			int bracket = part.indexOf('[');
+			if (bracket >= 0 && part.endsWith("]")) {
+				elemName = part.substring(0, bracket);
+				idx = Integer.parseInt(part.substring(bracket + 1, part.length() - 1));
+			}
+			current = current.child(elemName, idx);
+			if (i == parts.length - 1) {
+				current.text.add(source);
+			}
+		}
+	}
+
+	/* ======== Compilation ======== */
+
+	/** Freezes the shape and pre-renders all constant-only subtrees. */
+	public MxTemplate compile() {
+		if (compiled) {
+			return this;
+		}
+		compiled = true;
+		analyse(message);
+
+		XmlByteWriter w = new XmlByteWriter(256);
+		if (!canonical) {
+			w.writeAscii("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+		}
+		w.writeAscii("<");
+		w.writeAscii(rootElement);
+		w.writeAscii(" xmlns=\"");
+		attrValue(namespace, w);
+		w.writeAscii("\">");
+		w.writeRaw(message.open);
+		w.writeAscii(">");
+		prolog = w.toByteArray();
+
+		w.reset();
+		w.writeRaw(message.close);
+		w.writeAscii("</" + rootElement + ">");
+		epilog = w.toByteArray();
+		return this;
+	}
+
+	private void analyse(Node node) {
+		if (canonical) {
+			sortAttributes(node);
+		}
+		List<Integer> slots = new ArrayList<>();
+		collectSources(node.text, slots);
+		boolean anyConstant = hasConstant(node.text);
+		for (List<Source> sources : node.attrs.values()) {
+			collectSources(sources, slots);
+			anyConstant |= hasConstant(sources);
+		}
+
+		for (Group g : node.groups.values()) {
+			if (canonical) {
+				g.empty = ("<" + g.name + "></" + g.name + ">").getBytes(StandardCharsets.UTF_8);
+			}
+			boolean groupConstant = true;
+			for (Node child : g.nodes) {
+				if (child == null) {
+					continue;
+				}
+				analyse(child);
+				for (int s : child.slots) {
+					slots.add(s);
+				}
+				groupConstant &= child.constant;
+				anyConstant |= child.alwaysPresent;
+			}
+			g.constant = groupConstant;
+		}
+
+		node.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+		node.alwaysPresent = anyConstant;
+		// no variable slot anywhere below and at least one constant
+		node.constant = slots.isEmpty() && anyConstant;
+
+		if (node.constant) {
+			XmlByteWriter w = new XmlByteWriter(128);
+			writeNode(node, null, w);
+			node.bytes = w.toByteArray();
+			return;
+		}
+
+		// merge neighbouring constant groups into single byte runs
+		List<Object> ops = new ArrayList<>();
+		XmlByteWriter run = new XmlByteWriter(128);
+		for (Group g : node.groups.values()) {
+			if (g.constant) {
+				writeGroup(g, null, run);
+			} else {
+				if (run.size() > 0) {
+					ops.add(run.toByteArray());
+					run.reset();
+				}
+				ops.add(g);
+			}
+		}
+		if (run.size() > 0) {
+			ops.add(run.toByteArray());
+		}
+		node.ops = ops.toArray();
+	}
+
+	/** c14n orders unqualified attributes by name. */
+	private static void sortAttributes(Node node) {
+		if (node.attrs.size() < 2) {
+			return;
+		}
+		Map<String, List<Source>> sorted = new TreeMap<>(node.attrs);
+		node.attrs.clear();
+		node.attrs.putAll(sorted);
+	}
+
+	private static void collectSources(List<Source> sources, List<Integer> slots) {
+		for (Source s : sources) {
+			if (s.slot >= 0) {
+				slots.add(s.slot);
+			}
+		}
+	}
+
+	private static boolean hasConstant(List<Source> sources) {
+		for (Source s : sources) {
+			if (s.slot < 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/* ======== Rendering ======== */
+
+	/**
+	 * Writes the full document. {@code values} is indexed by slot; null or empty
+	 * entries are treated like skipped rules.
+	 */
+	public void write(String[] values, XmlByteWriter out) {
+		if (!compiled) {
+			throw new IllegalStateException("Template not compiled");
+		}
+		out.writeRaw(prolog);
+		writeChildren(message, values, out);
+		out.writeRaw(epilog);
+	}
+
+	/**
+	 * Writes one document holding every entry of {@code transactions} as its own
+	 * {@code repeated} child (e.g. CdtTrfTxInf) of the message element; all
+	 * other children are rendered from {@code header}.
+	 */
+	public void writeBatch(String[] header, List<String[]> transactions, String repeated, XmlByteWriter out) {
+		if (!compiled) {
+			throw new IllegalStateException("Template not compiled");
+		}
+		out.writeRaw(prolog);
+		for (Group g : message.groups.values()) {
+			if (g.name.equals(repeated)) {
+				for (String[] tx : transactions) {
+					writeGroup(g, tx, out);
+				}
+			} else {
+				writeGroup(g, header, out);
+			}
+		}
+		out.writeRaw(epilog);
+	}
+
+	private void writeChildren(Node node, String[] values, XmlByteWriter out) {
+		if (node.ops == null) {
+			for (Group g : node.groups.values()) {
+				writeGroup(g, values, out);
+			}
+			return;
+		}
+		for (Object op : node.ops) {
+			if (op instanceof byte[]) {
+				out.writeRaw((byte[]) op);
+			} else {
+				writeGroup((Group) op, values, out);
+			}
+		}
+	}
+
+	private void writeGroup(Group g, String[] values, XmlByteWriter out) {
+		int last = -1;
+		for (int i = g.nodes.size() - 1; i >= 0; i--) {
+			Node n = g.nodes.get(i);
+			if (n != null && isPresent(n, values)) {
+				last = i;
+				break;
+			}
+		}
+		for (int i = 0; i <= last; i++) {
+			Node n = g.nodes.get(i);
+			if (n == null || !isPresent(n, values)) {
+				// padding created by ensureChild for higher indices
+				out.writeRaw(g.empty);
+			} else {
+				writeNode(n, values, out);
+			}
+		}
+	}
+
+	private void writeNode(Node node, String[] values, XmlByteWriter out) {
+		if (node.bytes != null) {
+			out.writeRaw(node.bytes);
+			return;
+		}
+		out.writeRaw(node.open);
+		for (Map.Entry<String, List<Source>> a : node.attrs.entrySet()) {
+			String v = resolve(a.getValue(), values);
+			if (v != null) {
+				out.writeAscii(" ");
+				out.writeAscii(a.getKey());
+				out.writeAscii("=\"");
+				attrValue(v, out);
+				out.writeAscii("\"");
+			}
+		}
+		String text = resolve(node.text, values);
+		boolean hasChildren = false;
+		for (Group g : node.groups.values()) {
+			for (Node n : g.nodes) {
+				if (n != null && isPresent(n, values)) {
+					hasChildren = true;
+					break;
+				}
+			}
+		}
+		if (text == null && !hasChildren) {
+			if (canonical) {
+				out.writeAscii(">");
+				out.writeRaw(node.close);
+			} else {
+				out.writeAscii("/>");
+			}
+			return;
+		}
+		out.writeAscii(">");
+		if (text != null) {
+			if (canonical) {
+				out.writeCanonicalText(text);
+			} else {
+				out.writeText(text);
+			}
+		}
+		writeChildren(node, values, out);
+		out.writeRaw(node.close);
+	}
+
+	private void attrValue(String v, XmlByteWriter out) {
+		if (canonical) {
+			out.writeCanonicalAttrValue(v);
+		} else {
+			out.writeAttrValue(v);
+		}
+	}
+
+	private static boolean isPresent(Node node, String[] values) {
+		if (node.alwaysPresent) {
+			return true;
+		}
+		if (values == null) {
+			return false;
+		}
+		for (int s : node.slots) {
+			String v = values[s];
+			if (v != null && !v.isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Last present source wins, like repeated setTextContent / setAttribute. */
+	private static String resolve(List<Source> sources, String[] values) {
+		for (int i = sources.size() - 1; i >= 0; i--) {
+			Source s = sources.get(i);
+			String v = s.slot < 0 ? s.constant : (values == null ? null : values[s.slot]);
+			if (v != null && !v.isEmpty()) {
+				return v;
+			}
+		}
+		return null;
+	}
+
+	/* ======== SAX events (schema validation) ======== */
+
+	/**
+	 * Fires the same document as {@link #write} as SAX events, e.g. into a
+	 * javax.xml.validation.ValidatorHandler. Constant subtrees are walked
+	 * instead of copied, nothing is serialised or parsed.
+	 */
+	public void fire(String[] values, ContentHandler h) throws SAXException {
+		startDocument(h);
+		for (Group g : message.groups.values()) {
+			fireGroup(g, values, h);
+		}
+		endDocument(h);
+	}
+
+	/** Event counterpart of {@link #writeBatch}. */
+	public void fireBatch(String[] header, List<String[]> transactions, String repeated, ContentHandler h)
+			throws SAXException {
+		startDocument(h);
+		for (Group g : message.groups.values()) {
+			if (g.name.equals(repeated)) {
+				for (String[] tx : transactions) {
+					fireGroup(g, tx, h);
+				}
+			} else {
+				fireGroup(g, header, h);
+			}
+		}
+		endDocument(h);
+	}
+
+	private void startDocument(ContentHandler h) throws SAXException {
+		if (!compiled) {
+			throw new IllegalStateException("Template not compiled");
+		}
+		h.startDocument();
+		h.startPrefixMapping("", namespace);
+		h.startElement(namespace, rootElement, rootElement, NO_ATTRS);
+		h.startElement(namespace, message.name, message.name, NO_ATTRS);
+	}
+
+	private void endDocument(ContentHandler h) throws SAXException {
+		h.endElement(namespace, message.name, message.name);
+		h.endElement(namespace, rootElement, rootElement);
+		h.endPrefixMapping("");
+		h.endDocument();
+	}
+
+	private void fireGroup(Group g, String[] values, ContentHandler h) throws SAXException {
+		int last = -1;
+		for (int i = g.nodes.size() - 1; i >= 0; i--) {
+			Node n = g.nodes.get(i);
+			if (n != null && isPresent(n, values)) {
+				last = i;
+				break;
+			}
+		}
+		for (int i = 0; i <= last; i++) {
+			Node n = g.nodes.get(i);
+			if (n == null || !isPresent(n, values)) {
+				h.startElement(namespace, g.name, g.name, NO_ATTRS);
+				h.endElement(namespace, g.name, g.name);
+			} else {
+				fireNode(n, values, h);
+			}
+		}
+	}
+
+	private void fireNode(Node node, String[] values, ContentHandler h) throws SAXException {
+		AttributesImpl attrs = NO_ATTRS;
+		for (Map.Entry<String, List<Source>> a : node.attrs.entrySet()) {
+			String v = resolve(a.getValue(), values);
+			if (v != null) {
+				if (attrs == NO_ATTRS) {
+					attrs = new AttributesImpl();
+				}
+				attrs.addAttribute("", a.getKey(), a.getKey(), "CDATA", v);
+			}
+		}
+		h.startElement(namespace, node.name, node.name, attrs);
+		String text = resolve(node.text, values);
+		if (text != null) {
+			h.characters(text.toCharArray(), 0, text.length());
+		}
+		for (Group g : node.groups.values()) {
+			fireGroup(g, values, h);
+		}
+		h.endElement(namespace, node.name, node.name);
+	}
+
+	/* ======== Shape model ======== */
+
+	private static final class Source {
+		final int slot; // -1 for constants
+		final String constant;
+
+		Source(int slot, String constant) {
+			this.slot = slot;
+			this.constant = constant;
+		}
+	}
+
+	private static final class Group {
+		final String name;
+		final List<Node> nodes = new ArrayList<>();
+		byte[] empty; // padding element, start/end pair when canonical
+		boolean constant;
+
+		Group(String name) {
+			this.name = name;
+			this.empty = ("<" + name + "/>").getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	private static final class Node {
+		final String name;
+		final byte[] open;
+		final byte[] close;
+		final List<Source> text = new ArrayList<>();
+		final Map<String, List<Source>> attrs = new LinkedHashMap<>();
+		final Map<String, Group> groups = new LinkedHashMap<>();
+
+		int[] slots;
+		boolean alwaysPresent;
+		boolean constant;
+		byte[] bytes; // pre-rendered, constant nodes only
+		Object[] ops; // byte[] runs and variable groups
+
+		Node(String name) {
+			this.name = name;
+			this.open = ("<" + name).getBytes(StandardCharsets.UTF_8);
+			this.close = ("</" + name + ">").getBytes(StandardCharsets.UTF_8);
+		}
+
+		Node child(String name, int index) {
+			Group g = groups.computeIfAbsent(name, Group::new);
+			while (g.nodes.size() <= index) {
+				g.nodes.add(null);
+			}
+			Node n = g.nodes.get(index);
+			if (n == null) {
+				n = new Node(name);
+				g.nodes.set(index, n);
+			}
+			return n;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reverse direction of the JSON driven mappers: reads pacs.008 / pacs.009 with
+ * a StAX cursor and fills the MT field map (same mtKeys as the parsers).
+ *
+ * The forward mapping config is inverted once into a path trie keyed by
+ * element name and sibling index below the message element
+ * (FIToFICstmrCdtTrf, FICdtTrf). While streaming, every element is resolved
+ * with a single map lookup from its parent's trie node; subtrees without a
+ * mapping are skipped without buffering text. CONSTANT: / DATE: rules have no
+ * MT source and lookupBic enrichment or expression values cannot be
+ * inverted, these rules are ignored.
+ */
+public class MxToMtMapper {
+
+	private static final XMLInputFactory XIF = newInputFactory();
+
+	private final TrieNode root = new TrieNode();
+
+	private MxToMtMapper() {
+	}
+
+	/** Inverts a forward mapping config (pacs.008, pacs.009 or any other target). */
+	public static MxToMtMapper forConfig(MappingConfig cfg) {
+		MxToMtMapper m = new MxToMtMapper();
+		for (MappingRule r : cfg.mappings) {
+			if (r.expression == null) {
+				m.add(r.mtKey, r.mxPath, r.transform, r.params);
+			}
+		}
+		return m;
+	}
+
+	/* ======== Trie construction ======== */
+
+	private void add(String mtKey, String mxPath, String transform, Map<String, String> params) {
+		if (mtKey == null || mxPath == null || mtKey.startsWith("CONSTANT") || mtKey.startsWith("DATE:")
+				|| "lookupBic".equals(transform)) {
+			return;
+		}
+		Target target = new Target(mtKey, transform, params);
+		String[] parts = mxPath.split("\\.");
+		TrieNode current = root;
+		for (int i = 0; i < parts.length; i++) {
+			String part = parts[i];
+
+			int at = part.indexOf('@');
+			if (at >= 0) {
+				String elemName = part.substring(0, at);
+				if (!elemName.isEmpty()) {
+					current = current.child(elemName, 0);
+				}
+				current.attrs.computeIfAbsent(part.substring(at + 1), a -> new ArrayList<>()).add(target);
+				return;
+			}
+
+			int idx = 0;
+			String elemName = part;
+			int bracket = part.indexOf('[');
+			if (bracket >= 0 && part.endsWith("]")) {
+				elemName = part.substring(0, bracket);
+				idx = Integer.parseInt(part.substring(bracket + 1, part.length() - 1));
+			}
+			current = current.child(elemName, idx);
+			if (i == parts.length - 1) {
+				current.text.add(target);
+			}
+		}
+	}
+
+	/* ======== Streaming read ======== */
+
+	/**
+	 * Streams the document and returns the MT field map. When several rules point
+	 * at the same mtKey the first value found in document order is kept.
+	 */
+	public Map<String, String> read(InputStream xml) throws XMLStreamException {
+		Map<String, String> fields = new LinkedHashMap<>();
+		XMLStreamReader r = XIF.createXMLStreamReader(xml);
+		try {
+			// stack of trie nodes for open elements, null = unmapped subtree
+			TrieNode[] nodes = new TrieNode[32];
+			List<Map<String, int[]>> counts = new ArrayList<>();
+			StringBuilder text = new StringBuilder();
+			int depth = 0;
+
+			while (r.hasNext()) {
+				int ev = r.next();
+				if (ev == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					if (depth == nodes.length) {
+						nodes = Arrays.copyOf(nodes, depth << 1);
+					}
+					TrieNode node;
+					if (depth == 1) {
+						node = null; // Document
+					} else if (depth == 2) {
+						node = root; // FIToFICstmrCdtTrf / FICdtTrf
+					} else {
+						TrieNode parent = nodes[depth - 1];
+						String name = r.getLocalName();
+						node = parent == null ? null : parent.lookup(name, siblingIndex(counts, depth - 1, name));
+					}
+					nodes[depth] = node;
+					while (counts.size() <= depth) {
+						counts.add(null);
+					}
+					counts.set(depth, null);
+					if (node != null) {
+						if (!node.attrs.isEmpty()) {
+							readAttributes(r, node, fields);
+						}
+						text.setLength(0);
+					}
+				} else if (ev == XMLStreamConstants.CHARACTERS || ev == XMLStreamConstants.CDATA) {
+					TrieNode node = nodes[depth];
+					if (node != null && !node.text.isEmpty()) {
+						text.append(r.getTextCharacters(), r.getTextStart(), r.getTextLength());
+					}
+				} else if (ev == XMLStreamConstants.END_ELEMENT) {
+					TrieNode node = nodes[depth];
+					if (node != null && !node.text.isEmpty() && text.length() > 0) {
+						String value = text.toString().trim();
+						for (Target t : node.text) {
+							put(fields, t, value);
+						}
+						text.setLength(0);
+					}
+					depth--;
+				}
+			}
+		} finally {
+			r.close();
+		}
+		return fields;
+	}
+
+	public Mt103ConfigDrivenParser.MtMessage toMt103(InputStream xml) throws XMLStreamException {
+		Mt103ConfigDrivenParser.MtMessage mt = new Mt103ConfigDrivenParser.MtMessage();
+		mt.fields.putAll(read(xml));
+		return mt;
+	}
+
+	public Mt202ConfigDrivenParser.MtMessage toMt202(InputStream xml) throws XMLStreamException {
+		Mt202ConfigDrivenParser.MtMessage mt = new Mt202ConfigDrivenParser.MtMessage();
+		mt.fields.putAll(read(xml));
+		return mt;
+	}
+
+	private static int siblingIndex(List<Map<String, int[]>> counts, int parentDepth, String name) {
+		Map<String, int[]> c = counts.get(parentDepth);
+		if (c == null) {
+			c = new HashMap<>();
+			counts.set(parentDepth, c);
+		}
+		int[] n = c.computeIfAbsent(name, k -> new int[1]);
+		return n[0]++;
+	}
+
+	private void readAttributes(XMLStreamReader r, TrieNode node, Map<String, String> fields) {
+		for (int i = 0; i < r.getAttributeCount(); i++) {
+			List<Target> targets = node.attrs.get(r.getAttributeLocalName(i));
+			if (targets != null) {
+				for (Target t : targets) {
+					put(fields, t, r.getAttributeValue(i));
+				}
+			}
+		}
+	}
+
+	private static void put(Map<String, String> fields, Target t, String value) {
+		if (value == null || value.isEmpty() || fields.containsKey(t.mtKey)) {
+			return;
+		}
+		String v = MxTransforms.reverse(t.transform, value, t.params);
+		if (v != null && !v.isEmpty()) {
+			fields.put(t.mtKey, v);
+		}
+	}
+
+	private static XMLInputFactory newInputFactory() {
+		XMLInputFactory f = XMLInputFactory.newInstance();
+		f.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		f.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+		return f;
+	}
+
+	/* ======== Trie model ======== */
+
+	private static final class Target {
+		final String mtKey;
+		final String transform;
+		final Map<String, String> params;
+
+		Target(String mtKey, String transform, Map<String, String> params) {
+			this.mtKey = mtKey;
+			this.transform = transform;
+			this.params = params;
+		}
+	}
+
+	private static final class TrieNode {
+		final Map<String, TrieNode[]> children = new HashMap<>();
+		final List<Target> text = new ArrayList<>();
+		final Map<String, List<Target>> attrs = new HashMap<>();
+
+		TrieNode child(String name, int index) {
+			TrieNode[] byIndex = children.get(name);
+			if (byIndex == null || byIndex.length <= index) {
+				TrieNode[] grown = new TrieNode[index + 1];
+				if (byIndex != null) {
+					System.arraycopy(byIndex, 0, grown, 0, byIndex.length);
+				}
+				byIndex = grown;
+				children.put(name, byIndex);
+			}
+			if (byIndex[index] == null) {
+				byIndex[index] = new TrieNode();
+			}
+			return byIndex[index];
+		}
+
+		TrieNode lookup(String name, int index) {
+			TrieNode[] byIndex = children.get(name);
+			return byIndex == null || index >= byIndex.length ? null : byIndex[index];
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Transform library shared by all mapping plans. A rule's transform is
+ * resolved once when the plan is compiled (formatters and substring bounds
+ * included), so per message only the returned operator runs.
+ */
+public final class MxTransforms {
+
+	/** 71A details of charges -> ChrgBr. */
+	private static final CodeList CHARGE_BEARER = CodeList.define("chargeBearer",
+			Map.of("OUR", "DEBT", "BEN", "CRED", "SHA", "SHAR"));
+
+	private MxTransforms() {
+	}
+
+	/** Compiled transform for the rule, identity when it has none or an unknown one. */
+	public static UnaryOperator<String> compile(MappingRule rule) {
+		if (rule.transform == null) {
+			return UnaryOperator.identity();
+		}
+		switch (rule.transform) {
+		case "mapChargeBearer":
+			return MxTransforms::chargeBearer;
+
+		case "numericNormalize":
+			return v -> v.replace(",", ".");
+
+		case "trim":
+		case "joinLines":
+			// for mtKey that is a list, you can adjust your parser to store joined value
+			return String::trim;
+
+		case "upper":
+			return v -> v.toUpperCase(Locale.ROOT);
+
+		case "lower":
+			return v -> v.toLowerCase(Locale.ROOT);
+
+		case "substring":
+			return substring(rule.params);
+
+		case "dateFormat":
+			return dateFormat(rule.params);
+
+		case "formatYYMMDDtoYYYYMMDD":
+			return MxTransforms::yymmddToIso;
+
+		case "lookupBic":
+			return lookupBic(rule.params);
+
+		case "codeList":
+			return codeList(rule.params);
+
+		default:
+			return UnaryOperator.identity();
+		}
+	}
+
+	/** True when the transform output depends on the clock, not on the input. */
+	public static boolean isTimeDependent(MappingRule rule) {
+		return "dateFormat".equals(rule.transform) && rule.params != null && rule.params.get("type") != null;
+	}
+
+	/* ======== Forward transforms ======== */
+
+	public static String chargeBearer(String value) {
+		String code = CHARGE_BEARER.lookup(value);
+		return code != null ? code : value;
+	}
+
+	/**
+	 * Translation through an external code list, params {"list": name} (see
+	 * {@link CodeList#named}) or {"file": path}. A code missing from the list
+	 * is kept as is, or with {"onMissing": "skip"} the rule does not fire and
+	 * with {"default": value} that value is used.
+	 */
+	private static UnaryOperator<String> codeList(Map<String, String> params) {
+		CodeList list = codeListOf(params);
+		String fallback = params.get("default");
+		if (fallback != null) {
+			return value -> {
+				String code = list.lookup(value);
+				return code != null ? code : fallback;
+			};
+		}
+		if ("skip".equals(params.get("onMissing"))) {
+			return list::lookup;
+		}
+		return value -> {
+			String code = list.lookup(value);
+			return code != null ? code : value;
+		};
+	}
+
+	private static CodeList codeListOf(Map<String, String> params) {
+		if (params != null && params.get("file") != null) {
+			return CodeList.load(Paths.get(params.get("file")));
+		}
+		if (params == null || params.get("list") == null) {
+			throw new IllegalArgumentException("codeList transform needs a 'list' or 'file' param");
+		}
+		return CodeList.named(params.get("list"));
+	}
+
+	private static String yymmddToIso(String value) {
+		if (value.length() == 6) {
+			String yy = value.substring(0, 2);
+			String mm = value.substring(2, 4);
+			String dd = value.substring(4, 6);
+			String yyyy = "20" + yy; // or smarter century logic if you want
+			return yyyy + "-" + mm + "-" + dd;
+		}
+		return value;
+	}
+
+	private static UnaryOperator<String> substring(Map<String, String> params) {
+		if (params == null) {
+			return UnaryOperator.identity();
+		}
+		int from = Math.max(0, Integer.parseInt(params.getOrDefault("start", "0")));
+		String endStr = params.get("end");
+		int to = (endStr != null) ? Integer.parseInt(endStr) : Integer.MAX_VALUE;
+		return value -> {
+			int end = Math.min(to, value.length());
+			return from >= end ? "" : value.substring(from, end);
+		};
+	}
+
+	private static UnaryOperator<String> dateFormat(Map<String, String> params) {
+		if (params == null) {
+			return UnaryOperator.identity();
+		}
+		// adding type to identify format
+		if (params.get("type") != null) {
+			DateTimeFormatter fmt = DateTimeFormatter.ofPattern(params.getOrDefault("format", "YYYY-MM-DDTHH:MM:SS"));
+			ZoneId zone = ZoneId.of(params.getOrDefault("timezone", "GMT"));
+			return value -> ZonedDateTime.now(zone).format(fmt);
+		}
+		DateTimeFormatter in = DateTimeFormatter.ofPattern(params.getOrDefault("from", "yyyyMMdd"));
+		DateTimeFormatter out = DateTimeFormatter.ofPattern(params.getOrDefault("to", "yyyy-MM-dd"));
+		return value -> {
+			try {
+				return LocalDate.parse(value, in).format(out);
+			} catch (Exception e) {
+				return value; // or log
+			}
+		};
+	}
+
+	/**
+	 * Agent enrichment from the BIC directory, params {"field":
+	 * "name|address|lei|country", "directory": index path}. Without a directory
+	 * param the one registered with {@link BicDirectory#setDefault} is used.
+	 * Returns null (rule does not fire) for BICs that are not listed.
+	 */
+	private static UnaryOperator<String> lookupBic(Map<String, String> params) {
+		String fieldName = params == null ? "name" : params.getOrDefault("field", "name");
+		int field;
+		switch (fieldName.toLowerCase(Locale.ROOT)) {
+		case "address":
+			field = BicDirectory.ADDRESS;
+			break;
+		case "lei":
+			field = BicDirectory.LEI;
+			break;
+		case "country":
+			field = BicDirectory.COUNTRY;
+			break;
+		default:
+			field = BicDirectory.NAME;
+		}
+		String path = params == null ? null : params.get("directory");
+		if (path != null) {
+			BicDirectory dir;
+			try {
+				dir = BicDirectory.open(Paths.get(path));
+			} catch (IOException e) {
+				throw new UncheckedIOException("Cannot open BIC directory " + path, e);
+			}
+			return value -> dir.lookup(value.trim(), field);
+		}
+		return value -> {
+			BicDirectory dir = BicDirectory.getDefault();
+			return dir == null ? null : dir.lookup(value.trim(), field);
+		};
+	}
+
+	/* ======== Reverse transforms (MX -> MT) ======== */
+
+	/**
+	 * Undoes the forward transform so the value looks like MtParser output
+	 * (amounts keep the '.' decimal separator the parser stores).
+	 */
+	public static String reverse(String transform, String value, Map<String, String> params) {
+		if (transform == null) {
+			return value;
+		}
+		switch (transform) {
+		case "mapChargeBearer":
+			return invert(CHARGE_BEARER, value);
+		case "codeList":
+			return invert(codeListOf(params), value);
+		case "formatYYMMDDtoYYYYMMDD":
+			if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+				return value.substring(2, 4) + value.substring(5, 7) + value.substring(8, 10);
+			}
+			return value;
+		case "dateFormat":
+			if (params == null || params.get("type") != null) {
+				return value;
+			}
+			try {
+				DateTimeFormatter from = DateTimeFormatter.ofPattern(params.getOrDefault("to", "yyyy-MM-dd"));
+				DateTimeFormatter to = DateTimeFormatter.ofPattern(params.getOrDefault("from", "yyyyMMdd"));
+				return LocalDate.parse(value, from).format(to);
+			} catch (Exception e) {
+				return value;
+			}
+		default:
+			// numericNormalize, trim, upper, lower, joinLines: parser form already
+			return value;
+		}
+	}
+
+	private static String invert(CodeList list, String value) {
+		CodeList inverse = list.inverse();
+		String code = inverse == null ? null : inverse.lookup(value);
+		return code != null ? code : value;
+	}
+}
@@ -0,0 +1,3326 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typed model and streaming writer for urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08.
+ *
+ * GENERATED by MxModelGenerator from pacs.008.001.08.xsd, do not edit. Optional
+ * elements are null when absent, repeated ones are lists (created by the add
+ * methods), choices write their first non-null alternative. Date and time
+ * values are kept in their ISO lexical form. Schema facets (patterns,
+ * lengths, required elements) are not checked here, use MxSchemaValidator.
+ */
+public final class Pacs008Model {
+
+	public static final String NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
+
+	private Pacs008Model() {
+	}
+
+	/* ======== Document writer ======== */
+
+	private static final byte[] DOCUMENT_OPEN = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08\">").getBytes(StandardCharsets.UTF_8);
+	private static final byte[] DOCUMENT_CLOSE = ascii("</Document>");
+
+	/** Writes the complete UTF-8 document (declaration, root element and namespace). */
+	public static void write(Document doc, XmlByteWriter out) {
+		out.writeRaw(DOCUMENT_OPEN);
+		doc.write(out);
+		out.writeRaw(DOCUMENT_CLOSE);
+	}
+
+	public static byte[] toBytes(Document doc) {
+		XmlByteWriter out = new XmlByteWriter();
+		write(doc, out);
+		return out.toByteArray();
+	}
+
+	/* ======== Pre-encoded tags ======== */
+
+	private static final byte[] O_IBAN = ascii("<IBAN>");
+	private static final byte[] C_IBAN = ascii("</IBAN>");
+	private static final byte[] O_Othr = ascii("<Othr>");
+	private static final byte[] C_Othr = ascii("</Othr>");
+	private static final byte[] O_Cd = ascii("<Cd>");
+	private static final byte[] C_Cd = ascii("</Cd>");
+	private static final byte[] O_Prtry = ascii("<Prtry>");
+	private static final byte[] C_Prtry = ascii("</Prtry>");
+	private static final byte[] O_FinInstnId = ascii("<FinInstnId>");
+	private static final byte[] C_FinInstnId = ascii("</FinInstnId>");
+	private static final byte[] O_BrnchId = ascii("<BrnchId>");
+	private static final byte[] C_BrnchId = ascii("</BrnchId>");
+	private static final byte[] O_Id = ascii("<Id>");
+	private static final byte[] C_Id = ascii("</Id>");
+	private static final byte[] O_LEI = ascii("<LEI>");
+	private static final byte[] C_LEI = ascii("</LEI>");
+	private static final byte[] O_Nm = ascii("<Nm>");
+	private static final byte[] C_Nm = ascii("</Nm>");
+	private static final byte[] O_PstlAdr = ascii("<PstlAdr>");
+	private static final byte[] C_PstlAdr = ascii("</PstlAdr>");
+	private static final byte[] O_Tp = ascii("<Tp>");
+	private static final byte[] C_Tp = ascii("</Tp>");
+	private static final byte[] O_Ccy = ascii("<Ccy>");
+	private static final byte[] C_Ccy = ascii("</Ccy>");
+	private static final byte[] O_Prxy = ascii("<Prxy>");
+	private static final byte[] C_Prxy = ascii("</Prxy>");
+	private static final byte[] O_Agt = ascii("<Agt>");
+	private static final byte[] C_Agt = ascii("</Agt>");
+	private static final byte[] O_ClrSysId = ascii("<ClrSysId>");
+	private static final byte[] C_ClrSysId = ascii("</ClrSysId>");
+	private static final byte[] O_MmbId = ascii("<MmbId>");
+	private static final byte[] C_MmbId = ascii("</MmbId>");
+	private static final byte[] O_NmPrfx = ascii("<NmPrfx>");
+	private static final byte[] C_NmPrfx = ascii("</NmPrfx>");
+	private static final byte[] O_PhneNb = ascii("<PhneNb>");
+	private static final byte[] C_PhneNb = ascii("</PhneNb>");
+	private static final byte[] O_MobNb = ascii("<MobNb>");
+	private static final byte[] C_MobNb = ascii("</MobNb>");
+	private static final byte[] O_FaxNb = ascii("<FaxNb>");
+	private static final byte[] C_FaxNb = ascii("</FaxNb>");
+	private static final byte[] O_EmailAdr = ascii("<EmailAdr>");
+	private static final byte[] C_EmailAdr = ascii("</EmailAdr>");
+	private static final byte[] O_EmailPurp = ascii("<EmailPurp>");
+	private static final byte[] C_EmailPurp = ascii("</EmailPurp>");
+	private static final byte[] O_JobTitl = ascii("<JobTitl>");
+	private static final byte[] C_JobTitl = ascii("</JobTitl>");
+	private static final byte[] O_Rspnsblty = ascii("<Rspnsblty>");
+	private static final byte[] C_Rspnsblty = ascii("</Rspnsblty>");
+	private static final byte[] O_Dept = ascii("<Dept>");
+	private static final byte[] C_Dept = ascii("</Dept>");
+	private static final byte[] O_PrefrdMtd = ascii("<PrefrdMtd>");
+	private static final byte[] C_PrefrdMtd = ascii("</PrefrdMtd>");
+	private static final byte[] O_PmtId = ascii("<PmtId>");
+	private static final byte[] C_PmtId = ascii("</PmtId>");
+	private static final byte[] O_PmtTpInf = ascii("<PmtTpInf>");
+	private static final byte[] C_PmtTpInf = ascii("</PmtTpInf>");
+	private static final byte[] O_IntrBkSttlmDt = ascii("<IntrBkSttlmDt>");
+	private static final byte[] C_IntrBkSttlmDt = ascii("</IntrBkSttlmDt>");
+	private static final byte[] O_SttlmPrty = ascii("<SttlmPrty>");
+	private static final byte[] C_SttlmPrty = ascii("</SttlmPrty>");
+	private static final byte[] O_SttlmTmIndctn = ascii("<SttlmTmIndctn>");
+	private static final byte[] C_SttlmTmIndctn = ascii("</SttlmTmIndctn>");
+	private static final byte[] O_SttlmTmReq = ascii("<SttlmTmReq>");
+	private static final byte[] C_SttlmTmReq = ascii("</SttlmTmReq>");
+	private static final byte[] O_AccptncDtTm = ascii("<AccptncDtTm>");
+	private static final byte[] C_AccptncDtTm = ascii("</AccptncDtTm>");
+	private static final byte[] O_PoolgAdjstmntDt = ascii("<PoolgAdjstmntDt>");
+	private static final byte[] C_PoolgAdjstmntDt = ascii("</PoolgAdjstmntDt>");
+	private static final byte[] O_XchgRate = ascii("<XchgRate>");
+	private static final byte[] C_XchgRate = ascii("</XchgRate>");
+	private static final byte[] O_ChrgBr = ascii("<ChrgBr>");
+	private static final byte[] C_ChrgBr = ascii("</ChrgBr>");
+	private static final byte[] O_ChrgsInf = ascii("<ChrgsInf>");
+	private static final byte[] C_ChrgsInf = ascii("</ChrgsInf>");
+	private static final byte[] O_PrvsInstgAgt1 = ascii("<PrvsInstgAgt1>");
+	private static final byte[] C_PrvsInstgAgt1 = ascii("</PrvsInstgAgt1>");
+	private static final byte[] O_PrvsInstgAgt1Acct = ascii("<PrvsInstgAgt1Acct>");
+	private static final byte[] C_PrvsInstgAgt1Acct = ascii("</PrvsInstgAgt1Acct>");
+	private static final byte[] O_PrvsInstgAgt2 = ascii("<PrvsInstgAgt2>");
+	private static final byte[] C_PrvsInstgAgt2 = ascii("</PrvsInstgAgt2>");
+	private static final byte[] O_PrvsInstgAgt2Acct = ascii("<PrvsInstgAgt2Acct>");
+	private static final byte[] C_PrvsInstgAgt2Acct = ascii("</PrvsInstgAgt2Acct>");
+	private static final byte[] O_PrvsInstgAgt3 = ascii("<PrvsInstgAgt3>");
+	private static final byte[] C_PrvsInstgAgt3 = ascii("</PrvsInstgAgt3>");
+	private static final byte[] O_PrvsInstgAgt3Acct = ascii("<PrvsInstgAgt3Acct>");
+	private static final byte[] C_PrvsInstgAgt3Acct = ascii("</PrvsInstgAgt3Acct>");
+	private static final byte[] O_InstgAgt = ascii("<InstgAgt>");
+	private static final byte[] C_InstgAgt = ascii("</InstgAgt>");
+	private static final byte[] O_InstdAgt = ascii("<InstdAgt>");
+	private static final byte[] C_InstdAgt = ascii("</InstdAgt>");
+	private static final byte[] O_IntrmyAgt1 = ascii("<IntrmyAgt1>");
+	private static final byte[] C_IntrmyAgt1 = ascii("</IntrmyAgt1>");
+	private static final byte[] O_IntrmyAgt1Acct = ascii("<IntrmyAgt1Acct>");
+	private static final byte[] C_IntrmyAgt1Acct = ascii("</IntrmyAgt1Acct>");
+	private static final byte[] O_IntrmyAgt2 = ascii("<IntrmyAgt2>");
+	private static final byte[] C_IntrmyAgt2 = ascii("</IntrmyAgt2>");
+	private static final byte[] O_IntrmyAgt2Acct = ascii("<IntrmyAgt2Acct>");
+	private static final byte[] C_IntrmyAgt2Acct = ascii("</IntrmyAgt2Acct>");
+	private static final byte[] O_IntrmyAgt3 = ascii("<IntrmyAgt3>");
+	private static final byte[] C_IntrmyAgt3 = ascii("</IntrmyAgt3>");
+	private static final byte[] O_IntrmyAgt3Acct = ascii("<IntrmyAgt3Acct>");
+	private static final byte[] C_IntrmyAgt3Acct = ascii("</IntrmyAgt3Acct>");
+	private static final byte[] O_UltmtDbtr = ascii("<UltmtDbtr>");
+	private static final byte[] C_UltmtDbtr = ascii("</UltmtDbtr>");
+	private static final byte[] O_InitgPty = ascii("<InitgPty>");
+	private static final byte[] C_InitgPty = ascii("</InitgPty>");
+	private static final byte[] O_Dbtr = ascii("<Dbtr>");
+	private static final byte[] C_Dbtr = ascii("</Dbtr>");
+	private static final byte[] O_DbtrAcct = ascii("<DbtrAcct>");
+	private static final byte[] C_DbtrAcct = ascii("</DbtrAcct>");
+	private static final byte[] O_DbtrAgt = ascii("<DbtrAgt>");
+	private static final byte[] C_DbtrAgt = ascii("</DbtrAgt>");
+	private static final byte[] O_DbtrAgtAcct = ascii("<DbtrAgtAcct>");
+	private static final byte[] C_DbtrAgtAcct = ascii("</DbtrAgtAcct>");
+	private static final byte[] O_CdtrAgt = ascii("<CdtrAgt>");
+	private static final byte[] C_CdtrAgt = ascii("</CdtrAgt>");
+	private static final byte[] O_CdtrAgtAcct = ascii("<CdtrAgtAcct>");
+	private static final byte[] C_CdtrAgtAcct = ascii("</CdtrAgtAcct>");
+	private static final byte[] O_Cdtr = ascii("<Cdtr>");
+	private static final byte[] C_Cdtr = ascii("</Cdtr>");
+	private static final byte[] O_CdtrAcct = ascii("<CdtrAcct>");
+	private static final byte[] C_CdtrAcct = ascii("</CdtrAcct>");
+	private static final byte[] O_UltmtCdtr = ascii("<UltmtCdtr>");
+	private static final byte[] C_UltmtCdtr = ascii("</UltmtCdtr>");
+	private static final byte[] O_InstrForCdtrAgt = ascii("<InstrForCdtrAgt>");
+	private static final byte[] C_InstrForCdtrAgt = ascii("</InstrForCdtrAgt>");
+	private static final byte[] O_InstrForNxtAgt = ascii("<InstrForNxtAgt>");
+	private static final byte[] C_InstrForNxtAgt = ascii("</InstrForNxtAgt>");
+	private static final byte[] O_Purp = ascii("<Purp>");
+	private static final byte[] C_Purp = ascii("</Purp>");
+	private static final byte[] O_RgltryRptg = ascii("<RgltryRptg>");
+	private static final byte[] C_RgltryRptg = ascii("</RgltryRptg>");
+	private static final byte[] O_Tax = ascii("<Tax>");
+	private static final byte[] C_Tax = ascii("</Tax>");
+	private static final byte[] O_RltdRmtInf = ascii("<RltdRmtInf>");
+	private static final byte[] C_RltdRmtInf = ascii("</RltdRmtInf>");
+	private static final byte[] O_RmtInf = ascii("<RmtInf>");
+	private static final byte[] C_RmtInf = ascii("</RmtInf>");
+	private static final byte[] O_SplmtryData = ascii("<SplmtryData>");
+	private static final byte[] C_SplmtryData = ascii("</SplmtryData>");
+	private static final byte[] O_Ref = ascii("<Ref>");
+	private static final byte[] C_Ref = ascii("</Ref>");
+	private static final byte[] O_CdOrPrtry = ascii("<CdOrPrtry>");
+	private static final byte[] C_CdOrPrtry = ascii("</CdOrPrtry>");
+	private static final byte[] O_Issr = ascii("<Issr>");
+	private static final byte[] C_Issr = ascii("</Issr>");
+	private static final byte[] O_BirthDt = ascii("<BirthDt>");
+	private static final byte[] C_BirthDt = ascii("</BirthDt>");
+	private static final byte[] O_PrvcOfBirth = ascii("<PrvcOfBirth>");
+	private static final byte[] C_PrvcOfBirth = ascii("</PrvcOfBirth>");
+	private static final byte[] O_CityOfBirth = ascii("<CityOfBirth>");
+	private static final byte[] C_CityOfBirth = ascii("</CityOfBirth>");
+	private static final byte[] O_CtryOfBirth = ascii("<CtryOfBirth>");
+	private static final byte[] C_CtryOfBirth = ascii("</CtryOfBirth>");
+	private static final byte[] O_FrDt = ascii("<FrDt>");
+	private static final byte[] C_FrDt = ascii("</FrDt>");
+	private static final byte[] O_ToDt = ascii("<ToDt>");
+	private static final byte[] C_ToDt = ascii("</ToDt>");
+	private static final byte[] O_FIToFICstmrCdtTrf = ascii("<FIToFICstmrCdtTrf>");
+	private static final byte[] C_FIToFICstmrCdtTrf = ascii("</FIToFICstmrCdtTrf>");
+	private static final byte[] O_CdtDbtInd = ascii("<CdtDbtInd>");
+	private static final byte[] C_CdtDbtInd = ascii("</CdtDbtInd>");
+	private static final byte[] O_Rsn = ascii("<Rsn>");
+	private static final byte[] C_Rsn = ascii("</Rsn>");
+	private static final byte[] O_AddtlInf = ascii("<AddtlInf>");
+	private static final byte[] C_AddtlInf = ascii("</AddtlInf>");
+	private static final byte[] O_Nb = ascii("<Nb>");
+	private static final byte[] C_Nb = ascii("</Nb>");
+	private static final byte[] O_RltdDt = ascii("<RltdDt>");
+	private static final byte[] C_RltdDt = ascii("</RltdDt>");
+	private static final byte[] O_Desc = ascii("<Desc>");
+	private static final byte[] C_Desc = ascii("</Desc>");
+	private static final byte[] O_Amt = ascii("<Amt>");
+	private static final byte[] C_Amt = ascii("</Amt>");
+	private static final byte[] O_GrpHdr = ascii("<GrpHdr>");
+	private static final byte[] C_GrpHdr = ascii("</GrpHdr>");
+	private static final byte[] O_CdtTrfTxInf = ascii("<CdtTrfTxInf>");
+	private static final byte[] C_CdtTrfTxInf = ascii("</CdtTrfTxInf>");
+	private static final byte[] O_BICFI = ascii("<BICFI>");
+	private static final byte[] C_BICFI = ascii("</BICFI>");
+	private static final byte[] O_ClrSysMmbId = ascii("<ClrSysMmbId>");
+	private static final byte[] C_ClrSysMmbId = ascii("</ClrSysMmbId>");
+	private static final byte[] O_Grnshee = ascii("<Grnshee>");
+	private static final byte[] C_Grnshee = ascii("</Grnshee>");
+	private static final byte[] O_GrnshmtAdmstr = ascii("<GrnshmtAdmstr>");
+	private static final byte[] C_GrnshmtAdmstr = ascii("</GrnshmtAdmstr>");
+	private static final byte[] O_RefNb = ascii("<RefNb>");
+	private static final byte[] C_RefNb = ascii("</RefNb>");
+	private static final byte[] O_Dt = ascii("<Dt>");
+	private static final byte[] C_Dt = ascii("</Dt>");
+	private static final byte[] O_FmlyMdclInsrncInd = ascii("<FmlyMdclInsrncInd>");
+	private static final byte[] C_FmlyMdclInsrncInd = ascii("</FmlyMdclInsrncInd>");
+	private static final byte[] O_MplyeeTermntnInd = ascii("<MplyeeTermntnInd>");
+	private static final byte[] C_MplyeeTermntnInd = ascii("</MplyeeTermntnInd>");
+	private static final byte[] O_SchmeNm = ascii("<SchmeNm>");
+	private static final byte[] C_SchmeNm = ascii("</SchmeNm>");
+	private static final byte[] O_MsgId = ascii("<MsgId>");
+	private static final byte[] C_MsgId = ascii("</MsgId>");
+	private static final byte[] O_CreDtTm = ascii("<CreDtTm>");
+	private static final byte[] C_CreDtTm = ascii("</CreDtTm>");
+	private static final byte[] O_BtchBookg = ascii("<BtchBookg>");
+	private static final byte[] C_BtchBookg = ascii("</BtchBookg>");
+	private static final byte[] O_NbOfTxs = ascii("<NbOfTxs>");
+	private static final byte[] C_NbOfTxs = ascii("</NbOfTxs>");
+	private static final byte[] O_CtrlSum = ascii("<CtrlSum>");
+	private static final byte[] C_CtrlSum = ascii("</CtrlSum>");
+	private static final byte[] O_SttlmInf = ascii("<SttlmInf>");
+	private static final byte[] C_SttlmInf = ascii("</SttlmInf>");
+	private static final byte[] O_InstrInf = ascii("<InstrInf>");
+	private static final byte[] C_InstrInf = ascii("</InstrInf>");
+	private static final byte[] O_Adr = ascii("<Adr>");
+	private static final byte[] C_Adr = ascii("</Adr>");
+	private static final byte[] O_AnyBIC = ascii("<AnyBIC>");
+	private static final byte[] C_AnyBIC = ascii("</AnyBIC>");
+	private static final byte[] O_ChanlTp = ascii("<ChanlTp>");
+	private static final byte[] C_ChanlTp = ascii("</ChanlTp>");
+	private static final byte[] O_OrgId = ascii("<OrgId>");
+	private static final byte[] C_OrgId = ascii("</OrgId>");
+	private static final byte[] O_PrvtId = ascii("<PrvtId>");
+	private static final byte[] C_PrvtId = ascii("</PrvtId>");
+	private static final byte[] O_CtryOfRes = ascii("<CtryOfRes>");
+	private static final byte[] C_CtryOfRes = ascii("</CtryOfRes>");
+	private static final byte[] O_CtctDtls = ascii("<CtctDtls>");
+	private static final byte[] C_CtctDtls = ascii("</CtctDtls>");
+	private static final byte[] O_InstrId = ascii("<InstrId>");
+	private static final byte[] C_InstrId = ascii("</InstrId>");
+	private static final byte[] O_EndToEndId = ascii("<EndToEndId>");
+	private static final byte[] C_EndToEndId = ascii("</EndToEndId>");
+	private static final byte[] O_TxId = ascii("<TxId>");
+	private static final byte[] C_TxId = ascii("</TxId>");
+	private static final byte[] O_UETR = ascii("<UETR>");
+	private static final byte[] C_UETR = ascii("</UETR>");
+	private static final byte[] O_ClrSysRef = ascii("<ClrSysRef>");
+	private static final byte[] C_ClrSysRef = ascii("</ClrSysRef>");
+	private static final byte[] O_InstrPrty = ascii("<InstrPrty>");
+	private static final byte[] C_InstrPrty = ascii("</InstrPrty>");
+	private static final byte[] O_ClrChanl = ascii("<ClrChanl>");
+	private static final byte[] C_ClrChanl = ascii("</ClrChanl>");
+	private static final byte[] O_SvcLvl = ascii("<SvcLvl>");
+	private static final byte[] C_SvcLvl = ascii("</SvcLvl>");
+	private static final byte[] O_LclInstrm = ascii("<LclInstrm>");
+	private static final byte[] C_LclInstrm = ascii("</LclInstrm>");
+	private static final byte[] O_CtgyPurp = ascii("<CtgyPurp>");
+	private static final byte[] C_CtgyPurp = ascii("</CtgyPurp>");
+	private static final byte[] O_DtAndPlcOfBirth = ascii("<DtAndPlcOfBirth>");
+	private static final byte[] C_DtAndPlcOfBirth = ascii("</DtAndPlcOfBirth>");
+	private static final byte[] O_AdrTp = ascii("<AdrTp>");
+	private static final byte[] C_AdrTp = ascii("</AdrTp>");
+	private static final byte[] O_SubDept = ascii("<SubDept>");
+	private static final byte[] C_SubDept = ascii("</SubDept>");
+	private static final byte[] O_StrtNm = ascii("<StrtNm>");
+	private static final byte[] C_StrtNm = ascii("</StrtNm>");
+	private static final byte[] O_BldgNb = ascii("<BldgNb>");
+	private static final byte[] C_BldgNb = ascii("</BldgNb>");
+	private static final byte[] O_BldgNm = ascii("<BldgNm>");
+	private static final byte[] C_BldgNm = ascii("</BldgNm>");
+	private static final byte[] O_Flr = ascii("<Flr>");
+	private static final byte[] C_Flr = ascii("</Flr>");
+	private static final byte[] O_PstBx = ascii("<PstBx>");
+	private static final byte[] C_PstBx = ascii("</PstBx>");
+	private static final byte[] O_Room = ascii("<Room>");
+	private static final byte[] C_Room = ascii("</Room>");
+	private static final byte[] O_PstCd = ascii("<PstCd>");
+	private static final byte[] C_PstCd = ascii("</PstCd>");
+	private static final byte[] O_TwnNm = ascii("<TwnNm>");
+	private static final byte[] C_TwnNm = ascii("</TwnNm>");
+	private static final byte[] O_TwnLctnNm = ascii("<TwnLctnNm>");
+	private static final byte[] C_TwnLctnNm = ascii("</TwnLctnNm>");
+	private static final byte[] O_DstrctNm = ascii("<DstrctNm>");
+	private static final byte[] C_DstrctNm = ascii("</DstrctNm>");
+	private static final byte[] O_CtrySubDvsn = ascii("<CtrySubDvsn>");
+	private static final byte[] C_CtrySubDvsn = ascii("</CtrySubDvsn>");
+	private static final byte[] O_Ctry = ascii("<Ctry>");
+	private static final byte[] C_Ctry = ascii("</Ctry>");
+	private static final byte[] O_AdrLine = ascii("<AdrLine>");
+	private static final byte[] C_AdrLine = ascii("</AdrLine>");
+	private static final byte[] O_LineDtls = ascii("<LineDtls>");
+	private static final byte[] C_LineDtls = ascii("</LineDtls>");
+	private static final byte[] O_DbtCdtRptgInd = ascii("<DbtCdtRptgInd>");
+	private static final byte[] C_DbtCdtRptgInd = ascii("</DbtCdtRptgInd>");
+	private static final byte[] O_Authrty = ascii("<Authrty>");
+	private static final byte[] C_Authrty = ascii("</Authrty>");
+	private static final byte[] O_Dtls = ascii("<Dtls>");
+	private static final byte[] C_Dtls = ascii("</Dtls>");
+	private static final byte[] O_DscntApldAmt = ascii("<DscntApldAmt>");
+	private static final byte[] C_DscntApldAmt = ascii("</DscntApldAmt>");
+	private static final byte[] O_TaxAmt = ascii("<TaxAmt>");
+	private static final byte[] C_TaxAmt = ascii("</TaxAmt>");
+	private static final byte[] O_AdjstmntAmtAndRsn = ascii("<AdjstmntAmtAndRsn>");
+	private static final byte[] C_AdjstmntAmtAndRsn = ascii("</AdjstmntAmtAndRsn>");
+	private static final byte[] O_Ustrd = ascii("<Ustrd>");
+	private static final byte[] C_Ustrd = ascii("</Ustrd>");
+	private static final byte[] O_Strd = ascii("<Strd>");
+	private static final byte[] C_Strd = ascii("</Strd>");
+	private static final byte[] O_RmtId = ascii("<RmtId>");
+	private static final byte[] C_RmtId = ascii("</RmtId>");
+	private static final byte[] O_RmtLctnDtls = ascii("<RmtLctnDtls>");
+	private static final byte[] C_RmtLctnDtls = ascii("</RmtLctnDtls>");
+	private static final byte[] O_Mtd = ascii("<Mtd>");
+	private static final byte[] C_Mtd = ascii("</Mtd>");
+	private static final byte[] O_ElctrncAdr = ascii("<ElctrncAdr>");
+	private static final byte[] C_ElctrncAdr = ascii("</ElctrncAdr>");
+	private static final byte[] O_DbtDtTm = ascii("<DbtDtTm>");
+	private static final byte[] C_DbtDtTm = ascii("</DbtDtTm>");
+	private static final byte[] O_CdtDtTm = ascii("<CdtDtTm>");
+	private static final byte[] C_CdtDtTm = ascii("</CdtDtTm>");
+	private static final byte[] O_SttlmMtd = ascii("<SttlmMtd>");
+	private static final byte[] C_SttlmMtd = ascii("</SttlmMtd>");
+	private static final byte[] O_SttlmAcct = ascii("<SttlmAcct>");
+	private static final byte[] C_SttlmAcct = ascii("</SttlmAcct>");
+	private static final byte[] O_ClrSys = ascii("<ClrSys>");
+	private static final byte[] C_ClrSys = ascii("</ClrSys>");
+	private static final byte[] O_InstgRmbrsmntAgt = ascii("<InstgRmbrsmntAgt>");
+	private static final byte[] C_InstgRmbrsmntAgt = ascii("</InstgRmbrsmntAgt>");
+	private static final byte[] O_InstgRmbrsmntAgtAcct = ascii("<InstgRmbrsmntAgtAcct>");
+	private static final byte[] C_InstgRmbrsmntAgtAcct = ascii("</InstgRmbrsmntAgtAcct>");
+	private static final byte[] O_InstdRmbrsmntAgt = ascii("<InstdRmbrsmntAgt>");
+	private static final byte[] C_InstdRmbrsmntAgt = ascii("</InstdRmbrsmntAgt>");
+	private static final byte[] O_InstdRmbrsmntAgtAcct = ascii("<InstdRmbrsmntAgtAcct>");
+	private static final byte[] C_InstdRmbrsmntAgtAcct = ascii("</InstdRmbrsmntAgtAcct>");
+	private static final byte[] O_ThrdRmbrsmntAgt = ascii("<ThrdRmbrsmntAgt>");
+	private static final byte[] C_ThrdRmbrsmntAgt = ascii("</ThrdRmbrsmntAgt>");
+	private static final byte[] O_ThrdRmbrsmntAgtAcct = ascii("<ThrdRmbrsmntAgtAcct>");
+	private static final byte[] C_ThrdRmbrsmntAgtAcct = ascii("</ThrdRmbrsmntAgtAcct>");
+	private static final byte[] O_CLSTm = ascii("<CLSTm>");
+	private static final byte[] C_CLSTm = ascii("</CLSTm>");
+	private static final byte[] O_TillTm = ascii("<TillTm>");
+	private static final byte[] C_TillTm = ascii("</TillTm>");
+	private static final byte[] O_FrTm = ascii("<FrTm>");
+	private static final byte[] C_FrTm = ascii("</FrTm>");
+	private static final byte[] O_RjctTm = ascii("<RjctTm>");
+	private static final byte[] C_RjctTm = ascii("</RjctTm>");
+	private static final byte[] O_Inf = ascii("<Inf>");
+	private static final byte[] C_Inf = ascii("</Inf>");
+	private static final byte[] O_RfrdDocInf = ascii("<RfrdDocInf>");
+	private static final byte[] C_RfrdDocInf = ascii("</RfrdDocInf>");
+	private static final byte[] O_RfrdDocAmt = ascii("<RfrdDocAmt>");
+	private static final byte[] C_RfrdDocAmt = ascii("</RfrdDocAmt>");
+	private static final byte[] O_CdtrRefInf = ascii("<CdtrRefInf>");
+	private static final byte[] C_CdtrRefInf = ascii("</CdtrRefInf>");
+	private static final byte[] O_Invcr = ascii("<Invcr>");
+	private static final byte[] C_Invcr = ascii("</Invcr>");
+	private static final byte[] O_Invcee = ascii("<Invcee>");
+	private static final byte[] C_Invcee = ascii("</Invcee>");
+	private static final byte[] O_TaxRmt = ascii("<TaxRmt>");
+	private static final byte[] C_TaxRmt = ascii("</TaxRmt>");
+	private static final byte[] O_GrnshmtRmt = ascii("<GrnshmtRmt>");
+	private static final byte[] C_GrnshmtRmt = ascii("</GrnshmtRmt>");
+	private static final byte[] O_AddtlRmtInf = ascii("<AddtlRmtInf>");
+	private static final byte[] C_AddtlRmtInf = ascii("</AddtlRmtInf>");
+	private static final byte[] O_PlcAndNm = ascii("<PlcAndNm>");
+	private static final byte[] C_PlcAndNm = ascii("</PlcAndNm>");
+	private static final byte[] O_Envlp = ascii("<Envlp>");
+	private static final byte[] C_Envlp = ascii("</Envlp>");
+	private static final byte[] O_Rate = ascii("<Rate>");
+	private static final byte[] C_Rate = ascii("</Rate>");
+	private static final byte[] O_Titl = ascii("<Titl>");
+	private static final byte[] C_Titl = ascii("</Titl>");
+	private static final byte[] O_AdmstnZone = ascii("<AdmstnZone>");
+	private static final byte[] C_AdmstnZone = ascii("</AdmstnZone>");
+	private static final byte[] O_SeqNb = ascii("<SeqNb>");
+	private static final byte[] C_SeqNb = ascii("</SeqNb>");
+	private static final byte[] O_Rcrd = ascii("<Rcrd>");
+	private static final byte[] C_Rcrd = ascii("</Rcrd>");
+	private static final byte[] O_TaxId = ascii("<TaxId>");
+	private static final byte[] C_TaxId = ascii("</TaxId>");
+	private static final byte[] O_RegnId = ascii("<RegnId>");
+	private static final byte[] C_RegnId = ascii("</RegnId>");
+	private static final byte[] O_TaxTp = ascii("<TaxTp>");
+	private static final byte[] C_TaxTp = ascii("</TaxTp>");
+	private static final byte[] O_Authstn = ascii("<Authstn>");
+	private static final byte[] C_Authstn = ascii("</Authstn>");
+	private static final byte[] O_Yr = ascii("<Yr>");
+	private static final byte[] C_Yr = ascii("</Yr>");
+	private static final byte[] O_FrToDt = ascii("<FrToDt>");
+	private static final byte[] C_FrToDt = ascii("</FrToDt>");
+	private static final byte[] O_Ctgy = ascii("<Ctgy>");
+	private static final byte[] C_Ctgy = ascii("</Ctgy>");
+	private static final byte[] O_CtgyDtls = ascii("<CtgyDtls>");
+	private static final byte[] C_CtgyDtls = ascii("</CtgyDtls>");
+	private static final byte[] O_DbtrSts = ascii("<DbtrSts>");
+	private static final byte[] C_DbtrSts = ascii("</DbtrSts>");
+	private static final byte[] O_CertId = ascii("<CertId>");
+	private static final byte[] C_CertId = ascii("</CertId>");
+	private static final byte[] O_FrmsCd = ascii("<FrmsCd>");
+	private static final byte[] C_FrmsCd = ascii("</FrmsCd>");
+	private static final byte[] O_Prd = ascii("<Prd>");
+	private static final byte[] C_Prd = ascii("</Prd>");
+	private static final byte[] A_Amt = ascii("<Amt");
+	private static final byte[] A_IntrBkSttlmAmt = ascii("<IntrBkSttlmAmt");
+	private static final byte[] C_IntrBkSttlmAmt = ascii("</IntrBkSttlmAmt>");
+	private static final byte[] A_InstdAmt = ascii("<InstdAmt");
+	private static final byte[] C_InstdAmt = ascii("</InstdAmt>");
+	private static final byte[] A_RmtdAmt = ascii("<RmtdAmt");
+	private static final byte[] C_RmtdAmt = ascii("</RmtdAmt>");
+	private static final byte[] A_TtlIntrBkSttlmAmt = ascii("<TtlIntrBkSttlmAmt");
+	private static final byte[] C_TtlIntrBkSttlmAmt = ascii("</TtlIntrBkSttlmAmt>");
+	private static final byte[] A_DuePyblAmt = ascii("<DuePyblAmt");
+	private static final byte[] C_DuePyblAmt = ascii("</DuePyblAmt>");
+	private static final byte[] A_CdtNoteAmt = ascii("<CdtNoteAmt");
+	private static final byte[] C_CdtNoteAmt = ascii("</CdtNoteAmt>");
+	private static final byte[] A_TaxblBaseAmt = ascii("<TaxblBaseAmt");
+	private static final byte[] C_TaxblBaseAmt = ascii("</TaxblBaseAmt>");
+	private static final byte[] A_TtlAmt = ascii("<TtlAmt");
+	private static final byte[] C_TtlAmt = ascii("</TtlAmt>");
+	private static final byte[] A_TtlTaxblBaseAmt = ascii("<TtlTaxblBaseAmt");
+	private static final byte[] C_TtlTaxblBaseAmt = ascii("</TtlTaxblBaseAmt>");
+	private static final byte[] A_TtlTaxAmt = ascii("<TtlTaxAmt");
+	private static final byte[] C_TtlTaxAmt = ascii("</TtlTaxAmt>");
+
+	private static byte[] ascii(String s) {
+		return s.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static <T> List<T> add(List<T> list, T value) {
+		List<T> l = list != null ? list : new ArrayList<>();
+		l.add(value);
+		return l;
+	}
+
+	public enum AddressType2Code {
+		ADDR, PBOX, HOME, BIZZ, MLTO, DLVY
+	}
+
+	public enum ChargeBearerType1Code {
+		DEBT, CRED, SHAR, SLEV
+	}
+
+	public enum ClearingChannel2Code {
+		RTGS, RTNS, MPNS, BOOK
+	}
+
+	public enum CreditDebitCode {
+		CRDT, DBIT
+	}
+
+	public enum DocumentType3Code {
+		RADM, RPIN, FXDR, DISP, PUOR, SCOR
+	}
+
+	public enum DocumentType6Code {
+		MSIN, CNFA, DNFA, CINV, CREN, DEBN, HIRI, SBIN, CMCN, SOAC, DISP, BOLD, VCHR, AROI, TSUT, PUOR
+	}
+
+	public enum Instruction3Code {
+		CHQB, HOLD, PHOB, TELB
+	}
+
+	public enum Instruction4Code {
+		PHOA, TELA
+	}
+
+	public enum NamePrefix2Code {
+		DOCT, MADM, MISS, MIST, MIKS
+	}
+
+	public enum PreferredContactMethod1Code {
+		LETT, MAIL, PHON, FAXX, CELL
+	}
+
+	public enum Priority2Code {
+		HIGH, NORM
+	}
+
+	public enum Priority3Code {
+		URGT, HIGH, NORM
+	}
+
+	public enum RegulatoryReportingType1Code {
+		CRED, DEBT, BOTH
+	}
+
+	public enum RemittanceLocationMethod2Code {
+		FAXI, EDIC, URID, EMAL, POST, SMSM
+	}
+
+	public enum SettlementMethod1Code {
+		INDA, INGA, COVE, CLRG
+	}
+
+	public enum TaxRecordPeriod1Code {
+		MM01, MM02, MM03, MM04, MM05, MM06, MM07, MM08, MM09, MM10, MM11, MM12, QTR1, QTR2, QTR3, QTR4, HLF1, HLF2
+	}
+
+	public static class AccountIdentification4Choice {
+		public String IBAN;
+		public GenericAccountIdentification1 othr;
+
+		void write(XmlByteWriter out) {
+			if (IBAN != null) {
+				out.writeRaw(O_IBAN);
+				out.writeText(IBAN);
+				out.writeRaw(C_IBAN);
+			} else if (othr != null) {
+				out.writeRaw(O_Othr);
+				othr.write(out);
+				out.writeRaw(C_Othr);
+			}
+		}
+	}
+
+	public static class AccountSchemeName1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class ActiveCurrencyAndAmount {
+		public BigDecimal value;
+		public String ccy; // required
+
+		/** Attributes, end of the start tag and the value. */
+		void write(XmlByteWriter out) {
+			if (ccy != null) {
+				out.writeAscii(" Ccy=\"");
+				out.writeAttrValue(ccy);
+				out.writeAscii("\"");
+			}
+			out.writeAscii(">");
+			if (value != null) {
+				out.writeAscii(value.toPlainString());
+			}
+		}
+	}
+
+	public static class ActiveOrHistoricCurrencyAndAmount {
+		public BigDecimal value;
+		public String ccy; // required
+
+		/** Attributes, end of the start tag and the value. */
+		void write(XmlByteWriter out) {
+			if (ccy != null) {
+				out.writeAscii(" Ccy=\"");
+				out.writeAttrValue(ccy);
+				out.writeAscii("\"");
+			}
+			out.writeAscii(">");
+			if (value != null) {
+				out.writeAscii(value.toPlainString());
+			}
+		}
+	}
+
+	public static class AddressType3Choice {
+		public AddressType2Code cd;
+		public GenericIdentification30 prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeAscii(cd.name());
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				prtry.write(out);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class BranchAndFinancialInstitutionIdentification6 {
+		public FinancialInstitutionIdentification18 finInstnId; // required
+		public BranchData3 brnchId;
+
+		void write(XmlByteWriter out) {
+			if (finInstnId != null) {
+				out.writeRaw(O_FinInstnId);
+				finInstnId.write(out);
+				out.writeRaw(C_FinInstnId);
+			}
+			if (brnchId != null) {
+				out.writeRaw(O_BrnchId);
+				brnchId.write(out);
+				out.writeRaw(C_BrnchId);
+			}
+		}
+	}
+
+	public static class BranchData3 {
+		public String id;
+		public String LEI;
+		public String nm;
+		public PostalAddress24 pstlAdr;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (LEI != null) {
+				out.writeRaw(O_LEI);
+				out.writeText(LEI);
+				out.writeRaw(C_LEI);
+			}
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (pstlAdr != null) {
+				out.writeRaw(O_PstlAdr);
+				pstlAdr.write(out);
+				out.writeRaw(C_PstlAdr);
+			}
+		}
+	}
+
+	public static class CashAccount38 {
+		public AccountIdentification4Choice id; // required
+		public CashAccountType2Choice tp;
+		public String ccy;
+		public String nm;
+		public ProxyAccountIdentification1 prxy;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				id.write(out);
+				out.writeRaw(C_Id);
+			}
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (ccy != null) {
+				out.writeRaw(O_Ccy);
+				out.writeText(ccy);
+				out.writeRaw(C_Ccy);
+			}
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (prxy != null) {
+				out.writeRaw(O_Prxy);
+				prxy.write(out);
+				out.writeRaw(C_Prxy);
+			}
+		}
+	}
+
+	public static class CashAccountType2Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class CategoryPurpose1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class Charges7 {
+		public ActiveOrHistoricCurrencyAndAmount amt; // required
+		public BranchAndFinancialInstitutionIdentification6 agt; // required
+
+		void write(XmlByteWriter out) {
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+			if (agt != null) {
+				out.writeRaw(O_Agt);
+				agt.write(out);
+				out.writeRaw(C_Agt);
+			}
+		}
+	}
+
+	public static class ClearingSystemIdentification2Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class ClearingSystemIdentification3Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class ClearingSystemMemberIdentification2 {
+		public ClearingSystemIdentification2Choice clrSysId;
+		public String mmbId; // required
+
+		void write(XmlByteWriter out) {
+			if (clrSysId != null) {
+				out.writeRaw(O_ClrSysId);
+				clrSysId.write(out);
+				out.writeRaw(C_ClrSysId);
+			}
+			if (mmbId != null) {
+				out.writeRaw(O_MmbId);
+				out.writeText(mmbId);
+				out.writeRaw(C_MmbId);
+			}
+		}
+	}
+
+	public static class Contact4 {
+		public NamePrefix2Code nmPrfx;
+		public String nm;
+		public String phneNb;
+		public String mobNb;
+		public String faxNb;
+		public String emailAdr;
+		public String emailPurp;
+		public String jobTitl;
+		public String rspnsblty;
+		public String dept;
+		public List<OtherContact1> othr;
+		public PreferredContactMethod1Code prefrdMtd;
+
+		public Contact4 addOthr(OtherContact1 v) {
+			othr = add(othr, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (nmPrfx != null) {
+				out.writeRaw(O_NmPrfx);
+				out.writeAscii(nmPrfx.name());
+				out.writeRaw(C_NmPrfx);
+			}
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (phneNb != null) {
+				out.writeRaw(O_PhneNb);
+				out.writeText(phneNb);
+				out.writeRaw(C_PhneNb);
+			}
+			if (mobNb != null) {
+				out.writeRaw(O_MobNb);
+				out.writeText(mobNb);
+				out.writeRaw(C_MobNb);
+			}
+			if (faxNb != null) {
+				out.writeRaw(O_FaxNb);
+				out.writeText(faxNb);
+				out.writeRaw(C_FaxNb);
+			}
+			if (emailAdr != null) {
+				out.writeRaw(O_EmailAdr);
+				out.writeText(emailAdr);
+				out.writeRaw(C_EmailAdr);
+			}
+			if (emailPurp != null) {
+				out.writeRaw(O_EmailPurp);
+				out.writeText(emailPurp);
+				out.writeRaw(C_EmailPurp);
+			}
+			if (jobTitl != null) {
+				out.writeRaw(O_JobTitl);
+				out.writeText(jobTitl);
+				out.writeRaw(C_JobTitl);
+			}
+			if (rspnsblty != null) {
+				out.writeRaw(O_Rspnsblty);
+				out.writeText(rspnsblty);
+				out.writeRaw(C_Rspnsblty);
+			}
+			if (dept != null) {
+				out.writeRaw(O_Dept);
+				out.writeText(dept);
+				out.writeRaw(C_Dept);
+			}
+			if (othr != null) {
+				for (OtherContact1 v : othr) {
+					out.writeRaw(O_Othr);
+					v.write(out);
+					out.writeRaw(C_Othr);
+				}
+			}
+			if (prefrdMtd != null) {
+				out.writeRaw(O_PrefrdMtd);
+				out.writeAscii(prefrdMtd.name());
+				out.writeRaw(C_PrefrdMtd);
+			}
+		}
+	}
+
+	public static class CreditTransferTransaction39 {
+		public PaymentIdentification7 pmtId; // required
+		public PaymentTypeInformation28 pmtTpInf;
+		public ActiveCurrencyAndAmount intrBkSttlmAmt; // required
+		public String intrBkSttlmDt;
+		public Priority3Code sttlmPrty;
+		public SettlementDateTimeIndication1 sttlmTmIndctn;
+		public SettlementTimeRequest2 sttlmTmReq;
+		public String accptncDtTm;
+		public String poolgAdjstmntDt;
+		public ActiveOrHistoricCurrencyAndAmount instdAmt;
+		public BigDecimal xchgRate;
+		public ChargeBearerType1Code chrgBr; // required
+		public List<Charges7> chrgsInf;
+		public BranchAndFinancialInstitutionIdentification6 prvsInstgAgt1;
+		public CashAccount38 prvsInstgAgt1Acct;
+		public BranchAndFinancialInstitutionIdentification6 prvsInstgAgt2;
+		public CashAccount38 prvsInstgAgt2Acct;
+		public BranchAndFinancialInstitutionIdentification6 prvsInstgAgt3;
+		public CashAccount38 prvsInstgAgt3Acct;
+		public BranchAndFinancialInstitutionIdentification6 instgAgt;
+		public BranchAndFinancialInstitutionIdentification6 instdAgt;
+		public BranchAndFinancialInstitutionIdentification6 intrmyAgt1;
+		public CashAccount38 intrmyAgt1Acct;
+		public BranchAndFinancialInstitutionIdentification6 intrmyAgt2;
+		public CashAccount38 intrmyAgt2Acct;
+		public BranchAndFinancialInstitutionIdentification6 intrmyAgt3;
+		public CashAccount38 intrmyAgt3Acct;
+		public PartyIdentification135 ultmtDbtr;
+		public PartyIdentification135 initgPty;
+		public PartyIdentification135 dbtr; // required
+		public CashAccount38 dbtrAcct;
+		public BranchAndFinancialInstitutionIdentification6 dbtrAgt; // required
+		public CashAccount38 dbtrAgtAcct;
+		public BranchAndFinancialInstitutionIdentification6 cdtrAgt; // required
+		public CashAccount38 cdtrAgtAcct;
+		public PartyIdentification135 cdtr; // required
+		public CashAccount38 cdtrAcct;
+		public PartyIdentification135 ultmtCdtr;
+		public List<InstructionForCreditorAgent1> instrForCdtrAgt;
+		public List<InstructionForNextAgent1> instrForNxtAgt;
+		public Purpose2Choice purp;
+		public List<RegulatoryReporting3> rgltryRptg;
+		public TaxInformation8 tax;
+		public List<RemittanceLocation7> rltdRmtInf;
+		public RemittanceInformation16 rmtInf;
+		public List<SupplementaryData1> splmtryData;
+
+		public CreditTransferTransaction39 addChrgsInf(Charges7 v) {
+			chrgsInf = add(chrgsInf, v);
+			return this;
+		}
+
+		public CreditTransferTransaction39 addInstrForCdtrAgt(InstructionForCreditorAgent1 v) {
+			instrForCdtrAgt = add(instrForCdtrAgt, v);
+			return this;
+		}
+
+		public CreditTransferTransaction39 addInstrForNxtAgt(InstructionForNextAgent1 v) {
+			instrForNxtAgt = add(instrForNxtAgt, v);
+			return this;
+		}
+
+		public CreditTransferTransaction39 addRgltryRptg(RegulatoryReporting3 v) {
+			rgltryRptg = add(rgltryRptg, v);
+			return this;
+		}
+
+		public CreditTransferTransaction39 addRltdRmtInf(RemittanceLocation7 v) {
+			rltdRmtInf = add(rltdRmtInf, v);
+			return this;
+		}
+
+		public CreditTransferTransaction39 addSplmtryData(SupplementaryData1 v) {
+			splmtryData = add(splmtryData, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (pmtId != null) {
+				out.writeRaw(O_PmtId);
+				pmtId.write(out);
+				out.writeRaw(C_PmtId);
+			}
+			if (pmtTpInf != null) {
+				out.writeRaw(O_PmtTpInf);
+				pmtTpInf.write(out);
+				out.writeRaw(C_PmtTpInf);
+			}
+			if (intrBkSttlmAmt != null) {
+				out.writeRaw(A_IntrBkSttlmAmt);
+				intrBkSttlmAmt.write(out);
+				out.writeRaw(C_IntrBkSttlmAmt);
+			}
+			if (intrBkSttlmDt != null) {
+				out.writeRaw(O_IntrBkSttlmDt);
+				out.writeText(intrBkSttlmDt);
+				out.writeRaw(C_IntrBkSttlmDt);
+			}
+			if (sttlmPrty != null) {
+				out.writeRaw(O_SttlmPrty);
+				out.writeAscii(sttlmPrty.name());
+				out.writeRaw(C_SttlmPrty);
+			}
+			if (sttlmTmIndctn != null) {
+				out.writeRaw(O_SttlmTmIndctn);
+				sttlmTmIndctn.write(out);
+				out.writeRaw(C_SttlmTmIndctn);
+			}
+			if (sttlmTmReq != null) {
+				out.writeRaw(O_SttlmTmReq);
+				sttlmTmReq.write(out);
+				out.writeRaw(C_SttlmTmReq);
+			}
+			if (accptncDtTm != null) {
+				out.writeRaw(O_AccptncDtTm);
+				out.writeText(accptncDtTm);
+				out.writeRaw(C_AccptncDtTm);
+			}
+			if (poolgAdjstmntDt != null) {
+				out.writeRaw(O_PoolgAdjstmntDt);
+				out.writeText(poolgAdjstmntDt);
+				out.writeRaw(C_PoolgAdjstmntDt);
+			}
+			if (instdAmt != null) {
+				out.writeRaw(A_InstdAmt);
+				instdAmt.write(out);
+				out.writeRaw(C_InstdAmt);
+			}
+			if (xchgRate != null) {
+				out.writeRaw(O_XchgRate);
+				out.writeAscii(xchgRate.toPlainString());
+				out.writeRaw(C_XchgRate);
+			}
+			if (chrgBr != null) {
+				out.writeRaw(O_ChrgBr);
+				out.writeAscii(chrgBr.name());
+				out.writeRaw(C_ChrgBr);
+			}
+			if (chrgsInf != null) {
+				for (Charges7 v : chrgsInf) {
+					out.writeRaw(O_ChrgsInf);
+					v.write(out);
+					out.writeRaw(C_ChrgsInf);
+				}
+			}
+			if (prvsInstgAgt1 != null) {
+				out.writeRaw(O_PrvsInstgAgt1);
+				prvsInstgAgt1.write(out);
+				out.writeRaw(C_PrvsInstgAgt1);
+			}
+			if (prvsInstgAgt1Acct != null) {
+				out.writeRaw(O_PrvsInstgAgt1Acct);
+				prvsInstgAgt1Acct.write(out);
+				out.writeRaw(C_PrvsInstgAgt1Acct);
+			}
+			if (prvsInstgAgt2 != null) {
+				out.writeRaw(O_PrvsInstgAgt2);
+				prvsInstgAgt2.write(out);
+				out.writeRaw(C_PrvsInstgAgt2);
+			}
+			if (prvsInstgAgt2Acct != null) {
+				out.writeRaw(O_PrvsInstgAgt2Acct);
+				prvsInstgAgt2Acct.write(out);
+				out.writeRaw(C_PrvsInstgAgt2Acct);
+			}
+			if (prvsInstgAgt3 != null) {
+				out.writeRaw(O_PrvsInstgAgt3);
+				prvsInstgAgt3.write(out);
+				out.writeRaw(C_PrvsInstgAgt3);
+			}
+			if (prvsInstgAgt3Acct != null) {
+				out.writeRaw(O_PrvsInstgAgt3Acct);
+				prvsInstgAgt3Acct.write(out);
+				out.writeRaw(C_PrvsInstgAgt3Acct);
+			}
+			if (instgAgt != null) {
+				out.writeRaw(O_InstgAgt);
+				instgAgt.write(out);
+				out.writeRaw(C_InstgAgt);
+			}
+			if (instdAgt != null) {
+				out.writeRaw(O_InstdAgt);
+				instdAgt.write(out);
+				out.writeRaw(C_InstdAgt);
+			}
+			if (intrmyAgt1 != null) {
+				out.writeRaw(O_IntrmyAgt1);
+				intrmyAgt1.write(out);
+				out.writeRaw(C_IntrmyAgt1);
+			}
+			if (intrmyAgt1Acct != null) {
+				out.writeRaw(O_IntrmyAgt1Acct);
+				intrmyAgt1Acct.write(out);
+				out.writeRaw(C_IntrmyAgt1Acct);
+			}
+			if (intrmyAgt2 != null) {
+				out.writeRaw(O_IntrmyAgt2);
+				intrmyAgt2.write(out);
+				out.writeRaw(C_IntrmyAgt2);
+			}
+			if (intrmyAgt2Acct != null) {
+				out.writeRaw(O_IntrmyAgt2Acct);
+				intrmyAgt2Acct.write(out);
+				out.writeRaw(C_IntrmyAgt2Acct);
+			}
+			if (intrmyAgt3 != null) {
+				out.writeRaw(O_IntrmyAgt3);
+				intrmyAgt3.write(out);
+				out.writeRaw(C_IntrmyAgt3);
+			}
+			if (intrmyAgt3Acct != null) {
+				out.writeRaw(O_IntrmyAgt3Acct);
+				intrmyAgt3Acct.write(out);
+				out.writeRaw(C_IntrmyAgt3Acct);
+			}
+			if (ultmtDbtr != null) {
+				out.writeRaw(O_UltmtDbtr);
+				ultmtDbtr.write(out);
+				out.writeRaw(C_UltmtDbtr);
+			}
+			if (initgPty != null) {
+				out.writeRaw(O_InitgPty);
+				initgPty.write(out);
+				out.writeRaw(C_InitgPty);
+			}
+			if (dbtr != null) {
+				out.writeRaw(O_Dbtr);
+				dbtr.write(out);
+				out.writeRaw(C_Dbtr);
+			}
+			if (dbtrAcct != null) {
+				out.writeRaw(O_DbtrAcct);
+				dbtrAcct.write(out);
+				out.writeRaw(C_DbtrAcct);
+			}
+			if (dbtrAgt != null) {
+				out.writeRaw(O_DbtrAgt);
+				dbtrAgt.write(out);
+				out.writeRaw(C_DbtrAgt);
+			}
+			if (dbtrAgtAcct != null) {
+				out.writeRaw(O_DbtrAgtAcct);
+				dbtrAgtAcct.write(out);
+				out.writeRaw(C_DbtrAgtAcct);
+			}
+			if (cdtrAgt != null) {
+				out.writeRaw(O_CdtrAgt);
+				cdtrAgt.write(out);
+				out.writeRaw(C_CdtrAgt);
+			}
+			if (cdtrAgtAcct != null) {
+				out.writeRaw(O_CdtrAgtAcct);
+				cdtrAgtAcct.write(out);
+				out.writeRaw(C_CdtrAgtAcct);
+			}
+			if (cdtr != null) {
+				out.writeRaw(O_Cdtr);
+				cdtr.write(out);
+				out.writeRaw(C_Cdtr);
+			}
+			if (cdtrAcct != null) {
+				out.writeRaw(O_CdtrAcct);
+				cdtrAcct.write(out);
+				out.writeRaw(C_CdtrAcct);
+			}
+			if (ultmtCdtr != null) {
+				out.writeRaw(O_UltmtCdtr);
+				ultmtCdtr.write(out);
+				out.writeRaw(C_UltmtCdtr);
+			}
+			if (instrForCdtrAgt != null) {
+				for (InstructionForCreditorAgent1 v : instrForCdtrAgt) {
+					out.writeRaw(O_InstrForCdtrAgt);
+					v.write(out);
+					out.writeRaw(C_InstrForCdtrAgt);
+				}
+			}
+			if (instrForNxtAgt != null) {
+				for (InstructionForNextAgent1 v : instrForNxtAgt) {
+					out.writeRaw(O_InstrForNxtAgt);
+					v.write(out);
+					out.writeRaw(C_InstrForNxtAgt);
+				}
+			}
+			if (purp != null) {
+				out.writeRaw(O_Purp);
+				purp.write(out);
+				out.writeRaw(C_Purp);
+			}
+			if (rgltryRptg != null) {
+				for (RegulatoryReporting3 v : rgltryRptg) {
+					out.writeRaw(O_RgltryRptg);
+					v.write(out);
+					out.writeRaw(C_RgltryRptg);
+				}
+			}
+			if (tax != null) {
+				out.writeRaw(O_Tax);
+				tax.write(out);
+				out.writeRaw(C_Tax);
+			}
+			if (rltdRmtInf != null) {
+				for (RemittanceLocation7 v : rltdRmtInf) {
+					out.writeRaw(O_RltdRmtInf);
+					v.write(out);
+					out.writeRaw(C_RltdRmtInf);
+				}
+			}
+			if (rmtInf != null) {
+				out.writeRaw(O_RmtInf);
+				rmtInf.write(out);
+				out.writeRaw(C_RmtInf);
+			}
+			if (splmtryData != null) {
+				for (SupplementaryData1 v : splmtryData) {
+					out.writeRaw(O_SplmtryData);
+					v.write(out);
+					out.writeRaw(C_SplmtryData);
+				}
+			}
+		}
+	}
+
+	public static class CreditorReferenceInformation2 {
+		public CreditorReferenceType2 tp;
+		public String ref;
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (ref != null) {
+				out.writeRaw(O_Ref);
+				out.writeText(ref);
+				out.writeRaw(C_Ref);
+			}
+		}
+	}
+
+	public static class CreditorReferenceType1Choice {
+		public DocumentType3Code cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeAscii(cd.name());
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class CreditorReferenceType2 {
+		public CreditorReferenceType1Choice cdOrPrtry; // required
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (cdOrPrtry != null) {
+				out.writeRaw(O_CdOrPrtry);
+				cdOrPrtry.write(out);
+				out.writeRaw(C_CdOrPrtry);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class DateAndPlaceOfBirth1 {
+		public String birthDt; // required
+		public String prvcOfBirth;
+		public String cityOfBirth; // required
+		public String ctryOfBirth; // required
+
+		void write(XmlByteWriter out) {
+			if (birthDt != null) {
+				out.writeRaw(O_BirthDt);
+				out.writeText(birthDt);
+				out.writeRaw(C_BirthDt);
+			}
+			if (prvcOfBirth != null) {
+				out.writeRaw(O_PrvcOfBirth);
+				out.writeText(prvcOfBirth);
+				out.writeRaw(C_PrvcOfBirth);
+			}
+			if (cityOfBirth != null) {
+				out.writeRaw(O_CityOfBirth);
+				out.writeText(cityOfBirth);
+				out.writeRaw(C_CityOfBirth);
+			}
+			if (ctryOfBirth != null) {
+				out.writeRaw(O_CtryOfBirth);
+				out.writeText(ctryOfBirth);
+				out.writeRaw(C_CtryOfBirth);
+			}
+		}
+	}
+
+	public static class DatePeriod2 {
+		public String frDt; // required
+		public String toDt; // required
+
+		void write(XmlByteWriter out) {
+			if (frDt != null) {
+				out.writeRaw(O_FrDt);
+				out.writeText(frDt);
+				out.writeRaw(C_FrDt);
+			}
+			if (toDt != null) {
+				out.writeRaw(O_ToDt);
+				out.writeText(toDt);
+				out.writeRaw(C_ToDt);
+			}
+		}
+	}
+
+	public static class DiscountAmountAndType1 {
+		public DiscountAmountType1Choice tp;
+		public ActiveOrHistoricCurrencyAndAmount amt; // required
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+		}
+	}
+
+	public static class DiscountAmountType1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class Document {
+		public FIToFICustomerCreditTransferV08 FIToFICstmrCdtTrf; // required
+
+		void write(XmlByteWriter out) {
+			if (FIToFICstmrCdtTrf != null) {
+				out.writeRaw(O_FIToFICstmrCdtTrf);
+				FIToFICstmrCdtTrf.write(out);
+				out.writeRaw(C_FIToFICstmrCdtTrf);
+			}
+		}
+	}
+
+	public static class DocumentAdjustment1 {
+		public ActiveOrHistoricCurrencyAndAmount amt; // required
+		public CreditDebitCode cdtDbtInd;
+		public String rsn;
+		public String addtlInf;
+
+		void write(XmlByteWriter out) {
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+			if (cdtDbtInd != null) {
+				out.writeRaw(O_CdtDbtInd);
+				out.writeAscii(cdtDbtInd.name());
+				out.writeRaw(C_CdtDbtInd);
+			}
+			if (rsn != null) {
+				out.writeRaw(O_Rsn);
+				out.writeText(rsn);
+				out.writeRaw(C_Rsn);
+			}
+			if (addtlInf != null) {
+				out.writeRaw(O_AddtlInf);
+				out.writeText(addtlInf);
+				out.writeRaw(C_AddtlInf);
+			}
+		}
+	}
+
+	public static class DocumentLineIdentification1 {
+		public DocumentLineType1 tp;
+		public String nb;
+		public String rltdDt;
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (nb != null) {
+				out.writeRaw(O_Nb);
+				out.writeText(nb);
+				out.writeRaw(C_Nb);
+			}
+			if (rltdDt != null) {
+				out.writeRaw(O_RltdDt);
+				out.writeText(rltdDt);
+				out.writeRaw(C_RltdDt);
+			}
+		}
+	}
+
+	public static class DocumentLineInformation1 {
+		public List<DocumentLineIdentification1> id;
+		public String desc;
+		public RemittanceAmount3 amt;
+
+		public DocumentLineInformation1 addId(DocumentLineIdentification1 v) {
+			id = add(id, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				for (DocumentLineIdentification1 v : id) {
+					out.writeRaw(O_Id);
+					v.write(out);
+					out.writeRaw(C_Id);
+				}
+			}
+			if (desc != null) {
+				out.writeRaw(O_Desc);
+				out.writeText(desc);
+				out.writeRaw(C_Desc);
+			}
+			if (amt != null) {
+				out.writeRaw(O_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+		}
+	}
+
+	public static class DocumentLineType1 {
+		public DocumentLineType1Choice cdOrPrtry; // required
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (cdOrPrtry != null) {
+				out.writeRaw(O_CdOrPrtry);
+				cdOrPrtry.write(out);
+				out.writeRaw(C_CdOrPrtry);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class DocumentLineType1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class FIToFICustomerCreditTransferV08 {
+		public GroupHeader93 grpHdr; // required
+		public List<CreditTransferTransaction39> cdtTrfTxInf;
+		public List<SupplementaryData1> splmtryData;
+
+		public FIToFICustomerCreditTransferV08 addCdtTrfTxInf(CreditTransferTransaction39 v) {
+			cdtTrfTxInf = add(cdtTrfTxInf, v);
+			return this;
+		}
+
+		public FIToFICustomerCreditTransferV08 addSplmtryData(SupplementaryData1 v) {
+			splmtryData = add(splmtryData, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (grpHdr != null) {
+				out.writeRaw(O_GrpHdr);
+				grpHdr.write(out);
+				out.writeRaw(C_GrpHdr);
+			}
+			if (cdtTrfTxInf != null) {
+				for (CreditTransferTransaction39 v : cdtTrfTxInf) {
+					out.writeRaw(O_CdtTrfTxInf);
+					v.write(out);
+					out.writeRaw(C_CdtTrfTxInf);
+				}
+			}
+			if (splmtryData != null) {
+				for (SupplementaryData1 v : splmtryData) {
+					out.writeRaw(O_SplmtryData);
+					v.write(out);
+					out.writeRaw(C_SplmtryData);
+				}
+			}
+		}
+	}
+
+	public static class FinancialIdentificationSchemeName1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class FinancialInstitutionIdentification18 {
+		public String BICFI;
+		public ClearingSystemMemberIdentification2 clrSysMmbId;
+		public String LEI;
+		public String nm;
+		public PostalAddress24 pstlAdr;
+		public GenericFinancialIdentification1 othr;
+
+		void write(XmlByteWriter out) {
+			if (BICFI != null) {
+				out.writeRaw(O_BICFI);
+				out.writeText(BICFI);
+				out.writeRaw(C_BICFI);
+			}
+			if (clrSysMmbId != null) {
+				out.writeRaw(O_ClrSysMmbId);
+				clrSysMmbId.write(out);
+				out.writeRaw(C_ClrSysMmbId);
+			}
+			if (LEI != null) {
+				out.writeRaw(O_LEI);
+				out.writeText(LEI);
+				out.writeRaw(C_LEI);
+			}
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (pstlAdr != null) {
+				out.writeRaw(O_PstlAdr);
+				pstlAdr.write(out);
+				out.writeRaw(C_PstlAdr);
+			}
+			if (othr != null) {
+				out.writeRaw(O_Othr);
+				othr.write(out);
+				out.writeRaw(C_Othr);
+			}
+		}
+	}
+
+	public static class Garnishment3 {
+		public GarnishmentType1 tp; // required
+		public PartyIdentification135 grnshee;
+		public PartyIdentification135 grnshmtAdmstr;
+		public String refNb;
+		public String dt;
+		public ActiveOrHistoricCurrencyAndAmount rmtdAmt;
+		public Boolean fmlyMdclInsrncInd;
+		public Boolean mplyeeTermntnInd;
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (grnshee != null) {
+				out.writeRaw(O_Grnshee);
+				grnshee.write(out);
+				out.writeRaw(C_Grnshee);
+			}
+			if (grnshmtAdmstr != null) {
+				out.writeRaw(O_GrnshmtAdmstr);
+				grnshmtAdmstr.write(out);
+				out.writeRaw(C_GrnshmtAdmstr);
+			}
+			if (refNb != null) {
+				out.writeRaw(O_RefNb);
+				out.writeText(refNb);
+				out.writeRaw(C_RefNb);
+			}
+			if (dt != null) {
+				out.writeRaw(O_Dt);
+				out.writeText(dt);
+				out.writeRaw(C_Dt);
+			}
+			if (rmtdAmt != null) {
+				out.writeRaw(A_RmtdAmt);
+				rmtdAmt.write(out);
+				out.writeRaw(C_RmtdAmt);
+			}
+			if (fmlyMdclInsrncInd != null) {
+				out.writeRaw(O_FmlyMdclInsrncInd);
+				out.writeAscii(fmlyMdclInsrncInd.toString());
+				out.writeRaw(C_FmlyMdclInsrncInd);
+			}
+			if (mplyeeTermntnInd != null) {
+				out.writeRaw(O_MplyeeTermntnInd);
+				out.writeAscii(mplyeeTermntnInd.toString());
+				out.writeRaw(C_MplyeeTermntnInd);
+			}
+		}
+	}
+
+	public static class GarnishmentType1 {
+		public GarnishmentType1Choice cdOrPrtry; // required
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (cdOrPrtry != null) {
+				out.writeRaw(O_CdOrPrtry);
+				cdOrPrtry.write(out);
+				out.writeRaw(C_CdOrPrtry);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class GarnishmentType1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class GenericAccountIdentification1 {
+		public String id; // required
+		public AccountSchemeName1Choice schmeNm;
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (schmeNm != null) {
+				out.writeRaw(O_SchmeNm);
+				schmeNm.write(out);
+				out.writeRaw(C_SchmeNm);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class GenericFinancialIdentification1 {
+		public String id; // required
+		public FinancialIdentificationSchemeName1Choice schmeNm;
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (schmeNm != null) {
+				out.writeRaw(O_SchmeNm);
+				schmeNm.write(out);
+				out.writeRaw(C_SchmeNm);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class GenericIdentification30 {
+		public String id; // required
+		public String issr; // required
+		public String schmeNm;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+			if (schmeNm != null) {
+				out.writeRaw(O_SchmeNm);
+				out.writeText(schmeNm);
+				out.writeRaw(C_SchmeNm);
+			}
+		}
+	}
+
+	public static class GenericOrganisationIdentification1 {
+		public String id; // required
+		public OrganisationIdentificationSchemeName1Choice schmeNm;
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (schmeNm != null) {
+				out.writeRaw(O_SchmeNm);
+				schmeNm.write(out);
+				out.writeRaw(C_SchmeNm);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class GenericPersonIdentification1 {
+		public String id; // required
+		public PersonIdentificationSchemeName1Choice schmeNm;
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+			if (schmeNm != null) {
+				out.writeRaw(O_SchmeNm);
+				schmeNm.write(out);
+				out.writeRaw(C_SchmeNm);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class GroupHeader93 {
+		public String msgId; // required
+		public String creDtTm; // required
+		public Boolean btchBookg;
+		public String nbOfTxs; // required
+		public BigDecimal ctrlSum;
+		public ActiveCurrencyAndAmount ttlIntrBkSttlmAmt;
+		public String intrBkSttlmDt;
+		public SettlementInstruction7 sttlmInf; // required
+		public PaymentTypeInformation28 pmtTpInf;
+		public BranchAndFinancialInstitutionIdentification6 instgAgt;
+		public BranchAndFinancialInstitutionIdentification6 instdAgt;
+
+		void write(XmlByteWriter out) {
+			if (msgId != null) {
+				out.writeRaw(O_MsgId);
+				out.writeText(msgId);
+				out.writeRaw(C_MsgId);
+			}
+			if (creDtTm != null) {
+				out.writeRaw(O_CreDtTm);
+				out.writeText(creDtTm);
+				out.writeRaw(C_CreDtTm);
+			}
+			if (btchBookg != null) {
+				out.writeRaw(O_BtchBookg);
+				out.writeAscii(btchBookg.toString());
+				out.writeRaw(C_BtchBookg);
+			}
+			if (nbOfTxs != null) {
+				out.writeRaw(O_NbOfTxs);
+				out.writeText(nbOfTxs);
+				out.writeRaw(C_NbOfTxs);
+			}
+			if (ctrlSum != null) {
+				out.writeRaw(O_CtrlSum);
+				out.writeAscii(ctrlSum.toPlainString());
+				out.writeRaw(C_CtrlSum);
+			}
+			if (ttlIntrBkSttlmAmt != null) {
+				out.writeRaw(A_TtlIntrBkSttlmAmt);
+				ttlIntrBkSttlmAmt.write(out);
+				out.writeRaw(C_TtlIntrBkSttlmAmt);
+			}
+			if (intrBkSttlmDt != null) {
+				out.writeRaw(O_IntrBkSttlmDt);
+				out.writeText(intrBkSttlmDt);
+				out.writeRaw(C_IntrBkSttlmDt);
+			}
+			if (sttlmInf != null) {
+				out.writeRaw(O_SttlmInf);
+				sttlmInf.write(out);
+				out.writeRaw(C_SttlmInf);
+			}
+			if (pmtTpInf != null) {
+				out.writeRaw(O_PmtTpInf);
+				pmtTpInf.write(out);
+				out.writeRaw(C_PmtTpInf);
+			}
+			if (instgAgt != null) {
+				out.writeRaw(O_InstgAgt);
+				instgAgt.write(out);
+				out.writeRaw(C_InstgAgt);
+			}
+			if (instdAgt != null) {
+				out.writeRaw(O_InstdAgt);
+				instdAgt.write(out);
+				out.writeRaw(C_InstdAgt);
+			}
+		}
+	}
+
+	public static class InstructionForCreditorAgent1 {
+		public Instruction3Code cd;
+		public String instrInf;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeAscii(cd.name());
+				out.writeRaw(C_Cd);
+			}
+			if (instrInf != null) {
+				out.writeRaw(O_InstrInf);
+				out.writeText(instrInf);
+				out.writeRaw(C_InstrInf);
+			}
+		}
+	}
+
+	public static class InstructionForNextAgent1 {
+		public Instruction4Code cd;
+		public String instrInf;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeAscii(cd.name());
+				out.writeRaw(C_Cd);
+			}
+			if (instrInf != null) {
+				out.writeRaw(O_InstrInf);
+				out.writeText(instrInf);
+				out.writeRaw(C_InstrInf);
+			}
+		}
+	}
+
+	public static class LocalInstrument2Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class NameAndAddress16 {
+		public String nm; // required
+		public PostalAddress24 adr; // required
+
+		void write(XmlByteWriter out) {
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (adr != null) {
+				out.writeRaw(O_Adr);
+				adr.write(out);
+				out.writeRaw(C_Adr);
+			}
+		}
+	}
+
+	public static class OrganisationIdentification29 {
+		public String anyBIC;
+		public String LEI;
+		public List<GenericOrganisationIdentification1> othr;
+
+		public OrganisationIdentification29 addOthr(GenericOrganisationIdentification1 v) {
+			othr = add(othr, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (anyBIC != null) {
+				out.writeRaw(O_AnyBIC);
+				out.writeText(anyBIC);
+				out.writeRaw(C_AnyBIC);
+			}
+			if (LEI != null) {
+				out.writeRaw(O_LEI);
+				out.writeText(LEI);
+				out.writeRaw(C_LEI);
+			}
+			if (othr != null) {
+				for (GenericOrganisationIdentification1 v : othr) {
+					out.writeRaw(O_Othr);
+					v.write(out);
+					out.writeRaw(C_Othr);
+				}
+			}
+		}
+	}
+
+	public static class OrganisationIdentificationSchemeName1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class OtherContact1 {
+		public String chanlTp; // required
+		public String id;
+
+		void write(XmlByteWriter out) {
+			if (chanlTp != null) {
+				out.writeRaw(O_ChanlTp);
+				out.writeText(chanlTp);
+				out.writeRaw(C_ChanlTp);
+			}
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+		}
+	}
+
+	public static class Party38Choice {
+		public OrganisationIdentification29 orgId;
+		public PersonIdentification13 prvtId;
+
+		void write(XmlByteWriter out) {
+			if (orgId != null) {
+				out.writeRaw(O_OrgId);
+				orgId.write(out);
+				out.writeRaw(C_OrgId);
+			} else if (prvtId != null) {
+				out.writeRaw(O_PrvtId);
+				prvtId.write(out);
+				out.writeRaw(C_PrvtId);
+			}
+		}
+	}
+
+	public static class PartyIdentification135 {
+		public String nm;
+		public PostalAddress24 pstlAdr;
+		public Party38Choice id;
+		public String ctryOfRes;
+		public Contact4 ctctDtls;
+
+		void write(XmlByteWriter out) {
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (pstlAdr != null) {
+				out.writeRaw(O_PstlAdr);
+				pstlAdr.write(out);
+				out.writeRaw(C_PstlAdr);
+			}
+			if (id != null) {
+				out.writeRaw(O_Id);
+				id.write(out);
+				out.writeRaw(C_Id);
+			}
+			if (ctryOfRes != null) {
+				out.writeRaw(O_CtryOfRes);
+				out.writeText(ctryOfRes);
+				out.writeRaw(C_CtryOfRes);
+			}
+			if (ctctDtls != null) {
+				out.writeRaw(O_CtctDtls);
+				ctctDtls.write(out);
+				out.writeRaw(C_CtctDtls);
+			}
+		}
+	}
+
+	public static class PaymentIdentification7 {
+		public String instrId;
+		public String endToEndId; // required
+		public String txId;
+		public String UETR;
+		public String clrSysRef;
+
+		void write(XmlByteWriter out) {
+			if (instrId != null) {
+				out.writeRaw(O_InstrId);
+				out.writeText(instrId);
+				out.writeRaw(C_InstrId);
+			}
+			if (endToEndId != null) {
+				out.writeRaw(O_EndToEndId);
+				out.writeText(endToEndId);
+				out.writeRaw(C_EndToEndId);
+			}
+			if (txId != null) {
+				out.writeRaw(O_TxId);
+				out.writeText(txId);
+				out.writeRaw(C_TxId);
+			}
+			if (UETR != null) {
+				out.writeRaw(O_UETR);
+				out.writeText(UETR);
+				out.writeRaw(C_UETR);
+			}
+			if (clrSysRef != null) {
+				out.writeRaw(O_ClrSysRef);
+				out.writeText(clrSysRef);
+				out.writeRaw(C_ClrSysRef);
+			}
+		}
+	}
+
+	public static class PaymentTypeInformation28 {
+		public Priority2Code instrPrty;
+		public ClearingChannel2Code clrChanl;
+		public List<ServiceLevel8Choice> svcLvl;
+		public LocalInstrument2Choice lclInstrm;
+		public CategoryPurpose1Choice ctgyPurp;
+
+		public PaymentTypeInformation28 addSvcLvl(ServiceLevel8Choice v) {
+			svcLvl = add(svcLvl, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (instrPrty != null) {
+				out.writeRaw(O_InstrPrty);
+				out.writeAscii(instrPrty.name());
+				out.writeRaw(C_InstrPrty);
+			}
+			if (clrChanl != null) {
+				out.writeRaw(O_ClrChanl);
+				out.writeAscii(clrChanl.name());
+				out.writeRaw(C_ClrChanl);
+			}
+			if (svcLvl != null) {
+				for (ServiceLevel8Choice v : svcLvl) {
+					out.writeRaw(O_SvcLvl);
+					v.write(out);
+					out.writeRaw(C_SvcLvl);
+				}
+			}
+			if (lclInstrm != null) {
+				out.writeRaw(O_LclInstrm);
+				lclInstrm.write(out);
+				out.writeRaw(C_LclInstrm);
+			}
+			if (ctgyPurp != null) {
+				out.writeRaw(O_CtgyPurp);
+				ctgyPurp.write(out);
+				out.writeRaw(C_CtgyPurp);
+			}
+		}
+	}
+
+	public static class PersonIdentification13 {
+		public DateAndPlaceOfBirth1 dtAndPlcOfBirth;
+		public List<GenericPersonIdentification1> othr;
+
+		public PersonIdentification13 addOthr(GenericPersonIdentification1 v) {
+			othr = add(othr, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (dtAndPlcOfBirth != null) {
+				out.writeRaw(O_DtAndPlcOfBirth);
+				dtAndPlcOfBirth.write(out);
+				out.writeRaw(C_DtAndPlcOfBirth);
+			}
+			if (othr != null) {
+				for (GenericPersonIdentification1 v : othr) {
+					out.writeRaw(O_Othr);
+					v.write(out);
+					out.writeRaw(C_Othr);
+				}
+			}
+		}
+	}
+
+	public static class PersonIdentificationSchemeName1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class PostalAddress24 {
+		public AddressType3Choice adrTp;
+		public String dept;
+		public String subDept;
+		public String strtNm;
+		public String bldgNb;
+		public String bldgNm;
+		public String flr;
+		public String pstBx;
+		public String room;
+		public String pstCd;
+		public String twnNm;
+		public String twnLctnNm;
+		public String dstrctNm;
+		public String ctrySubDvsn;
+		public String ctry;
+		public List<String> adrLine;
+
+		public PostalAddress24 addAdrLine(String v) {
+			adrLine = add(adrLine, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (adrTp != null) {
+				out.writeRaw(O_AdrTp);
+				adrTp.write(out);
+				out.writeRaw(C_AdrTp);
+			}
+			if (dept != null) {
+				out.writeRaw(O_Dept);
+				out.writeText(dept);
+				out.writeRaw(C_Dept);
+			}
+			if (subDept != null) {
+				out.writeRaw(O_SubDept);
+				out.writeText(subDept);
+				out.writeRaw(C_SubDept);
+			}
+			if (strtNm != null) {
+				out.writeRaw(O_StrtNm);
+				out.writeText(strtNm);
+				out.writeRaw(C_StrtNm);
+			}
+			if (bldgNb != null) {
+				out.writeRaw(O_BldgNb);
+				out.writeText(bldgNb);
+				out.writeRaw(C_BldgNb);
+			}
+			if (bldgNm != null) {
+				out.writeRaw(O_BldgNm);
+				out.writeText(bldgNm);
+				out.writeRaw(C_BldgNm);
+			}
+			if (flr != null) {
+				out.writeRaw(O_Flr);
+				out.writeText(flr);
+				out.writeRaw(C_Flr);
+			}
+			if (pstBx != null) {
+				out.writeRaw(O_PstBx);
+				out.writeText(pstBx);
+				out.writeRaw(C_PstBx);
+			}
+			if (room != null) {
+				out.writeRaw(O_Room);
+				out.writeText(room);
+				out.writeRaw(C_Room);
+			}
+			if (pstCd != null) {
+				out.writeRaw(O_PstCd);
+				out.writeText(pstCd);
+				out.writeRaw(C_PstCd);
+			}
+			if (twnNm != null) {
+				out.writeRaw(O_TwnNm);
+				out.writeText(twnNm);
+				out.writeRaw(C_TwnNm);
+			}
+			if (twnLctnNm != null) {
+				out.writeRaw(O_TwnLctnNm);
+				out.writeText(twnLctnNm);
+				out.writeRaw(C_TwnLctnNm);
+			}
+			if (dstrctNm != null) {
+				out.writeRaw(O_DstrctNm);
+				out.writeText(dstrctNm);
+				out.writeRaw(C_DstrctNm);
+			}
+			if (ctrySubDvsn != null) {
+				out.writeRaw(O_CtrySubDvsn);
+				out.writeText(ctrySubDvsn);
+				out.writeRaw(C_CtrySubDvsn);
+			}
+			if (ctry != null) {
+				out.writeRaw(O_Ctry);
+				out.writeText(ctry);
+				out.writeRaw(C_Ctry);
+			}
+			if (adrLine != null) {
+				for (String v : adrLine) {
+					out.writeRaw(O_AdrLine);
+					out.writeText(v);
+					out.writeRaw(C_AdrLine);
+				}
+			}
+		}
+	}
+
+	public static class ProxyAccountIdentification1 {
+		public ProxyAccountType1Choice tp;
+		public String id; // required
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (id != null) {
+				out.writeRaw(O_Id);
+				out.writeText(id);
+				out.writeRaw(C_Id);
+			}
+		}
+	}
+
+	public static class ProxyAccountType1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class Purpose2Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class ReferredDocumentInformation7 {
+		public ReferredDocumentType4 tp;
+		public String nb;
+		public String rltdDt;
+		public List<DocumentLineInformation1> lineDtls;
+
+		public ReferredDocumentInformation7 addLineDtls(DocumentLineInformation1 v) {
+			lineDtls = add(lineDtls, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (nb != null) {
+				out.writeRaw(O_Nb);
+				out.writeText(nb);
+				out.writeRaw(C_Nb);
+			}
+			if (rltdDt != null) {
+				out.writeRaw(O_RltdDt);
+				out.writeText(rltdDt);
+				out.writeRaw(C_RltdDt);
+			}
+			if (lineDtls != null) {
+				for (DocumentLineInformation1 v : lineDtls) {
+					out.writeRaw(O_LineDtls);
+					v.write(out);
+					out.writeRaw(C_LineDtls);
+				}
+			}
+		}
+	}
+
+	public static class ReferredDocumentType3Choice {
+		public DocumentType6Code cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeAscii(cd.name());
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class ReferredDocumentType4 {
+		public ReferredDocumentType3Choice cdOrPrtry; // required
+		public String issr;
+
+		void write(XmlByteWriter out) {
+			if (cdOrPrtry != null) {
+				out.writeRaw(O_CdOrPrtry);
+				cdOrPrtry.write(out);
+				out.writeRaw(C_CdOrPrtry);
+			}
+			if (issr != null) {
+				out.writeRaw(O_Issr);
+				out.writeText(issr);
+				out.writeRaw(C_Issr);
+			}
+		}
+	}
+
+	public static class RegulatoryAuthority2 {
+		public String nm;
+		public String ctry;
+
+		void write(XmlByteWriter out) {
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+			if (ctry != null) {
+				out.writeRaw(O_Ctry);
+				out.writeText(ctry);
+				out.writeRaw(C_Ctry);
+			}
+		}
+	}
+
+	public static class RegulatoryReporting3 {
+		public RegulatoryReportingType1Code dbtCdtRptgInd;
+		public RegulatoryAuthority2 authrty;
+		public List<StructuredRegulatoryReporting3> dtls;
+
+		public RegulatoryReporting3 addDtls(StructuredRegulatoryReporting3 v) {
+			dtls = add(dtls, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (dbtCdtRptgInd != null) {
+				out.writeRaw(O_DbtCdtRptgInd);
+				out.writeAscii(dbtCdtRptgInd.name());
+				out.writeRaw(C_DbtCdtRptgInd);
+			}
+			if (authrty != null) {
+				out.writeRaw(O_Authrty);
+				authrty.write(out);
+				out.writeRaw(C_Authrty);
+			}
+			if (dtls != null) {
+				for (StructuredRegulatoryReporting3 v : dtls) {
+					out.writeRaw(O_Dtls);
+					v.write(out);
+					out.writeRaw(C_Dtls);
+				}
+			}
+		}
+	}
+
+	public static class RemittanceAmount2 {
+		public ActiveOrHistoricCurrencyAndAmount duePyblAmt;
+		public List<DiscountAmountAndType1> dscntApldAmt;
+		public ActiveOrHistoricCurrencyAndAmount cdtNoteAmt;
+		public List<TaxAmountAndType1> taxAmt;
+		public List<DocumentAdjustment1> adjstmntAmtAndRsn;
+		public ActiveOrHistoricCurrencyAndAmount rmtdAmt;
+
+		public RemittanceAmount2 addDscntApldAmt(DiscountAmountAndType1 v) {
+			dscntApldAmt = add(dscntApldAmt, v);
+			return this;
+		}
+
+		public RemittanceAmount2 addTaxAmt(TaxAmountAndType1 v) {
+			taxAmt = add(taxAmt, v);
+			return this;
+		}
+
+		public RemittanceAmount2 addAdjstmntAmtAndRsn(DocumentAdjustment1 v) {
+			adjstmntAmtAndRsn = add(adjstmntAmtAndRsn, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (duePyblAmt != null) {
+				out.writeRaw(A_DuePyblAmt);
+				duePyblAmt.write(out);
+				out.writeRaw(C_DuePyblAmt);
+			}
+			if (dscntApldAmt != null) {
+				for (DiscountAmountAndType1 v : dscntApldAmt) {
+					out.writeRaw(O_DscntApldAmt);
+					v.write(out);
+					out.writeRaw(C_DscntApldAmt);
+				}
+			}
+			if (cdtNoteAmt != null) {
+				out.writeRaw(A_CdtNoteAmt);
+				cdtNoteAmt.write(out);
+				out.writeRaw(C_CdtNoteAmt);
+			}
+			if (taxAmt != null) {
+				for (TaxAmountAndType1 v : taxAmt) {
+					out.writeRaw(O_TaxAmt);
+					v.write(out);
+					out.writeRaw(C_TaxAmt);
+				}
+			}
+			if (adjstmntAmtAndRsn != null) {
+				for (DocumentAdjustment1 v : adjstmntAmtAndRsn) {
+					out.writeRaw(O_AdjstmntAmtAndRsn);
+					v.write(out);
+					out.writeRaw(C_AdjstmntAmtAndRsn);
+				}
+			}
+			if (rmtdAmt != null) {
+				out.writeRaw(A_RmtdAmt);
+				rmtdAmt.write(out);
+				out.writeRaw(C_RmtdAmt);
+			}
+		}
+	}
+
+	public static class RemittanceAmount3 {
+		public ActiveOrHistoricCurrencyAndAmount duePyblAmt;
+		public List<DiscountAmountAndType1> dscntApldAmt;
+		public ActiveOrHistoricCurrencyAndAmount cdtNoteAmt;
+		public List<TaxAmountAndType1> taxAmt;
+		public List<DocumentAdjustment1> adjstmntAmtAndRsn;
+		public ActiveOrHistoricCurrencyAndAmount rmtdAmt;
+
+		public RemittanceAmount3 addDscntApldAmt(DiscountAmountAndType1 v) {
+			dscntApldAmt = add(dscntApldAmt, v);
+			return this;
+		}
+
+		public RemittanceAmount3 addTaxAmt(TaxAmountAndType1 v) {
+			taxAmt = add(taxAmt, v);
+			return this;
+		}
+
+		public RemittanceAmount3 addAdjstmntAmtAndRsn(DocumentAdjustment1 v) {
+			adjstmntAmtAndRsn = add(adjstmntAmtAndRsn, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (duePyblAmt != null) {
+				out.writeRaw(A_DuePyblAmt);
+				duePyblAmt.write(out);
+				out.writeRaw(C_DuePyblAmt);
+			}
+			if (dscntApldAmt != null) {
+				for (DiscountAmountAndType1 v : dscntApldAmt) {
+					out.writeRaw(O_DscntApldAmt);
+					v.write(out);
+					out.writeRaw(C_DscntApldAmt);
+				}
+			}
+			if (cdtNoteAmt != null) {
+				out.writeRaw(A_CdtNoteAmt);
+				cdtNoteAmt.write(out);
+				out.writeRaw(C_CdtNoteAmt);
+			}
+			if (taxAmt != null) {
+				for (TaxAmountAndType1 v : taxAmt) {
+					out.writeRaw(O_TaxAmt);
+					v.write(out);
+					out.writeRaw(C_TaxAmt);
+				}
+			}
+			if (adjstmntAmtAndRsn != null) {
+				for (DocumentAdjustment1 v : adjstmntAmtAndRsn) {
+					out.writeRaw(O_AdjstmntAmtAndRsn);
+					v.write(out);
+					out.writeRaw(C_AdjstmntAmtAndRsn);
+				}
+			}
+			if (rmtdAmt != null) {
+				out.writeRaw(A_RmtdAmt);
+				rmtdAmt.write(out);
+				out.writeRaw(C_RmtdAmt);
+			}
+		}
+	}
+
+	public static class RemittanceInformation16 {
+		public List<String> ustrd;
+		public List<StructuredRemittanceInformation16> strd;
+
+		public RemittanceInformation16 addUstrd(String v) {
+			ustrd = add(ustrd, v);
+			return this;
+		}
+
+		public RemittanceInformation16 addStrd(StructuredRemittanceInformation16 v) {
+			strd = add(strd, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (ustrd != null) {
+				for (String v : ustrd) {
+					out.writeRaw(O_Ustrd);
+					out.writeText(v);
+					out.writeRaw(C_Ustrd);
+				}
+			}
+			if (strd != null) {
+				for (StructuredRemittanceInformation16 v : strd) {
+					out.writeRaw(O_Strd);
+					v.write(out);
+					out.writeRaw(C_Strd);
+				}
+			}
+		}
+	}
+
+	public static class RemittanceLocation7 {
+		public String rmtId;
+		public List<RemittanceLocationData1> rmtLctnDtls;
+
+		public RemittanceLocation7 addRmtLctnDtls(RemittanceLocationData1 v) {
+			rmtLctnDtls = add(rmtLctnDtls, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (rmtId != null) {
+				out.writeRaw(O_RmtId);
+				out.writeText(rmtId);
+				out.writeRaw(C_RmtId);
+			}
+			if (rmtLctnDtls != null) {
+				for (RemittanceLocationData1 v : rmtLctnDtls) {
+					out.writeRaw(O_RmtLctnDtls);
+					v.write(out);
+					out.writeRaw(C_RmtLctnDtls);
+				}
+			}
+		}
+	}
+
+	public static class RemittanceLocationData1 {
+		public RemittanceLocationMethod2Code mtd; // required
+		public String elctrncAdr;
+		public NameAndAddress16 pstlAdr;
+
+		void write(XmlByteWriter out) {
+			if (mtd != null) {
+				out.writeRaw(O_Mtd);
+				out.writeAscii(mtd.name());
+				out.writeRaw(C_Mtd);
+			}
+			if (elctrncAdr != null) {
+				out.writeRaw(O_ElctrncAdr);
+				out.writeText(elctrncAdr);
+				out.writeRaw(C_ElctrncAdr);
+			}
+			if (pstlAdr != null) {
+				out.writeRaw(O_PstlAdr);
+				pstlAdr.write(out);
+				out.writeRaw(C_PstlAdr);
+			}
+		}
+	}
+
+	public static class ServiceLevel8Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class SettlementDateTimeIndication1 {
+		public String dbtDtTm;
+		public String cdtDtTm;
+
+		void write(XmlByteWriter out) {
+			if (dbtDtTm != null) {
+				out.writeRaw(O_DbtDtTm);
+				out.writeText(dbtDtTm);
+				out.writeRaw(C_DbtDtTm);
+			}
+			if (cdtDtTm != null) {
+				out.writeRaw(O_CdtDtTm);
+				out.writeText(cdtDtTm);
+				out.writeRaw(C_CdtDtTm);
+			}
+		}
+	}
+
+	public static class SettlementInstruction7 {
+		public SettlementMethod1Code sttlmMtd; // required
+		public CashAccount38 sttlmAcct;
+		public ClearingSystemIdentification3Choice clrSys;
+		public BranchAndFinancialInstitutionIdentification6 instgRmbrsmntAgt;
+		public CashAccount38 instgRmbrsmntAgtAcct;
+		public BranchAndFinancialInstitutionIdentification6 instdRmbrsmntAgt;
+		public CashAccount38 instdRmbrsmntAgtAcct;
+		public BranchAndFinancialInstitutionIdentification6 thrdRmbrsmntAgt;
+		public CashAccount38 thrdRmbrsmntAgtAcct;
+
+		void write(XmlByteWriter out) {
+			if (sttlmMtd != null) {
+				out.writeRaw(O_SttlmMtd);
+				out.writeAscii(sttlmMtd.name());
+				out.writeRaw(C_SttlmMtd);
+			}
+			if (sttlmAcct != null) {
+				out.writeRaw(O_SttlmAcct);
+				sttlmAcct.write(out);
+				out.writeRaw(C_SttlmAcct);
+			}
+			if (clrSys != null) {
+				out.writeRaw(O_ClrSys);
+				clrSys.write(out);
+				out.writeRaw(C_ClrSys);
+			}
+			if (instgRmbrsmntAgt != null) {
+				out.writeRaw(O_InstgRmbrsmntAgt);
+				instgRmbrsmntAgt.write(out);
+				out.writeRaw(C_InstgRmbrsmntAgt);
+			}
+			if (instgRmbrsmntAgtAcct != null) {
+				out.writeRaw(O_InstgRmbrsmntAgtAcct);
+				instgRmbrsmntAgtAcct.write(out);
+				out.writeRaw(C_InstgRmbrsmntAgtAcct);
+			}
+			if (instdRmbrsmntAgt != null) {
+				out.writeRaw(O_InstdRmbrsmntAgt);
+				instdRmbrsmntAgt.write(out);
+				out.writeRaw(C_InstdRmbrsmntAgt);
+			}
+			if (instdRmbrsmntAgtAcct != null) {
+				out.writeRaw(O_InstdRmbrsmntAgtAcct);
+				instdRmbrsmntAgtAcct.write(out);
+				out.writeRaw(C_InstdRmbrsmntAgtAcct);
+			}
+			if (thrdRmbrsmntAgt != null) {
+				out.writeRaw(O_ThrdRmbrsmntAgt);
+				thrdRmbrsmntAgt.write(out);
+				out.writeRaw(C_ThrdRmbrsmntAgt);
+			}
+			if (thrdRmbrsmntAgtAcct != null) {
+				out.writeRaw(O_ThrdRmbrsmntAgtAcct);
+				thrdRmbrsmntAgtAcct.write(out);
+				out.writeRaw(C_ThrdRmbrsmntAgtAcct);
+			}
+		}
+	}
+
+	public static class SettlementTimeRequest2 {
+		public String CLSTm;
+		public String tillTm;
+		public String frTm;
+		public String rjctTm;
+
+		void write(XmlByteWriter out) {
+			if (CLSTm != null) {
+				out.writeRaw(O_CLSTm);
+				out.writeText(CLSTm);
+				out.writeRaw(C_CLSTm);
+			}
+			if (tillTm != null) {
+				out.writeRaw(O_TillTm);
+				out.writeText(tillTm);
+				out.writeRaw(C_TillTm);
+			}
+			if (frTm != null) {
+				out.writeRaw(O_FrTm);
+				out.writeText(frTm);
+				out.writeRaw(C_FrTm);
+			}
+			if (rjctTm != null) {
+				out.writeRaw(O_RjctTm);
+				out.writeText(rjctTm);
+				out.writeRaw(C_RjctTm);
+			}
+		}
+	}
+
+	public static class StructuredRegulatoryReporting3 {
+		public String tp;
+		public String dt;
+		public String ctry;
+		public String cd;
+		public ActiveOrHistoricCurrencyAndAmount amt;
+		public List<String> inf;
+
+		public StructuredRegulatoryReporting3 addInf(String v) {
+			inf = add(inf, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				out.writeText(tp);
+				out.writeRaw(C_Tp);
+			}
+			if (dt != null) {
+				out.writeRaw(O_Dt);
+				out.writeText(dt);
+				out.writeRaw(C_Dt);
+			}
+			if (ctry != null) {
+				out.writeRaw(O_Ctry);
+				out.writeText(ctry);
+				out.writeRaw(C_Ctry);
+			}
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			}
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+			if (inf != null) {
+				for (String v : inf) {
+					out.writeRaw(O_Inf);
+					out.writeText(v);
+					out.writeRaw(C_Inf);
+				}
+			}
+		}
+	}
+
+	public static class StructuredRemittanceInformation16 {
+		public List<ReferredDocumentInformation7> rfrdDocInf;
+		public RemittanceAmount2 rfrdDocAmt;
+		public CreditorReferenceInformation2 cdtrRefInf;
+		public PartyIdentification135 invcr;
+		public PartyIdentification135 invcee;
+		public TaxInformation7 taxRmt;
+		public Garnishment3 grnshmtRmt;
+		public List<String> addtlRmtInf;
+
+		public StructuredRemittanceInformation16 addRfrdDocInf(ReferredDocumentInformation7 v) {
+			rfrdDocInf = add(rfrdDocInf, v);
+			return this;
+		}
+
+		public StructuredRemittanceInformation16 addAddtlRmtInf(String v) {
+			addtlRmtInf = add(addtlRmtInf, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (rfrdDocInf != null) {
+				for (ReferredDocumentInformation7 v : rfrdDocInf) {
+					out.writeRaw(O_RfrdDocInf);
+					v.write(out);
+					out.writeRaw(C_RfrdDocInf);
+				}
+			}
+			if (rfrdDocAmt != null) {
+				out.writeRaw(O_RfrdDocAmt);
+				rfrdDocAmt.write(out);
+				out.writeRaw(C_RfrdDocAmt);
+			}
+			if (cdtrRefInf != null) {
+				out.writeRaw(O_CdtrRefInf);
+				cdtrRefInf.write(out);
+				out.writeRaw(C_CdtrRefInf);
+			}
+			if (invcr != null) {
+				out.writeRaw(O_Invcr);
+				invcr.write(out);
+				out.writeRaw(C_Invcr);
+			}
+			if (invcee != null) {
+				out.writeRaw(O_Invcee);
+				invcee.write(out);
+				out.writeRaw(C_Invcee);
+			}
+			if (taxRmt != null) {
+				out.writeRaw(O_TaxRmt);
+				taxRmt.write(out);
+				out.writeRaw(C_TaxRmt);
+			}
+			if (grnshmtRmt != null) {
+				out.writeRaw(O_GrnshmtRmt);
+				grnshmtRmt.write(out);
+				out.writeRaw(C_GrnshmtRmt);
+			}
+			if (addtlRmtInf != null) {
+				for (String v : addtlRmtInf) {
+					out.writeRaw(O_AddtlRmtInf);
+					out.writeText(v);
+					out.writeRaw(C_AddtlRmtInf);
+				}
+			}
+		}
+	}
+
+	public static class SupplementaryData1 {
+		public String plcAndNm;
+		public SupplementaryDataEnvelope1 envlp; // required
+
+		void write(XmlByteWriter out) {
+			if (plcAndNm != null) {
+				out.writeRaw(O_PlcAndNm);
+				out.writeText(plcAndNm);
+				out.writeRaw(C_PlcAndNm);
+			}
+			if (envlp != null) {
+				out.writeRaw(O_Envlp);
+				envlp.write(out);
+				out.writeRaw(C_Envlp);
+			}
+		}
+	}
+
+	public static class SupplementaryDataEnvelope1 {
+		/** Well-formed XML written as is (xs:any). */
+		public String any;
+
+		void write(XmlByteWriter out) {
+			if (any != null) {
+				out.writeRaw(any.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+	public static class TaxAmount2 {
+		public BigDecimal rate;
+		public ActiveOrHistoricCurrencyAndAmount taxblBaseAmt;
+		public ActiveOrHistoricCurrencyAndAmount ttlAmt;
+		public List<TaxRecordDetails2> dtls;
+
+		public TaxAmount2 addDtls(TaxRecordDetails2 v) {
+			dtls = add(dtls, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (rate != null) {
+				out.writeRaw(O_Rate);
+				out.writeAscii(rate.toPlainString());
+				out.writeRaw(C_Rate);
+			}
+			if (taxblBaseAmt != null) {
+				out.writeRaw(A_TaxblBaseAmt);
+				taxblBaseAmt.write(out);
+				out.writeRaw(C_TaxblBaseAmt);
+			}
+			if (ttlAmt != null) {
+				out.writeRaw(A_TtlAmt);
+				ttlAmt.write(out);
+				out.writeRaw(C_TtlAmt);
+			}
+			if (dtls != null) {
+				for (TaxRecordDetails2 v : dtls) {
+					out.writeRaw(O_Dtls);
+					v.write(out);
+					out.writeRaw(C_Dtls);
+				}
+			}
+		}
+	}
+
+	public static class TaxAmountAndType1 {
+		public TaxAmountType1Choice tp;
+		public ActiveOrHistoricCurrencyAndAmount amt; // required
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				tp.write(out);
+				out.writeRaw(C_Tp);
+			}
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+		}
+	}
+
+	public static class TaxAmountType1Choice {
+		public String cd;
+		public String prtry;
+
+		void write(XmlByteWriter out) {
+			if (cd != null) {
+				out.writeRaw(O_Cd);
+				out.writeText(cd);
+				out.writeRaw(C_Cd);
+			} else if (prtry != null) {
+				out.writeRaw(O_Prtry);
+				out.writeText(prtry);
+				out.writeRaw(C_Prtry);
+			}
+		}
+	}
+
+	public static class TaxAuthorisation1 {
+		public String titl;
+		public String nm;
+
+		void write(XmlByteWriter out) {
+			if (titl != null) {
+				out.writeRaw(O_Titl);
+				out.writeText(titl);
+				out.writeRaw(C_Titl);
+			}
+			if (nm != null) {
+				out.writeRaw(O_Nm);
+				out.writeText(nm);
+				out.writeRaw(C_Nm);
+			}
+		}
+	}
+
+	public static class TaxInformation7 {
+		public TaxParty1 cdtr;
+		public TaxParty2 dbtr;
+		public TaxParty2 ultmtDbtr;
+		public String admstnZone;
+		public String refNb;
+		public String mtd;
+		public ActiveOrHistoricCurrencyAndAmount ttlTaxblBaseAmt;
+		public ActiveOrHistoricCurrencyAndAmount ttlTaxAmt;
+		public String dt;
+		public BigDecimal seqNb;
+		public List<TaxRecord2> rcrd;
+
+		public TaxInformation7 addRcrd(TaxRecord2 v) {
+			rcrd = add(rcrd, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (cdtr != null) {
+				out.writeRaw(O_Cdtr);
+				cdtr.write(out);
+				out.writeRaw(C_Cdtr);
+			}
+			if (dbtr != null) {
+				out.writeRaw(O_Dbtr);
+				dbtr.write(out);
+				out.writeRaw(C_Dbtr);
+			}
+			if (ultmtDbtr != null) {
+				out.writeRaw(O_UltmtDbtr);
+				ultmtDbtr.write(out);
+				out.writeRaw(C_UltmtDbtr);
+			}
+			if (admstnZone != null) {
+				out.writeRaw(O_AdmstnZone);
+				out.writeText(admstnZone);
+				out.writeRaw(C_AdmstnZone);
+			}
+			if (refNb != null) {
+				out.writeRaw(O_RefNb);
+				out.writeText(refNb);
+				out.writeRaw(C_RefNb);
+			}
+			if (mtd != null) {
+				out.writeRaw(O_Mtd);
+				out.writeText(mtd);
+				out.writeRaw(C_Mtd);
+			}
+			if (ttlTaxblBaseAmt != null) {
+				out.writeRaw(A_TtlTaxblBaseAmt);
+				ttlTaxblBaseAmt.write(out);
+				out.writeRaw(C_TtlTaxblBaseAmt);
+			}
+			if (ttlTaxAmt != null) {
+				out.writeRaw(A_TtlTaxAmt);
+				ttlTaxAmt.write(out);
+				out.writeRaw(C_TtlTaxAmt);
+			}
+			if (dt != null) {
+				out.writeRaw(O_Dt);
+				out.writeText(dt);
+				out.writeRaw(C_Dt);
+			}
+			if (seqNb != null) {
+				out.writeRaw(O_SeqNb);
+				out.writeAscii(seqNb.toPlainString());
+				out.writeRaw(C_SeqNb);
+			}
+			if (rcrd != null) {
+				for (TaxRecord2 v : rcrd) {
+					out.writeRaw(O_Rcrd);
+					v.write(out);
+					out.writeRaw(C_Rcrd);
+				}
+			}
+		}
+	}
+
+	public static class TaxInformation8 {
+		public TaxParty1 cdtr;
+		public TaxParty2 dbtr;
+		public String admstnZone;
+		public String refNb;
+		public String mtd;
+		public ActiveOrHistoricCurrencyAndAmount ttlTaxblBaseAmt;
+		public ActiveOrHistoricCurrencyAndAmount ttlTaxAmt;
+		public String dt;
+		public BigDecimal seqNb;
+		public List<TaxRecord2> rcrd;
+
+		public TaxInformation8 addRcrd(TaxRecord2 v) {
+			rcrd = add(rcrd, v);
+			return this;
+		}
+
+		void write(XmlByteWriter out) {
+			if (cdtr != null) {
+				out.writeRaw(O_Cdtr);
+				cdtr.write(out);
+				out.writeRaw(C_Cdtr);
+			}
+			if (dbtr != null) {
+				out.writeRaw(O_Dbtr);
+				dbtr.write(out);
+				out.writeRaw(C_Dbtr);
+			}
+			if (admstnZone != null) {
+				out.writeRaw(O_AdmstnZone);
+				out.writeText(admstnZone);
+				out.writeRaw(C_AdmstnZone);
+			}
+			if (refNb != null) {
+				out.writeRaw(O_RefNb);
+				out.writeText(refNb);
+				out.writeRaw(C_RefNb);
+			}
+			if (mtd != null) {
+				out.writeRaw(O_Mtd);
+				out.writeText(mtd);
+				out.writeRaw(C_Mtd);
+			}
+			if (ttlTaxblBaseAmt != null) {
+				out.writeRaw(A_TtlTaxblBaseAmt);
+				ttlTaxblBaseAmt.write(out);
+				out.writeRaw(C_TtlTaxblBaseAmt);
+			}
+			if (ttlTaxAmt != null) {
+				out.writeRaw(A_TtlTaxAmt);
+				ttlTaxAmt.write(out);
+				out.writeRaw(C_TtlTaxAmt);
+			}
+			if (dt != null) {
+				out.writeRaw(O_Dt);
+				out.writeText(dt);
+				out.writeRaw(C_Dt);
+			}
+			if (seqNb != null) {
+				out.writeRaw(O_SeqNb);
+				out.writeAscii(seqNb.toPlainString());
+				out.writeRaw(C_SeqNb);
+			}
+			if (rcrd != null) {
+				for (TaxRecord2 v : rcrd) {
+					out.writeRaw(O_Rcrd);
+					v.write(out);
+					out.writeRaw(C_Rcrd);
+				}
+			}
+		}
+	}
+
+	public static class TaxParty1 {
+		public String taxId;
+		public String regnId;
+		public String taxTp;
+
+		void write(XmlByteWriter out) {
+			if (taxId != null) {
+				out.writeRaw(O_TaxId);
+				out.writeText(taxId);
+				out.writeRaw(C_TaxId);
+			}
+			if (regnId != null) {
+				out.writeRaw(O_RegnId);
+				out.writeText(regnId);
+				out.writeRaw(C_RegnId);
+			}
+			if (taxTp != null) {
+				out.writeRaw(O_TaxTp);
+				out.writeText(taxTp);
+				out.writeRaw(C_TaxTp);
+			}
+		}
+	}
+
+	public static class TaxParty2 {
+		public String taxId;
+		public String regnId;
+		public String taxTp;
+		public TaxAuthorisation1 authstn;
+
+		void write(XmlByteWriter out) {
+			if (taxId != null) {
+				out.writeRaw(O_TaxId);
+				out.writeText(taxId);
+				out.writeRaw(C_TaxId);
+			}
+			if (regnId != null) {
+				out.writeRaw(O_RegnId);
+				out.writeText(regnId);
+				out.writeRaw(C_RegnId);
+			}
+			if (taxTp != null) {
+				out.writeRaw(O_TaxTp);
+				out.writeText(taxTp);
+				out.writeRaw(C_TaxTp);
+			}
+			if (authstn != null) {
+				out.writeRaw(O_Authstn);
+				authstn.write(out);
+				out.writeRaw(C_Authstn);
+			}
+		}
+	}
+
+	public static class TaxPeriod2 {
+		public String yr;
+		public TaxRecordPeriod1Code tp;
+		public DatePeriod2 frToDt;
+
+		void write(XmlByteWriter out) {
+			if (yr != null) {
+				out.writeRaw(O_Yr);
+				out.writeText(yr);
+				out.writeRaw(C_Yr);
+			}
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				out.writeAscii(tp.name());
+				out.writeRaw(C_Tp);
+			}
+			if (frToDt != null) {
+				out.writeRaw(O_FrToDt);
+				frToDt.write(out);
+				out.writeRaw(C_FrToDt);
+			}
+		}
+	}
+
+	public static class TaxRecord2 {
+		public String tp;
+		public String ctgy;
+		public String ctgyDtls;
+		public String dbtrSts;
+		public String certId;
+		public String frmsCd;
+		public TaxPeriod2 prd;
+		public TaxAmount2 taxAmt;
+		public String addtlInf;
+
+		void write(XmlByteWriter out) {
+			if (tp != null) {
+				out.writeRaw(O_Tp);
+				out.writeText(tp);
+				out.writeRaw(C_Tp);
+			}
+			if (ctgy != null) {
+				out.writeRaw(O_Ctgy);
+				out.writeText(ctgy);
+				out.writeRaw(C_Ctgy);
+			}
+			if (ctgyDtls != null) {
+				out.writeRaw(O_CtgyDtls);
+				out.writeText(ctgyDtls);
+				out.writeRaw(C_CtgyDtls);
+			}
+			if (dbtrSts != null) {
+				out.writeRaw(O_DbtrSts);
+				out.writeText(dbtrSts);
+				out.writeRaw(C_DbtrSts);
+			}
+			if (certId != null) {
+				out.writeRaw(O_CertId);
+				out.writeText(certId);
+				out.writeRaw(C_CertId);
+			}
+			if (frmsCd != null) {
+				out.writeRaw(O_FrmsCd);
+				out.writeText(frmsCd);
+				out.writeRaw(C_FrmsCd);
+			}
+			if (prd != null) {
+				out.writeRaw(O_Prd);
+				prd.write(out);
+				out.writeRaw(C_Prd);
+			}
+			if (taxAmt != null) {
+				out.writeRaw(O_TaxAmt);
+				taxAmt.write(out);
+				out.writeRaw(C_TaxAmt);
+			}
+			if (addtlInf != null) {
+				out.writeRaw(O_AddtlInf);
+				out.writeText(addtlInf);
+				out.writeRaw(C_AddtlInf);
+			}
+		}
+	}
+
+	public static class TaxRecordDetails2 {
+		public TaxPeriod2 prd;
+		public ActiveOrHistoricCurrencyAndAmount amt; // required
+
+		void write(XmlByteWriter out) {
+			if (prd != null) {
+				out.writeRaw(O_Prd);
+				prd.write(out);
+				out.writeRaw(C_Prd);
+			}
+			if (amt != null) {
+				out.writeRaw(A_Amt);
+				amt.write(out);
+				out.writeRaw(C_Amt);
+			}
+		}
+	}
+}
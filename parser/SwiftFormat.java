@@ -0,0 +1,403 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A SWIFT field format such as {@code 16x}, {@code 4*35x}, {@code 3!a15d} or
+ * {@code 4!a2!a2!c[3!c]}, compiled into segments that test characters against
+ * 128-entry class tables and count lengths and lines, so a value is checked
+ * in one pass without a regex engine.
+ *
+ * Notation: {@code n} digits, {@code a} upper case letters, {@code c} upper
+ * case letters and digits, {@code h} upper case hex, {@code d} decimal amount
+ * (digits and one ',' or '.', as MtParser stores amounts with '.'), {@code e}
+ * space, {@code x}, {@code y} and {@code z} the SWIFT X, Y and Z character
+ * sets. {@code 16x} is 1 to 16 characters, {@code 3!a} exactly 3,
+ * {@code 4*35x} up to 4 lines of up to 35. {@code [...]} is optional,
+ * {@code (CrLf)} a line break ("\r\n" or "\n"), anything else a literal. A
+ * line break directly after an optional part belongs to it, as in SWIFT's
+ * {@code [/34x](CrLf)4*35x}: a party without account line starts with the
+ * name.
+ *
+ * Segments are greedy like SWIFT's own field parsing: a variable length
+ * segment takes as many characters as its class and length allow, and an
+ * optional part is skipped when it does not match. Immutable and thread safe.
+ */
+public final class SwiftFormat {
+
+	private static final boolean[] N = charClass("0123456789");
+	private static final boolean[] A = charClass("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+	private static final boolean[] C = charClass("ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789");
+	private static final boolean[] H = charClass("0123456789ABCDEF");
+	private static final boolean[] D = charClass("0123456789,.");
+	private static final boolean[] E = charClass(" ");
+	private static final boolean[] X = charClass(
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789/-?:().,'+ ");
+	private static final boolean[] Y = charClass("ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789.,-()/='+:?!\"%&*<>; ");
+	private static final boolean[] Z = charClass(
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789.,-()/='+:?!\"%&*<>;{@#_ ");
+
+	private static final String CRLF = "(CrLf)";
+
+	private final String notation;
+	private final Node[] nodes;
+
+	private SwiftFormat(String notation, Node[] nodes) {
+		this.notation = notation;
+		this.nodes = nodes;
+	}
+
+	/** Compiles the notation; IllegalArgumentException when it is not valid. */
+	public static SwiftFormat compile(String notation) {
+		if (notation == null || notation.isEmpty()) {
+			throw new IllegalArgumentException("Empty SWIFT format");
+		}
+		int[] pos = { 0 };
+		Node[] nodes = parse(notation, pos, false);
+		return new SwiftFormat(notation, nodes);
+	}
+
+	public String notation() {
+		return notation;
+	}
+
+	public boolean matches(String value) {
+		return mismatch(value) < 0;
+	}
+
+	/** Index of the first character that breaks the format (the length when too short), -1 when it matches. */
+	public int mismatch(String value) {
+		int end = match(nodes, value, 0);
+		if (end < 0) {
+			return ~end;
+		}
+		return end == value.length() ? -1 : end;
+	}
+
+	/** A random value matching the format, without spaces so it survives trimming; for MtGenerator. */
+	String sample(SplittableRandom rnd) {
+		StringBuilder sb = new StringBuilder();
+		for (Node n : nodes) {
+			n.sample(sb, rnd);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return notation;
+	}
+
+	/** Position after the nodes, or ~position of the failure. */
+	private static int match(Node[] nodes, String s, int pos) {
+		for (Node n : nodes) {
+			pos = n.match(s, pos);
+			if (pos < 0) {
+				return pos;
+			}
+		}
+		return pos;
+	}
+
+	/* ======== Notation parser ======== */
+
+	private static Node[] parse(String f, int[] pos, boolean inGroup) {
+		List<Node> out = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		while (pos[0] < f.length()) {
+			char ch = f.charAt(pos[0]);
+			if (ch == ']') {
+				if (!inGroup) {
+					throw new IllegalArgumentException("Unbalanced ']' in SWIFT format " + f);
+				}
+				pos[0]++;
+				flush(literal, out);
+				return out.toArray(new Node[0]);
+			}
+			if (ch == '[') {
+				pos[0]++;
+				flush(literal, out);
+				Node[] group = parse(f, pos, true);
+				if (f.startsWith(CRLF, pos[0])) {
+					pos[0] += CRLF.length();
+					group = Arrays.copyOf(group, group.length + 1);
+					group[group.length - 1] = new LineBreak();
+				}
+				out.add(new Optional(group));
+			} else if (f.startsWith(CRLF, pos[0])) {
+				pos[0] += CRLF.length();
+				flush(literal, out);
+				out.add(new LineBreak());
+			} else if (ch >= '0' && ch <= '9') {
+				flush(literal, out);
+				out.add(segment(f, pos));
+			} else {
+				literal.append(ch);
+				pos[0]++;
+			}
+		}
+		if (inGroup) {
+			throw new IllegalArgumentException("Unbalanced '[' in SWIFT format " + f);
+		}
+		flush(literal, out);
+		return out.toArray(new Node[0]);
+	}
+
+	/** {@code [lines*]length[!]class} */
+	private static Node segment(String f, int[] pos) {
+		int length = number(f, pos);
+		int lines = 1;
+		if (pos[0] < f.length() && f.charAt(pos[0]) == '*') {
+			pos[0]++;
+			lines = length;
+			length = number(f, pos);
+		}
+		boolean fixed = pos[0] < f.length() && f.charAt(pos[0]) == '!';
+		if (fixed) {
+			pos[0]++;
+		}
+		if (pos[0] >= f.length()) {
+			throw new IllegalArgumentException("Missing character set in SWIFT format " + f);
+		}
+		char set = f.charAt(pos[0]++);
+		boolean[] table;
+		switch (set) {
+		case 'n':
+			table = N;
+			break;
+		case 'a':
+			table = A;
+			break;
+		case 'c':
+			table = C;
+			break;
+		case 'h':
+			table = H;
+			break;
+		case 'd':
+			table = D;
+			break;
+		case 'e':
+			table = E;
+			break;
+		case 'x':
+			table = X;
+			break;
+		case 'y':
+			table = Y;
+			break;
+		case 'z':
+			table = Z;
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown character set '" + set + "' in SWIFT format " + f);
+		}
+		if (length < 1 || lines < 1) {
+			throw new IllegalArgumentException("Zero length in SWIFT format " + f);
+		}
+		return new Segment(table, fixed ? length : 1, length, lines, set == 'd');
+	}
+
+	private static int number(String f, int[] pos) {
+		int n = 0;
+		int start = pos[0];
+		while (pos[0] < f.length() && f.charAt(pos[0]) >= '0' && f.charAt(pos[0]) <= '9') {
+			n = n * 10 + (f.charAt(pos[0]++) - '0');
+		}
+		if (pos[0] == start) {
+			throw new IllegalArgumentException("Expected a length at " + start + " in SWIFT format " + f);
+		}
+		return n;
+	}
+
+	private static void flush(StringBuilder literal, List<Node> out) {
+		if (literal.length() > 0) {
+			out.add(new Literal(literal.toString()));
+			literal.setLength(0);
+		}
+	}
+
+	private static boolean[] charClass(String chars) {
+		boolean[] t = new boolean[128];
+		for (int i = 0; i < chars.length(); i++) {
+			t[chars.charAt(i)] = true;
+		}
+		return t;
+	}
+
+	/* ======== Compiled nodes ======== */
+
+	private abstract static class Node {
+		/** Position after the match, or ~position of the failure. */
+		abstract int match(String s, int pos);
+
+		abstract void sample(StringBuilder sb, SplittableRandom rnd);
+	}
+
+	/** Up to {@code lines} lines of min..max characters from one class. */
+	private static final class Segment extends Node {
+		private final boolean[] table;
+		private final int min;
+		private final int max;
+		private final int lines;
+		private final boolean decimal;
+		private final char[] alphabet; // for sample()
+
+		Segment(boolean[] table, int min, int max, int lines, boolean decimal) {
+			this.table = table;
+			this.alphabet = alphabet(table);
+			this.min = min;
+			this.max = max;
+			this.lines = lines;
+			this.decimal = decimal;
+		}
+
+		@Override
+		int match(String s, int pos) {
+			int end = s.length();
+			for (int line = 1;; line++) {
+				int start = pos;
+				int limit = Math.min(end, pos + max);
+				while (pos < limit) {
+					char ch = s.charAt(pos);
+					if (ch >= 128 || !table[ch]) {
+						break;
+					}
+					pos++;
+				}
+				if (pos - start < min) {
+					return ~pos;
+				}
+				if (decimal) {
+					int bad = checkDecimal(s, start, pos);
+					if (bad >= 0) {
+						return ~bad;
+					}
+				}
+				if (line == lines || pos == end) {
+					return pos;
+				}
+				int next = lineBreak(s, pos);
+				if (next < 0 || next == end) {
+					return pos; // the rest belongs to the next node
+				}
+				pos = next;
+			}
+		}
+
+		@Override
+		void sample(StringBuilder sb, SplittableRandom rnd) {
+			int len = min + rnd.nextInt(max - min + 1);
+			if (decimal) {
+				len = Math.max(len, 2);
+				int sep = 1 + rnd.nextInt(Math.min(len - 1, 3)); // decimals after the separator
+				for (int i = 0; i < len; i++) {
+					sb.append(i == len - sep ? ',' : (char) ('0' + rnd.nextInt(10)));
+				}
+				return;
+			}
+			for (int i = 0; i < len; i++) {
+				sb.append(alphabet[rnd.nextInt(alphabet.length)]);
+			}
+		}
+
+		/** Digits with exactly one separator, not leading; index of the offending character or -1. */
+		private static int checkDecimal(String s, int start, int end) {
+			int sep = -1;
+			for (int i = start; i < end; i++) {
+				char ch = s.charAt(i);
+				if (ch == ',' || ch == '.') {
+					if (sep >= 0 || i == start) {
+						return i;
+					}
+					sep = i;
+				}
+			}
+			return sep < 0 ? end : -1;
+		}
+	}
+
+	private static final class Literal extends Node {
+		private final String text;
+
+		Literal(String text) {
+			this.text = text;
+		}
+
+		@Override
+		int match(String s, int pos) {
+			for (int i = 0; i < text.length(); i++, pos++) {
+				if (pos >= s.length() || s.charAt(pos) != text.charAt(i)) {
+					return ~pos;
+				}
+			}
+			return pos;
+		}
+
+		@Override
+		void sample(StringBuilder sb, SplittableRandom rnd) {
+			sb.append(text);
+		}
+	}
+
+	private static final class LineBreak extends Node {
+		@Override
+		int match(String s, int pos) {
+			int next = lineBreak(s, pos);
+			return next < 0 ? ~pos : next;
+		}
+
+		@Override
+		void sample(StringBuilder sb, SplittableRandom rnd) {
+			sb.append("\r\n");
+		}
+	}
+
+	private static final class Optional extends Node {
+		private final Node[] nodes;
+
+		Optional(Node[] nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		int match(String s, int pos) {
+			int end = SwiftFormat.match(nodes, s, pos);
+			return end < 0 ? pos : end;
+		}
+
+		@Override
+		void sample(StringBuilder sb, SplittableRandom rnd) {
+			if (rnd.nextBoolean()) {
+				for (Node n : nodes) {
+					n.sample(sb, rnd);
+				}
+			}
+		}
+	}
+
+	/** Characters of the class other than space, in code order. */
+	private static char[] alphabet(boolean[] table) {
+		StringBuilder sb = new StringBuilder();
+		for (char c = '!'; c < 128; c++) {
+			if (table[c]) {
+				sb.append(c);
+			}
+		}
+		return sb.length() == 0 ? new char[] { ' ' } : sb.toString().toCharArray();
+	}
+
+	/** Position after a "\r\n" or "\n" at pos, -1 when there is none. */
+	private static int lineBreak(String s, int pos) {
+		if (pos < s.length() && s.charAt(pos) == '\n') {
+			return pos + 1;
+		}
+		if (pos + 1 < s.length() && s.charAt(pos) == '\r' && s.charAt(pos + 1) == '\n') {
+			return pos + 2;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,284 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of translation results keyed by the raw FIN message and the
+ * version of the configuration that translated it, so repaired and resubmitted
+ * byte-identical messages skip parsing, validation and mapping.
+ *
+ * Eviction is size and TTL based. Admission follows W-TinyLFU: new entries go
+ * into a small LRU window; an entry falling out of the window only replaces
+ * the LRU victim of the main area when a count-min sketch of recent lookups
+ * says it is asked for more often. One-off messages therefore cannot flush
+ * the frequently repeated ones.
+ *
+ * Keys are a 64-bit hash of FIN and version; the stored FIN is compared on a
+ * hit, so a hash collision is a miss, never a wrong translation. Lookups and
+ * updates synchronise on the cache, the value producer runs outside the lock.
+ */
+public class TranslationCache<V> {
+
+	private static final double WINDOW_SHARE = 0.01;
+
+	private final int windowCapacity;
+	private final int mainCapacity;
+	private final long ttlNanos;
+	private final FrequencySketch sketch;
+
+	// access ordered, eldest = least recently used
+	private final LinkedHashMap<Long, Entry<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+	private final LinkedHashMap<Long, Entry<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * @param maxEntries upper bound on cached translations
+	 * @param ttl        how long a translation stays valid, null = no expiry
+	 */
+	public TranslationCache(int maxEntries, Duration ttl) {
+		if (maxEntries < 2) {
+			throw new IllegalArgumentException("maxEntries must be >= 2");
+		}
+		this.windowCapacity = Math.max(1, (int) (maxEntries * WINDOW_SHARE));
+		this.mainCapacity = maxEntries - windowCapacity;
+		this.ttlNanos = ttl == null ? Long.MAX_VALUE : ttl.toNanos();
+		this.sketch = new FrequencySketch(maxEntries);
+	}
+
+	/* ======== Lookup ======== */
+
+	/** Cached translation of {@code fin} under {@code version}, null on a miss. */
+	public V get(String fin, String version) {
+		long key = key(fin, version);
+		synchronized (this) {
+			sketch.increment(key);
+			Entry<V> e = window.get(key);
+			LinkedHashMap<Long, Entry<V>> area = window;
+			if (e == null) {
+				e = main.get(key);
+				area = main;
+			}
+			if (e != null && System.nanoTime() - e.created > ttlNanos) {
+				area.remove(key);
+				expirations.increment();
+				e = null;
+			}
+			if (e == null || !e.fin.equals(fin) || !e.version.equals(version)) {
+				misses.increment();
+				return null;
+			}
+			hits.increment();
+			return e.value;
+		}
+	}
+
+	/**
+	 * Cached translation, or the one produced by {@code translate} which is then
+	 * cached. A producer returning null or throwing caches nothing. Concurrent
+	 * misses on the same FIN may both translate; the later result wins.
+	 */
+	public V get(String fin, String version, Function<String, V> translate) {
+		V v = get(fin, version);
+		if (v == null) {
+			v = translate.apply(fin);
+			if (v != null) {
+				put(fin, version, v);
+			}
+		}
+		return v;
+	}
+
+	public void put(String fin, String version, V value) {
+		long key = key(fin, version);
+		Entry<V> e = new Entry<>(fin, version, value, System.nanoTime());
+		synchronized (this) {
+			if (main.containsKey(key)) {
+				main.put(key, e);
+				return;
+			}
+			window.put(key, e);
+			if (window.size() > windowCapacity) {
+				Iterator<Map.Entry<Long, Entry<V>>> it = window.entrySet().iterator();
+				Map.Entry<Long, Entry<V>> candidate = it.next();
+				it.remove();
+				admit(candidate.getKey(), candidate.getValue());
+			}
+		}
+	}
+
+	/** Moves a window evictee into main if main has room or it beats main's LRU victim. */
+	private void admit(long key, Entry<V> candidate) {
+		if (main.size() < mainCapacity) {
+			main.put(key, candidate);
+			return;
+		}
+		Iterator<Map.Entry<Long, Entry<V>>> it = main.entrySet().iterator();
+		Map.Entry<Long, Entry<V>> victim = it.next();
+		if (System.nanoTime() - victim.getValue().created > ttlNanos) {
+			it.remove();
+			expirations.increment();
+			main.put(key, candidate);
+			return;
+		}
+		if (sketch.frequency(key) > sketch.frequency(victim.getKey())) {
+			it.remove();
+			main.put(key, candidate);
+		} else {
+			rejections.increment();
+		}
+		evictions.increment();
+	}
+
+	public synchronized void invalidateAll() {
+		window.clear();
+		main.clear();
+	}
+
+	/* ======== Metrics ======== */
+
+	public synchronized int size() {
+		return window.size() + main.size();
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	/** Share of lookups served from the cache, 0 before the first lookup. */
+	public double hitRate() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return total == 0 ? 0 : (double) h / total;
+	}
+
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	public long expirations() {
+		return expirations.sum();
+	}
+
+	/** New entries that lost the admission contest against a more popular one. */
+	public long rejections() {
+		return rejections.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TranslationCache[size=%d, hits=%d, misses=%d, hitRate=%.3f, evictions=%d, "
+				+ "expirations=%d, rejections=%d]", size(), hits(), misses(), hitRate(), evictions(), expirations(),
+				rejections());
+	}
+
+	/* ======== Keying ======== */
+
+	/** FNV-1a over the UTF-16 chars of the version and FIN, finished with a murmur mix. */
+	static long key(String fin, String version) {
+		long h = 0xcbf29ce484222325L;
+		h = hash(h, version);
+		h = (h ^ 0x1F) * 0x100000001b3L; // separator, so (ab, c) != (a, bc)
+		h = hash(h, fin);
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		return h ^ (h >>> 33);
+	}
+
+	private static long hash(long h, String s) {
+		for (int i = 0; i < s.length(); i++) {
+			h = (h ^ s.charAt(i)) * 0x100000001b3L;
+		}
+		return h;
+	}
+
+	private static final class Entry<V> {
+		final String fin;
+		final String version;
+		final V value;
+		final long created;
+
+		Entry(String fin, String version, V value, long created) {
+			this.fin = fin;
+			this.version = version;
+			this.value = value;
+			this.created = created;
+		}
+	}
+
+	/**
+	 * Count-min sketch with four rows of 4-bit counters packed into longs.
+	 * After 10 x capacity increments all counters are halved, so the
+	 * frequencies follow recent traffic.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+				0xcbf29ce484222325L };
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int capacity) {
+			int size = Integer.highestOneBit(Math.max(8, capacity - 1)) << 1;
+			this.table = new long[size];
+			this.mask = size - 1;
+			this.sampleSize = 10 * capacity;
+		}
+
+		int frequency(long key) {
+			int min = 15;
+			for (int row = 0; row < 4; row++) {
+				int h = index(key, row);
+				int shift = counterShift(key, row);
+				min = Math.min(min, (int) ((table[h] >>> shift) & 0xF));
+			}
+			return min;
+		}
+
+		void increment(long key) {
+			boolean added = false;
+			for (int row = 0; row < 4; row++) {
+				int h = index(key, row);
+				int shift = counterShift(key, row);
+				if (((table[h] >>> shift) & 0xF) < 15) {
+					table[h] += 1L << shift;
+					added = true;
+				}
+			}
+			if (added && ++additions >= sampleSize) {
+				for (int i = 0; i < table.length; i++) {
+					table[i] = (table[i] >>> 1) & RESET_MASK;
+				}
+				additions /= 2;
+			}
+		}
+
+		private int index(long key, int row) {
+			long h = (key ^ SEEDS[row]) * SEEDS[(row + 1) & 3];
+			return (int) (h >>> 40) & mask;
+		}
+
+		/** One of the 16 nibbles of the slot, picked by other bits of the key. */
+		private static int counterShift(long key, int row) {
+			return (int) ((key >>> (row << 2)) & 0xF) << 2;
+		}
+	}
+}
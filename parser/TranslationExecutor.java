@@ -0,0 +1,270 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Runs FIN -> MX translations (typically
+ * {@code MtToPacs008Mapper.CachingTranslator::translate}) concurrently and
+ * hands back CompletableFutures of the output bytes.
+ *
+ * On Java 21+ every translation runs on its own virtual thread and a
+ * semaphore caps how many run at once; on older runtimes a fixed pool of
+ * platform threads does the same job. Either way at most {@code concurrency}
+ * translations run and at most {@code queueCapacity} more wait: {@link #submit}
+ * blocks the producer once that is reached (backpressure), {@link #trySubmit}
+ * fails fast instead.
+ *
+ * Queue wait and translation time are recorded in log2 histograms (see
+ * {@link #report()}).
+ */
+public class TranslationExecutor implements AutoCloseable {
+
+	private static final int BUCKETS = 40;
+
+	private final Function<String, byte[]> translator;
+	private final ExecutorService executor;
+	private final boolean virtual;
+	private final Semaphore capacity; // running + waiting
+	private final Semaphore running; // only used with virtual threads
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder[] waitHistogram = histogram();
+	private final LongAdder[] serviceHistogram = histogram();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder serviceNanos = new LongAdder();
+
+	/** One translation per core, queue of 16 per core. */
+	public TranslationExecutor(Function<String, byte[]> translator) {
+		this(translator, Runtime.getRuntime().availableProcessors(), 16 * Runtime.getRuntime().availableProcessors());
+	}
+
+	public TranslationExecutor(Function<String, byte[]> translator, int concurrency, int queueCapacity) {
+		if (concurrency < 1 || queueCapacity < 0) {
+			throw new IllegalArgumentException("concurrency must be >= 1 and queueCapacity >= 0");
+		}
+		this.translator = translator;
+		this.capacity = new Semaphore(concurrency + queueCapacity);
+		ExecutorService vt = virtualThreadExecutor();
+		this.virtual = vt != null;
+		if (virtual) {
+			this.executor = vt;
+			this.running = new Semaphore(concurrency);
+		} else {
+			AtomicInteger n = new AtomicInteger();
+			ThreadFactory tf = r -> {
+				Thread t = new Thread(r, "mx-translate-" + n.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			};
+			// unbounded work queue, the capacity semaphore keeps it at queueCapacity
+			this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(), tf);
+			this.running = null;
+		}
+	}
+
+	/** Executors.newVirtualThreadPerTaskExecutor() when the runtime has it (Java 21+), else null. */
+	private static ExecutorService virtualThreadExecutor() {
+		try {
+			Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) m.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/* ======== Submission ======== */
+
+	/** Queues the message, blocking while the executor is full. */
+	public CompletableFuture<byte[]> submit(String fin) throws InterruptedException {
+		capacity.acquire();
+		return dispatch(fin);
+	}
+
+	/** Queues the message, or returns a future failed with RejectedExecutionException when full. */
+	public CompletableFuture<byte[]> trySubmit(String fin) {
+		if (!capacity.tryAcquire()) {
+			rejected.increment();
+			CompletableFuture<byte[]> f = new CompletableFuture<>();
+			f.completeExceptionally(new RejectedExecutionException("Translation queue full"));
+			return f;
+		}
+		return dispatch(fin);
+	}
+
+	private CompletableFuture<byte[]> dispatch(String fin) {
+		CompletableFuture<byte[]> f = new CompletableFuture<>();
+		long enqueued = System.nanoTime();
+		queued.incrementAndGet();
+		try {
+			executor.execute(() -> run(fin, enqueued, f));
+		} catch (RejectedExecutionException e) {
+			queued.decrementAndGet();
+			capacity.release();
+			rejected.increment();
+			f.completeExceptionally(e);
+		}
+		return f;
+	}
+
+	private void run(String fin, long enqueued, CompletableFuture<byte[]> f) {
+		boolean permit = false;
+		try {
+			if (running != null) {
+				running.acquire();
+				permit = true;
+			}
+			long start = System.nanoTime();
+			queued.decrementAndGet();
+			active.incrementAndGet();
+			record(waitHistogram, waitNanos, start - enqueued);
+			try {
+				byte[] out = translator.apply(fin);
+				completed.increment();
+				f.complete(out);
+			} catch (Throwable t) {
+				failed.increment();
+				f.completeExceptionally(t);
+			} finally {
+				active.decrementAndGet();
+				record(serviceHistogram, serviceNanos, System.nanoTime() - start);
+			}
+		} catch (InterruptedException e) {
+			queued.decrementAndGet();
+			Thread.currentThread().interrupt();
+			f.completeExceptionally(e);
+		} finally {
+			if (permit) {
+				running.release();
+			}
+			capacity.release();
+		}
+	}
+
+	/* ======== Lifecycle ======== */
+
+	/** Stops accepting work; queued translations still run. */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Waits until the queued and running translations have finished after
+	 * {@link #shutdown}; false when the timeout elapsed first.
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * Stops accepting work and waits for queued translations to finish. When
+	 * interrupted it stops waiting, restores the interrupt flag and returns;
+	 * the remaining translations still complete their futures.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// keep waiting, the futures must complete
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/* ======== Metrics ======== */
+
+	public boolean usesVirtualThreads() {
+		return virtual;
+	}
+
+	/** Submitted translations that have not started yet. */
+	public int queueDepth() {
+		return queued.get();
+	}
+
+	public int activeCount() {
+		return active.get();
+	}
+
+	public long completed() {
+		return completed.sum();
+	}
+
+	public long failed() {
+		return failed.sum();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	/** Upper bound of the log2 bucket holding the given quantile of the queue wait. */
+	public long waitPercentileNanos(double p) {
+		return percentile(waitHistogram, p);
+	}
+
+	public long servicePercentileNanos(double p) {
+		return percentile(serviceHistogram, p);
+	}
+
+	public String report() {
+		long done = completed.sum() + failed.sum();
+		return String.format("TranslationExecutor[%s, queued=%d, active=%d, completed=%d, failed=%d, rejected=%d, "
+				+ "wait avg/p99=%d/%d us, translate avg/p99=%d/%d us]", virtual ? "virtual" : "platform",
+				queueDepth(), activeCount(), completed(), failed(), rejected(),
+				done == 0 ? 0 : waitNanos.sum() / done / 1000, waitPercentileNanos(0.99) / 1000,
+				done == 0 ? 0 : serviceNanos.sum() / done / 1000, servicePercentileNanos(0.99) / 1000);
+	}
+
+	private static LongAdder[] histogram() {
+		LongAdder[] h = new LongAdder[BUCKETS];
+		for (int b = 0; b < BUCKETS; b++) {
+			h[b] = new LongAdder();
+		}
+		return h;
+	}
+
+	private static void record(LongAdder[] histogram, LongAdder total, long nanos) {
+		total.add(nanos);
+		histogram[nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+	}
+
+	private static long percentile(LongAdder[] histogram, double p) {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			counts[b] = histogram[b].sum();
+			total += counts[b];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(total * p);
+		long seen = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			seen += counts[b];
+			if (seen >= target) {
+				return 1L << b;
+			}
+		}
+		return 1L << (BUCKETS - 1);
+	}
+}
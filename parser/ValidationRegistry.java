@@ -0,0 +1,324 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compiled MtValidators by message type, loaded once from their
+ * ValidationConfig files and replaced when a file changes.
+ *
+ * Each load produces an immutable {@link Snapshot} with a version that grows
+ * by one per successful reload; it is swapped in atomically, so a message
+ * validated against {@link #current} sees one rule set from start to end while
+ * new messages pick up the new one. A reload that fails to read, parse or
+ * compile keeps the previous snapshot and is counted in
+ * {@link #failedReloads()}; rewriting a file with identical bytes is not a new
+ * version.
+ *
+ * {@link #watch()} starts a daemon thread that reloads on file system change
+ * events; without it call {@link #reload} yourself.
+ */
+public class ValidationRegistry implements AutoCloseable {
+
+	private final ObjectMapper om = new ObjectMapper();
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong reloads = new AtomicLong();
+	private final AtomicLong failedReloads = new AtomicLong();
+
+	private WatchService watcher;
+	private Thread watchThread;
+	private final Set<Path> watchedDirs = new HashSet<>();
+
+	public ValidationRegistry() {
+		om.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+	}
+
+	/* ======== Registration and lookup ======== */
+
+	/** Loads the file under the messageType it declares. */
+	public Snapshot register(Path file) throws IOException {
+		byte[] bytes = Files.readAllBytes(file);
+		ValidationConfig cfg = om.readValue(bytes, ValidationConfig.class);
+		if (cfg.messageType == null || cfg.messageType.isEmpty()) {
+			throw new IllegalArgumentException("No messageType in " + file);
+		}
+		return register(cfg.messageType, file, bytes, cfg);
+	}
+
+	/**
+	 * Loads and compiles the file. Registering a type again replaces it with the
+	 * next version.
+	 */
+	public Snapshot register(String messageType, Path file) throws IOException {
+		byte[] bytes = Files.readAllBytes(file);
+		return register(messageType, file, bytes, om.readValue(bytes, ValidationConfig.class));
+	}
+
+	private Snapshot register(String messageType, Path file, byte[] bytes, ValidationConfig cfg) throws IOException {
+		Path abs = file.toAbsolutePath().normalize();
+		Entry old = entries.get(messageType);
+		long version = old == null ? 1 : old.current.get().version + 1;
+		Snapshot s = new Snapshot(messageType, version, abs, new MtValidator(cfg));
+		entries.put(messageType, new Entry(abs, bytes, s));
+		synchronized (this) {
+			if (watcher != null) {
+				watchDir(abs.getParent());
+			}
+		}
+		return s;
+	}
+
+	/** The validator currently in force for the type. */
+	public Snapshot current(String messageType) {
+		Entry e = entries.get(messageType);
+		if (e == null) {
+			throw new IllegalArgumentException("No validation config registered for " + messageType);
+		}
+		return e.current.get();
+	}
+
+	/** Validates against the current snapshot; the result carries its version. */
+	public Validated validate(String messageType, Mt103ConfigDrivenParser.MtMessage mt, MtValidator.Mode mode) {
+		return current(messageType).validate(mt, mode);
+	}
+
+	public Set<String> messageTypes() {
+		return entries.keySet();
+	}
+
+	/* ======== Reloading ======== */
+
+	/**
+	 * Re-reads the type's file and swaps in a new snapshot if it changed.
+	 *
+	 * @return true when a new version is now current; false when the file is
+	 *         unchanged or could not be loaded (the old version stays)
+	 */
+	public boolean reload(String messageType) {
+		Entry e = entries.get(messageType);
+		if (e == null) {
+			throw new IllegalArgumentException("No validation config registered for " + messageType);
+		}
+		synchronized (e) {
+			try {
+				byte[] bytes = Files.readAllBytes(e.file);
+				if (Arrays.equals(bytes, e.bytes)) {
+					return false;
+				}
+				MtValidator v = new MtValidator(om.readValue(bytes, ValidationConfig.class));
+				Snapshot old = e.current.get();
+				e.current.set(new Snapshot(messageType, old.version + 1, e.file, v));
+				e.bytes = bytes;
+				e.lastError = null;
+				reloads.incrementAndGet();
+				return true;
+			} catch (IOException | RuntimeException ex) {
+				e.lastError = ex;
+				failedReloads.incrementAndGet();
+				return false;
+			}
+		}
+	}
+
+	/** Why the last reload of the type failed, null if it succeeded or none was tried. */
+	public Exception lastError(String messageType) {
+		Entry e = entries.get(messageType);
+		return e == null ? null : e.lastError;
+	}
+
+	public long reloads() {
+		return reloads.get();
+	}
+
+	public long failedReloads() {
+		return failedReloads.get();
+	}
+
+	/* ======== Watching ======== */
+
+	/** Starts reloading configs when their files change. Idempotent. */
+	public synchronized void watch() throws IOException {
+		if (watcher != null) {
+			return;
+		}
+		watcher = FileSystems.getDefault().newWatchService();
+		for (Entry e : entries.values()) {
+			watchDir(e.file.getParent());
+		}
+		WatchService ws = watcher;
+		watchThread = new Thread(() -> watchLoop(ws), "validation-config-watch");
+		watchThread.setDaemon(true);
+		watchThread.start();
+	}
+
+	private void watchDir(Path dir) throws IOException {
+		if (watchedDirs.add(dir)) {
+			dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		}
+	}
+
+	private void watchLoop(WatchService ws) {
+		try {
+			while (true) {
+				WatchKey key = ws.take();
+				Path dir = (Path) key.watchable();
+				for (WatchEvent<?> ev : key.pollEvents()) {
+					if (ev.kind() == StandardWatchEventKinds.OVERFLOW) {
+						reloadAll();
+						continue;
+					}
+					Path changed = dir.resolve((Path) ev.context());
+					for (Map.Entry<String, Entry> me : entries.entrySet()) {
+						if (me.getValue().file.equals(changed)) {
+							reload(me.getKey());
+						}
+					}
+				}
+				key.reset();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// closed
+		}
+	}
+
+	private void reloadAll() {
+		for (String type : entries.keySet()) {
+			reload(type);
+		}
+	}
+
+	/** Stops watching; registered validators stay usable. */
+	@Override
+	public synchronized void close() throws IOException {
+		if (watcher != null) {
+			watcher.close();
+			watchThread.interrupt();
+			watcher = null;
+			watchThread = null;
+			watchedDirs.clear();
+		}
+	}
+
+	/* ======== Versions ======== */
+
+	/** One loaded version of a type's rules. Immutable. */
+	public static final class Snapshot {
+		private final String messageType;
+		private final long version;
+		private final Path source;
+		private final Instant loadedAt = Instant.now();
+		private final MtValidator validator;
+		private final String tag;
+
+		Snapshot(String messageType, long version, Path source, MtValidator validator) {
+			this.messageType = messageType;
+			this.version = version;
+			this.source = source;
+			this.validator = validator;
+			this.tag = messageType + "#" + version;
+		}
+
+		public String messageType() {
+			return messageType;
+		}
+
+		/** 1 for the first load, +1 per reload that changed the rules. */
+		public long version() {
+			return version;
+		}
+
+		/** "MT103#3", usable as a cache version. */
+		public String tag() {
+			return tag;
+		}
+
+		public Path source() {
+			return source;
+		}
+
+		public Instant loadedAt() {
+			return loadedAt;
+		}
+
+		public MtValidator validator() {
+			return validator;
+		}
+
+		public Validated validate(Mt103ConfigDrivenParser.MtMessage mt, MtValidator.Mode mode) {
+			return new Validated(this, validator.validate(mt, mode));
+		}
+
+		@Override
+		public String toString() {
+			return tag + " (" + source + ", loaded " + loadedAt + ")";
+		}
+	}
+
+	/** A validation result with the config version that produced it. */
+	public static final class Validated {
+		private final Snapshot config;
+		private final MtValidator.Result result;
+
+		Validated(Snapshot config, MtValidator.Result result) {
+			this.config = config;
+			this.result = result;
+		}
+
+		public Snapshot config() {
+			return config;
+		}
+
+		public long version() {
+			return config.version;
+		}
+
+		public MtValidator.Result result() {
+			return result;
+		}
+
+		public boolean isValid() {
+			return result.isValid();
+		}
+
+		public List<String> messages() {
+			return result.messages();
+		}
+
+		@Override
+		public String toString() {
+			return config.tag + ": " + result;
+		}
+	}
+
+	private static final class Entry {
+		final Path file;
+		final AtomicReference<Snapshot> current;
+		byte[] bytes; // guarded by this
+		volatile Exception lastError;
+
+		Entry(Path file, byte[] bytes, Snapshot first) {
+			this.file = file;
+			this.bytes = bytes;
+			this.current = new AtomicReference<>(first);
+		}
+	}
+}
@@ -6,11 +6,13 @@ public class ValidationRule {
     public String type;
     public String mtKey;
     public String message;
+    public String code;           // optional error code reported by MtValidator.Result, defaults to type
 
     public Integer min;
     public Integer max;
 
     public String pattern;
+    public String format;         // for swiftFormat: SWIFT notation, e.g. "16x", "4*35x", "3!a15d"
     public List<String> values;
 
     public String whenMtKey;
@@ -19,6 +21,10 @@ public class ValidationRule {
     public List<String> mtKeys;   // for mutuallyExclusive / atMostOneOf
 
     public String operator;       // for compare: ">", "<", ">=", "<=", "=="
-    public String threshold;      // string, parsed as number when needed
+    public String threshold;      // decimal, parsed once when the rule is compiled
+    public String currencyMtKey;  // for compare: currency of the amount, defaults to the .ccy sibling of an .amount key
+
+    public String when;           // for expression: MtExpression precondition, rule applies when true
+    public String condition;      // for expression: MtExpression that must hold
 }
 
@@ -0,0 +1,291 @@
+package com.karan.swifttranslator.custom.parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Small UTF-8 XML writer used by the template based mapper output. Characters
+ * are escaped and encoded straight into a byte buffer, so no intermediate
+ * String is built for the document.
+ *
+ * Without a target the buffer grows and {@link #toByteArray()} returns the
+ * document. With an OutputStream, channel or ByteBuffer target the buffer is a
+ * fixed size scratch area that is drained into the target whenever it fills
+ * up and on {@link #flush()}.
+ *
+ * An optional MessageDigest (e.g. SHA-256 for signing) is fed with the bytes
+ * as they leave the buffer, so the digest of the document is available from
+ * {@link #finishDigest()} without a second pass.
+ */
+public class XmlByteWriter {
+
+	private byte[] buf;
+	private int pos;
+	private long drained;
+	private MessageDigest digest;
+	private int digested; // buffer bytes already fed to the digest (no target)
+
+	private final OutputStream stream;
+	private final WritableByteChannel channel;
+	private final ByteBuffer target;
+
+	public XmlByteWriter() {
+		this(4096);
+	}
+
+	public XmlByteWriter(int initialCapacity) {
+		this(initialCapacity, null, null, null);
+	}
+
+	public XmlByteWriter(OutputStream out, int bufferSize) {
+		this(bufferSize, out, null, null);
+	}
+
+	public XmlByteWriter(WritableByteChannel out, int bufferSize) {
+		this(bufferSize, null, out, null);
+	}
+
+	/** Writes into the caller's (typically pooled) buffer from its current position. */
+	public XmlByteWriter(ByteBuffer out, int bufferSize) {
+		this(bufferSize, null, null, out);
+	}
+
+	private XmlByteWriter(int bufferSize, OutputStream stream, WritableByteChannel channel, ByteBuffer target) {
+		this.buf = new byte[Math.max(64, bufferSize)];
+		this.stream = stream;
+		this.channel = channel;
+		this.target = target;
+	}
+
+	public void reset() {
+		pos = 0;
+		drained = 0;
+		digested = 0;
+		if (digest != null) {
+			digest.reset();
+		}
+	}
+
+	/** Feeds every byte written from now on into {@code md}; null switches it off. */
+	public XmlByteWriter digest(MessageDigest md) {
+		this.digest = md;
+		this.digested = pos;
+		return this;
+	}
+
+	/**
+	 * Flushes and completes the digest over everything written since
+	 * {@link #digest} was set; the digest is reset for the next document.
+	 */
+	public byte[] finishDigest() {
+		if (digest == null) {
+			throw new IllegalStateException("No digest set");
+		}
+		if (hasTarget()) {
+			flush();
+		} else {
+			digest.update(buf, digested, pos - digested);
+			digested = pos;
+		}
+		return digest.digest();
+	}
+
+	/** Bytes currently held in the buffer. */
+	public int size() {
+		return pos;
+	}
+
+	/** Total bytes produced, drained or not. */
+	public long count() {
+		return drained + pos;
+	}
+
+	public byte[] toByteArray() {
+		if (hasTarget()) {
+			throw new IllegalStateException("Writer drains into a target, no in-memory copy");
+		}
+		return Arrays.copyOf(buf, pos);
+	}
+
+	/**
+	 * Drains buffered bytes into the target. I/O failures are reported as
+	 * UncheckedIOException, a full ByteBuffer as BufferOverflowException.
+	 */
+	public void flush() {
+		if (!hasTarget() || pos == 0) {
+			return;
+		}
+		drainDirect(buf, 0, pos);
+		pos = 0;
+	}
+
+	private boolean hasTarget() {
+		return stream != null || channel != null || target != null;
+	}
+
+	/* ======== Raw output ======== */
+
+	public void writeRaw(byte[] bytes) {
+		writeRaw(bytes, 0, bytes.length);
+	}
+
+	public void writeRaw(byte[] bytes, int off, int len) {
+		if (len > buf.length && hasTarget()) {
+			// large pre-rendered run, hand it over without staging
+			flush();
+			drainDirect(bytes, off, len);
+			return;
+		}
+		ensure(len);
+		System.arraycopy(bytes, off, buf, pos, len);
+		pos += len;
+	}
+
+	private void drainDirect(byte[] bytes, int off, int len) {
+		try {
+			if (stream != null) {
+				stream.write(bytes, off, len);
+			} else if (channel != null) {
+				ByteBuffer bb = ByteBuffer.wrap(bytes, off, len);
+				while (bb.hasRemaining()) {
+					channel.write(bb);
+				}
+			} else {
+				target.put(bytes, off, len);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (digest != null) {
+			digest.update(bytes, off, len);
+		}
+		drained += len;
+	}
+
+	/* ======== Escaped output ======== */
+
+	/** Element text content: escapes &amp;, &lt;, &gt; and CR. */
+	public void writeText(String s) {
+		writeText(s, "&#13;");
+	}
+
+	/** Text content as written by XML canonicalization (CR as &amp;#xD;). */
+	public void writeCanonicalText(String s) {
+		writeText(s, "&#xD;");
+	}
+
+	private void writeText(String s, String cr) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '&':
+				writeAscii("&amp;");
+				break;
+			case '<':
+				writeAscii("&lt;");
+				break;
+			case '>':
+				writeAscii("&gt;");
+				break;
+			case '\r':
+				writeAscii(cr);
+				break;
+			default:
+				i = writeChar(s, i, c);
+			}
+		}
+	}
+
+	/** Attribute value (without the quotes): escapes &amp;, &lt;, quote and whitespace controls. */
+	public void writeAttrValue(String s) {
+		writeAttrValue(s, "&#9;", "&#10;", "&#13;");
+	}
+
+	/** Attribute value as written by XML canonicalization (hex character references). */
+	public void writeCanonicalAttrValue(String s) {
+		writeAttrValue(s, "&#x9;", "&#xA;", "&#xD;");
+	}
+
+	private void writeAttrValue(String s, String tab, String lf, String cr) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '&':
+				writeAscii("&amp;");
+				break;
+			case '<':
+				writeAscii("&lt;");
+				break;
+			case '"':
+				writeAscii("&quot;");
+				break;
+			case '\t':
+				writeAscii(tab);
+				break;
+			case '\n':
+				writeAscii(lf);
+				break;
+			case '\r':
+				writeAscii(cr);
+				break;
+			default:
+				i = writeChar(s, i, c);
+			}
+		}
+	}
+
+	/** Names and markup only, callers guarantee the string is ASCII. */
+	public void writeAscii(String s) {
+		int len = s.length();
+		ensure(len);
+		for (int i = 0; i < len; i++) {
+			buf[pos++] = (byte) s.charAt(i);
+		}
+	}
+
+	/* ======== UTF-8 encoding ======== */
+
+	private int writeChar(String s, int i, char c) {
+		if (c < 0x80) {
+			ensure(1);
+			buf[pos++] = (byte) c;
+		} else if (c < 0x800) {
+			ensure(2);
+			buf[pos++] = (byte) (0xC0 | (c >> 6));
+			buf[pos++] = (byte) (0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+				&& Character.isLowSurrogate(s.charAt(i + 1))) {
+			int cp = Character.toCodePoint(c, s.charAt(i + 1));
+			ensure(4);
+			buf[pos++] = (byte) (0xF0 | (cp >> 18));
+			buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+			buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+			buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+			return i + 1;
+		} else if (Character.isSurrogate(c)) {
+			// lone surrogate, same replacement as String.getBytes(UTF_8)
+			ensure(1);
+			buf[pos++] = (byte) '?';
+		} else {
+			ensure(3);
+			buf[pos++] = (byte) (0xE0 | (c >> 12));
+			buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			buf[pos++] = (byte) (0x80 | (c & 0x3F));
+		}
+		return i;
+	}
+
+	private void ensure(int extra) {
+		if (pos + extra > buf.length && hasTarget()) {
+			flush();
+		}
+		if (pos + extra > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + extra));
+		}
+	}
+}